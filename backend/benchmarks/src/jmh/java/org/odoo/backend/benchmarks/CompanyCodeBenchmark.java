@@ -0,0 +1,74 @@
+package org.odoo.backend.benchmarks;
+
+import org.odoo.backend.model.CompanyCodeCounter;
+import org.odoo.backend.repositories.CompanyCodeCounterRepository;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.service.impl.CompanyCodeAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Company code allocation on signup (it replaced generateUniqueCompanyCode): prefix derivation on its
+// own, and the whole allocation with the counter row kept in memory and a no-op transaction manager
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompanyCodeBenchmark {
+
+    @Param({"Odoo India", "Tata Consultancy Services", "Infosys", "Acme & Sons (Pvt) Ltd. International Holdings"})
+    public String companyName;
+
+    private CompanyCodeAllocator allocator;
+
+    @Setup
+    public void setUp() {
+        Map<String, CompanyCodeCounter> counters = new ConcurrentHashMap<>();
+        CompanyCodeCounterRepository counterRepository = Fixtures.stub(CompanyCodeCounterRepository.class, Map.of(
+                "findForUpdate", args -> Optional.ofNullable(counters.get((String) args[0])),
+                "saveAndFlush", args -> {
+                    CompanyCodeCounter counter = (CompanyCodeCounter) args[0];
+                    counters.put(counter.getPrefix(), counter);
+                    return counter;
+                }));
+        CompanyRepository companyRepository = Fixtures.stub(CompanyRepository.class,
+                Map.of("findCompanyCodesStartingWith", args -> List.of()));
+        allocator = new CompanyCodeAllocator(counterRepository, companyRepository, new NoOpTransactionManager());
+    }
+
+    @Benchmark
+    public String derivePrefix() {
+        return CompanyCodeAllocator.derivePrefix(companyName);
+    }
+
+    @Benchmark
+    public String allocate() {
+        return allocator.allocate(companyName);
+    }
+
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.odoo.backend.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.security.jwt.JwtKeyRing;
+import org.odoo.backend.security.jwt.JwtService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// The production classes wired by hand, without a Spring context or a database
+final class Fixtures {
+
+    static final UUID USER_ID = UUID.fromString("0190f3a2-7c1e-7b3a-9d4e-2f6a8b1c3d5e");
+    static final UUID COMPANY_ID = UUID.fromString("0190f3a2-7c1e-7b3a-9d4e-2f6a8b1c0001");
+    static final String EMAIL = "bench.user@example.com";
+
+    private Fixtures() {
+    }
+
+    static JwtKeyRing keyRing() {
+        JwtKeyRing keyRing = new JwtKeyRing();
+        byte[] secret = new byte[32];
+        for (int i = 0; i < secret.length; i++) {
+            secret[i] = (byte) (i * 31 + 7);
+        }
+        ReflectionTestUtils.setField(keyRing, "inlineKeys", "bench:" + Base64.getEncoder().encodeToString(secret));
+        ReflectionTestUtils.setField(keyRing, "keyDir", "");
+        ReflectionTestUtils.setField(keyRing, "signingKid", "");
+        ReflectionTestUtils.invokeMethod(keyRing, "init");
+        return keyRing;
+    }
+
+    // tokenCacheSize 0 makes every parse verify the signature again
+    static JwtService jwtService(long tokenCacheSize) {
+        return new JwtService(keyRing(), new SimpleMeterRegistry(), tokenCacheSize);
+    }
+
+    static User user() {
+        return User.builder()
+                .userId(USER_ID)
+                .company(Company.builder().companyId(COMPANY_ID).companyCode("BENCH").companyName("Bench").active(true).build())
+                .employeeId("BENCH20260001")
+                .email(EMAIL)
+                .passwordHash("not-a-login")
+                .role(UserRole.ROLE_EMPLOYEE)
+                .active(true)
+                .build();
+    }
+
+    // A repository interface whose named methods are answered by the given functions; anything else throws
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return answer.apply(args);
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package org.odoo.backend.benchmarks;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.security.filter.JwtAuthenticationFilter;
+import org.odoo.backend.security.jwt.JwtService;
+import org.odoo.backend.security.principal.PrincipalCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// One authenticated request through the JWT filter, the user repository answered from memory
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    // warm: token and principal both cached; cold: signature check and principal load on every request
+    @Param({"warm", "cold"})
+    public String caches;
+
+    private JwtAuthenticationFilter filter;
+    private PrincipalCache principalCache;
+    private String authorization;
+    private boolean warm;
+
+    @Setup
+    public void setUp() {
+        warm = caches.equals("warm");
+        JwtService jwtService = Fixtures.jwtService(warm ? 20_000 : 0);
+        UserRepository userRepository = Fixtures.stub(UserRepository.class,
+                Map.of("findById", args -> Optional.of(Fixtures.user())));
+        principalCache = new PrincipalCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(jwtService, userRepository, principalCache);
+        authorization = "Bearer " + jwtService.generateToken(Fixtures.USER_ID, Fixtures.COMPANY_ID, UserRole.ROLE_EMPLOYEE, Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws ServletException, IOException {
+        if (!warm) {
+            principalCache.invalidate(Fixtures.USER_ID);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/me");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return response;
+    }
+}
@@ -0,0 +1,49 @@
+package org.odoo.backend.benchmarks;
+
+import io.jsonwebtoken.Claims;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.security.jwt.JwtService;
+import org.odoo.backend.security.jwt.TokenClaims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue on login and token verification on every authenticated request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService cachingService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingService = Fixtures.jwtService(20_000);
+        uncachedService = Fixtures.jwtService(0);
+        token = cachingService.generateToken(Fixtures.USER_ID, Fixtures.COMPANY_ID, UserRole.ROLE_EMPLOYEE, Fixtures.EMAIL);
+        cachingService.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingService.generateToken(Fixtures.USER_ID, Fixtures.COMPANY_ID, UserRole.ROLE_EMPLOYEE, Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public Claims extractClaims() {
+        return cachingService.extractClaims(token);
+    }
+
+    // what the filter calls: a digest lookup once the token has been seen
+    @Benchmark
+    public TokenClaims parseTokenCached() {
+        return cachingService.parseToken(token);
+    }
+
+    @Benchmark
+    public TokenClaims parseTokenUncached() {
+        return uncachedService.parseToken(token);
+    }
+}
@@ -0,0 +1,34 @@
+package org.odoo.backend.benchmarks;
+
+import org.odoo.backend.service.impl.OtpServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// OTP code generation on signup, resend and password reset
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OtpBenchmark {
+
+    private OtpServiceImpl otpService;
+
+    @Setup
+    public void setUp() {
+        // generateOtp touches neither the outbox nor the store
+        otpService = new OtpServiceImpl(null, null);
+        ReflectionTestUtils.setField(otpService, "otpLength", 6);
+    }
+
+    @Benchmark
+    public String generateOtp() {
+        return otpService.generateOtp();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateOtpContended() {
+        return otpService.generateOtp();
+    }
+}
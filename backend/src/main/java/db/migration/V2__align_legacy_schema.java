@@ -0,0 +1,88 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/*
+ * V1 is the schema hibernate.ddl-auto=update built from the entities before the move to Flyway, and
+ * databases created that way are baselined at version 1, so both start here. This changes what
+ * ddl-auto never changes once a table exists: UUID keys still stored as text, or in a column sized for
+ * text, become BINARY(16), and employee_sequence swaps the year-only unique key that blocked a second
+ * company's signup in the same year for a per-company one. Every step looks at information_schema
+ * first, so a database that had already been altered by hand is left as it is.
+ */
+@Slf4j
+public class V2__align_legacy_schema extends BaseJavaMigration {
+
+    private static final String COLUMN_TYPE = """
+            SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+            """;
+
+    private static final String UNIQUE_KEYS = """
+            SELECT INDEX_NAME, COLUMN_NAME FROM information_schema.STATISTICS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY'
+            ORDER BY INDEX_NAME, SEQ_IN_INDEX
+            """;
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        // the profile id was a String until the keys became time-ordered UUIDs
+        convertUuidKey(jdbcTemplate, "employee_profiles", "profile_id");
+        // the job details id carried @Column(length = 36) from its text days
+        convertUuidKey(jdbcTemplate, "job_details", "job_detail_id");
+
+        Map<String, List<String>> sequenceKeys = uniqueKeys(jdbcTemplate, "employee_sequence");
+        sequenceKeys.forEach((name, columns) -> {
+            if (columns.equals(List.of("year"))) {
+                jdbcTemplate.execute("ALTER TABLE employee_sequence DROP INDEX `" + name + "`");
+                log.info("Dropped the year-only unique key {} from employee_sequence", name);
+            }
+        });
+        if (!sequenceKeys.containsValue(List.of("company_id", "year"))) {
+            jdbcTemplate.execute("""
+                    ALTER TABLE employee_sequence
+                        ADD CONSTRAINT uk_employee_sequence_company_year UNIQUE (company_id, year)
+                    """);
+        }
+    }
+
+    // Rebuilt through a second column: an in-place MODIFY would keep the text's first 16 characters
+    private static void convertUuidKey(JdbcTemplate jdbcTemplate, String table, String column) {
+        String type = jdbcTemplate.queryForObject(COLUMN_TYPE, String.class, table, column);
+        if ("binary(16)".equalsIgnoreCase(type)) {
+            return;
+        }
+        String value = type.toLowerCase(Locale.ROOT).contains("binary")
+                ? "LEFT(" + column + ", 16)"
+                : "UNHEX(REPLACE(" + column + ", '-', ''))";
+        String converted = column + "_bin";
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + converted + " BINARY(16)");
+        jdbcTemplate.update("UPDATE " + table + " SET " + converted + " = " + value);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PRIMARY KEY, DROP COLUMN " + column);
+        // NOT NULL fails the migration if any old key did not parse, rather than losing the row
+        jdbcTemplate.execute("ALTER TABLE " + table + " CHANGE COLUMN " + converted + " " + column
+                + " BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (" + column + ")");
+        log.info("Converted {}.{} from {} to binary(16)", table, column, type);
+    }
+
+    private static Map<String, List<String>> uniqueKeys(JdbcTemplate jdbcTemplate, String table) {
+        Map<String, List<String>> keys = new LinkedHashMap<>();
+        jdbcTemplate.query(UNIQUE_KEYS, rs -> {
+            keys.computeIfAbsent(rs.getString(1), name -> new ArrayList<>()).add(rs.getString(2));
+        }, table);
+        return keys;
+    }
+}
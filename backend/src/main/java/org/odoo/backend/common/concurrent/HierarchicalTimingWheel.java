@@ -0,0 +1,141 @@
+package org.odoo.backend.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/*
+ * Hierarchical timing wheel: O(1) schedule, and per tick only the current slot is touched.
+ * Level 0 has wheelSize slots of one tick each, level n has wheelSize slots of wheelSize^n ticks.
+ * When a higher level slot comes due its entries cascade down to a finer level.
+ *
+ * The wheel is only mutated by its ticker thread; schedule() just enqueues, so callers never block.
+ * Entries are never cancelled, the expiry callback is expected to ignore entries that are stale.
+ */
+@Slf4j
+public class HierarchicalTimingWheel<T> implements AutoCloseable {
+
+    private record Timeout<T>(T item, long expiryTick) {
+    }
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final Consumer<T> onExpire;
+    private final Queue<Timeout<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final List<List<Timeout<T>>[]> levels = new ArrayList<>();
+    private final ScheduledExecutorService ticker;
+
+    private long currentTick;
+
+    public HierarchicalTimingWheel(String name, long tickMs, int wheelSize, Consumer<T> onExpire) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.onExpire = onExpire;
+        this.currentTick = System.currentTimeMillis() / tickMs;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void schedule(T item, long expiryEpochMillis) {
+        // round up so an entry never fires before its deadline
+        incoming.add(new Timeout<>(item, Math.floorDiv(expiryEpochMillis + tickMs - 1, tickMs)));
+    }
+
+    private void tick() {
+        try {
+            long targetTick = System.currentTimeMillis() / tickMs;
+
+            Timeout<T> timeout;
+            while ((timeout = incoming.poll()) != null) {
+                insert(timeout);
+            }
+
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade();
+                List<Timeout<T>>[] level0 = levels.isEmpty() ? null : levels.get(0);
+                if (level0 != null) {
+                    fire(takeSlot(level0, (int) (currentTick % wheelSize)));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Timing wheel tick failed", e);
+        }
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long delay = timeout.expiryTick() - currentTick;
+        if (delay <= 0) {
+            fire(List.of(timeout));
+            return;
+        }
+
+        long span = 1;
+        for (int level = 0; ; level++) {
+            if (delay < span * wheelSize) {
+                slot(level, (int) ((timeout.expiryTick() / span) % wheelSize)).add(timeout);
+                return;
+            }
+            span *= wheelSize;
+        }
+    }
+
+    // Move the entries of every higher level slot that starts at currentTick one level down
+    private void cascade() {
+        long span = wheelSize;
+        for (int level = 1; level < levels.size() && currentTick % span == 0; level++) {
+            List<Timeout<T>> due = takeSlot(levels.get(level), (int) ((currentTick / span) % wheelSize));
+            for (Timeout<T> timeout : due) {
+                insert(timeout);
+            }
+            span *= wheelSize;
+        }
+    }
+
+    private void fire(List<Timeout<T>> due) {
+        for (Timeout<T> timeout : due) {
+            try {
+                onExpire.accept(timeout.item());
+            } catch (RuntimeException e) {
+                log.warn("Timing wheel expiry callback failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Timeout<T>> slot(int level, int index) {
+        while (levels.size() <= level) {
+            levels.add(new List[wheelSize]);
+        }
+        List<Timeout<T>>[] slots = levels.get(level);
+        if (slots[index] == null) {
+            slots[index] = new ArrayList<>();
+        }
+        return slots[index];
+    }
+
+    private List<Timeout<T>> takeSlot(List<Timeout<T>>[] slots, int index) {
+        List<Timeout<T>> due = slots[index];
+        if (due == null) {
+            return List.of();
+        }
+        slots[index] = null;
+        return due;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
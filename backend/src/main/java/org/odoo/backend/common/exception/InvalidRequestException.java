@@ -0,0 +1,7 @@
+package org.odoo.backend.common.exception;
+
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.odoo.backend.common.exception;
+
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package org.odoo.backend.common.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// Forward-only row source: only the current row is held in memory
+public interface SpreadsheetRowReader extends Closeable {
+
+    // null once the input is exhausted
+    List<String> nextRow() throws IOException;
+}
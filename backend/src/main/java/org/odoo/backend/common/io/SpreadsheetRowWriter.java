@@ -0,0 +1,13 @@
+package org.odoo.backend.common.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+// Forward-only row sink: rows go straight to the underlying stream, nothing is buffered per file
+public interface SpreadsheetRowWriter extends Closeable {
+
+    void writeRow(List<String> cells) throws IOException;
+
+    void flush() throws IOException;
+}
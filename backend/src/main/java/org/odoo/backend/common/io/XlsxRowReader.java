@@ -0,0 +1,202 @@
+package org.odoo.backend.common.io;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/*
+ * Streams the first worksheet of an .xlsx file with StAX, one <row> at a time. The first worksheet is
+ * the first <sheet> in xl/workbook.xml, resolved to its part through xl/_rels/workbook.xml.rels,
+ * since sheet parts are not always named sheet1.xml or kept in tab order.
+ * Only the shared string table is loaded up front (cells reference it by index); the sheet itself,
+ * which is where the size of a large import is, is never held in memory.
+ */
+public class XlsxRowReader implements SpreadsheetRowReader {
+
+    private static final String SHARED_STRINGS = "xl/sharedStrings.xml";
+    private static final String WORKBOOK = "xl/workbook.xml";
+    private static final String WORKBOOK_RELS = "xl/_rels/workbook.xml.rels";
+    private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final ZipFile zip;
+    private final InputStream sheetStream;
+    private final XMLStreamReader sheet;
+    private final List<String> sharedStrings;
+
+    public XlsxRowReader(Path file) throws IOException {
+        this.zip = new ZipFile(file.toFile());
+        try {
+            this.sharedStrings = readSharedStrings();
+            String sheetPart = firstSheetPart();
+            ZipEntry sheetEntry = zip.getEntry(sheetPart);
+            if (sheetEntry == null) {
+                throw new IOException("Not an xlsx workbook: " + sheetPart + " is missing");
+            }
+            this.sheetStream = zip.getInputStream(sheetEntry);
+            this.sheet = xmlInputFactory().createXMLStreamReader(sheetStream);
+        } catch (XMLStreamException | IOException e) {
+            zip.close();
+            throw e instanceof IOException io ? io : new IOException("Invalid xlsx workbook", e);
+        }
+    }
+
+    @Override
+    public List<String> nextRow() throws IOException {
+        try {
+            while (sheet.hasNext()) {
+                if (sheet.next() == XMLStreamConstants.START_ELEMENT && "row".equals(sheet.getLocalName())) {
+                    return readRow();
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IOException("Invalid xlsx worksheet", e);
+        }
+    }
+
+    private List<String> readRow() throws XMLStreamException {
+        List<String> row = new ArrayList<>();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "row".equals(sheet.getLocalName())) {
+                return row;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(sheet.getLocalName())) {
+                int column = columnIndex(sheet.getAttributeValue(null, "r"), row.size());
+                while (row.size() < column) {
+                    row.add("");
+                }
+                row.add(readCell(sheet.getAttributeValue(null, "t")));
+            }
+        }
+        return row;
+    }
+
+    private String readCell(String type) throws XMLStreamException {
+        StringBuilder value = new StringBuilder();
+        while (sheet.hasNext()) {
+            int event = sheet.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "c".equals(sheet.getLocalName())) {
+                break;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT
+                    && ("v".equals(sheet.getLocalName()) || "t".equals(sheet.getLocalName()))) {
+                value.append(sheet.getElementText());
+            }
+        }
+
+        String text = value.toString();
+        if ("s".equals(type) && !text.isEmpty()) {
+            int index = Integer.parseInt(text.trim());
+            return index < sharedStrings.size() ? sharedStrings.get(index) : "";
+        }
+        if ("b".equals(type)) {
+            return "1".equals(text) ? "TRUE" : "FALSE";
+        }
+        return text;
+    }
+
+    private List<String> readSharedStrings() throws IOException, XMLStreamException {
+        List<String> strings = new ArrayList<>();
+        ZipEntry entry = zip.getEntry(SHARED_STRINGS);
+        if (entry == null) {
+            return strings;
+        }
+
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = xmlInputFactory().createXMLStreamReader(in);
+            StringBuilder current = null;
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    if ("si".equals(reader.getLocalName())) {
+                        current = new StringBuilder();
+                    } else if ("t".equals(reader.getLocalName()) && current != null) {
+                        // rich text is split over several <r><t> runs
+                        current.append(reader.getElementText());
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && "si".equals(reader.getLocalName())) {
+                    strings.add(current == null ? "" : current.toString());
+                    current = null;
+                }
+            }
+            reader.close();
+        }
+        return strings;
+    }
+
+    private String firstSheetPart() throws IOException, XMLStreamException {
+        String relationshipId = firstAttribute(WORKBOOK, "sheet", RELATIONSHIPS_NS, "id", null);
+        if (relationshipId == null) {
+            throw new IOException("Not an xlsx workbook: " + WORKBOOK + " lists no sheets");
+        }
+        String target = firstAttribute(WORKBOOK_RELS, "Relationship", null, "Target", relationshipId);
+        if (target == null) {
+            throw new IOException("Not an xlsx workbook: sheet relationship " + relationshipId + " is missing");
+        }
+        // targets are relative to xl/, or absolute from the package root
+        return target.startsWith("/") ? target.substring(1) : "xl/" + target;
+    }
+
+    // Value of attribute on the first matching element, or the one whose Id equals withId
+    private String firstAttribute(String part, String element, String namespace, String attribute, String withId)
+            throws IOException, XMLStreamException {
+        ZipEntry entry = zip.getEntry(part);
+        if (entry == null) {
+            throw new IOException("Not an xlsx workbook: " + part + " is missing");
+        }
+
+        try (InputStream in = zip.getInputStream(entry)) {
+            XMLStreamReader reader = xmlInputFactory().createXMLStreamReader(in);
+            try {
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && element.equals(reader.getLocalName())
+                            && (withId == null || withId.equals(reader.getAttributeValue(null, "Id")))) {
+                        return reader.getAttributeValue(namespace, attribute);
+                    }
+                }
+                return null;
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    // "C12" -> 2; cells without a reference just follow the previous one
+    private static int columnIndex(String reference, int fallback) {
+        if (reference == null) {
+            return fallback;
+        }
+        int column = 0;
+        for (int i = 0; i < reference.length() && Character.isLetter(reference.charAt(i)); i++) {
+            column = column * 26 + (Character.toUpperCase(reference.charAt(i)) - 'A' + 1);
+        }
+        return column == 0 ? fallback : column - 1;
+    }
+
+    private static XMLInputFactory xmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sheet.close();
+        } catch (XMLStreamException ignored) {
+            // closing the zip below releases everything anyway
+        }
+        sheetStream.close();
+        zip.close();
+    }
+}
@@ -0,0 +1,23 @@
+package org.odoo.backend.common.jdbc;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+// UUID primary keys are stored as BINARY(16); plain JDBC statements have to bind them the same way
+public final class UuidBinary {
+
+    private UuidBinary() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static UUID fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,73 @@
+package org.odoo.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.AttendanceDay;
+import org.odoo.backend.dto.AttendanceEventResponse;
+import org.odoo.backend.dto.DepartmentMonthCalendar;
+import org.odoo.backend.model.AttendanceEventType;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.odoo.backend.service.AttendanceCalendarService;
+import org.odoo.backend.service.AttendanceService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/attendance")
+@RequiredArgsConstructor
+public class AttendanceController {
+
+    private final AttendanceService attendanceService;
+    private final AttendanceCalendarService attendanceCalendarService;
+
+    @PostMapping("/check-in")
+    public ResponseEntity<ApiResponse> checkIn(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        AttendanceEventResponse event = attendanceService.record(principal.userId(), principal.companyId(), AttendanceEventType.CHECK_IN);
+        return new ResponseEntity<>(new ApiResponse(true, "Checked in", event), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/check-out")
+    public ResponseEntity<ApiResponse> checkOut(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        AttendanceEventResponse event = attendanceService.record(principal.userId(), principal.companyId(), AttendanceEventType.CHECK_OUT);
+        return new ResponseEntity<>(new ApiResponse(true, "Checked out", event), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse> myAttendance(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        List<AttendanceDay> days = attendanceService.getDays(principal.companyId(), principal.userId(), from, to);
+        return new ResponseEntity<>(new ApiResponse(true, "Attendance fetched", days), HttpStatus.OK);
+    }
+
+    @GetMapping("/daily")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> dailyAttendance(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        List<AttendanceDay> days = attendanceService.getCompanyDay(principal.companyId(), date);
+        return new ResponseEntity<>(new ApiResponse(true, "Attendance fetched", days), HttpStatus.OK);
+    }
+
+    @GetMapping("/calendar/department")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> departmentCalendar(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam String department,
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        DepartmentMonthCalendar calendar = attendanceCalendarService.getDepartmentMonth(principal.companyId(), department, year, month);
+        return new ResponseEntity<>(new ApiResponse(true, "Attendance calendar fetched", calendar), HttpStatus.OK);
+    }
+}
@@ -7,6 +7,7 @@ import org.odoo.backend.dto.ApiResponse;
 import org.odoo.backend.dto.AuthResponse;
 import org.odoo.backend.dto.LoginRequest;
 import org.odoo.backend.dto.OtpRequest;
+import org.odoo.backend.security.ratelimit.AuthRateLimiter;
 import org.odoo.backend.service.AuthService;
 import org.odoo.backend.service.AuthServiceImpl;
 import org.springframework.http.HttpStatus;
@@ -19,21 +20,25 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthServiceImpl authService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse> login(@Valid @RequestBody LoginRequest request) {
+        authRateLimiter.checkLogin(request.getCompanyId(), request.getEmployeeId());
         ApiResponse response = authService.login(request);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     @PostMapping("/verify-otp")
     public ResponseEntity<ApiResponse> verifyOtp(@RequestBody OtpRequest request) {
+        authRateLimiter.checkEmail(request.getEmail());
         ApiResponse response = authService.verifyOtp(request);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     @PostMapping("/resend-otp/{email}")
     public ResponseEntity<ApiResponse> resendOtp(@PathVariable String email) {
+        authRateLimiter.checkEmail(email);
         ApiResponse response = authService.resendOtp(email);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
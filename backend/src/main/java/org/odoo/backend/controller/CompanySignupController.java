@@ -8,6 +8,7 @@ import org.odoo.backend.dto.ApiResponse;
 import org.odoo.backend.dto.CompanySignupRequest;
 import org.odoo.backend.dto.CompanySignupResponse;
 import org.odoo.backend.dto.OtpRequest;
+import org.odoo.backend.security.ratelimit.AuthRateLimiter;
 import org.odoo.backend.service.AuthServiceImpl;
 import org.odoo.backend.service.CompanySignupServiceImpl;
 import org.springframework.http.HttpStatus;
@@ -22,21 +23,25 @@ public class CompanySignupController {
 
     private final AuthServiceImpl authService;
     private final CompanySignupServiceImpl companySignupService;
+    private final AuthRateLimiter authRateLimiter;
 
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse> signupCompany(@Valid @RequestBody CompanySignupRequest requestDto) {
+        authRateLimiter.checkEmail(requestDto.getAdminEmail());
         ApiResponse response = companySignupService.signupCompanyWithAdmin(requestDto);
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
     @PostMapping("/verify-otp")
     public ResponseEntity<ApiResponse> verifyOtp(@RequestBody OtpRequest request) {
+        authRateLimiter.checkEmail(request.getEmail());
         ApiResponse response = authService.verifyOtp(request);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
     @PostMapping("/resend-otp/{email}")
     public ResponseEntity<ApiResponse> resendOtp(@PathVariable String email) {
+        authRateLimiter.checkEmail(email);
         ApiResponse response = authService.resendOtp(email);
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
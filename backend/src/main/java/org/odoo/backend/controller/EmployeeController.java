@@ -0,0 +1,185 @@
+package org.odoo.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.EmployeeDetail;
+import org.odoo.backend.dto.EmployeeMonthCalendar;
+import org.odoo.backend.dto.LeaveBalanceResponse;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeePage;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.dto.ExportFormat;
+import org.odoo.backend.dto.HeadcountStats;
+import org.odoo.backend.dto.ImportJobResponse;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.odoo.backend.service.AttendanceCalendarService;
+import org.odoo.backend.service.EmployeeDirectoryService;
+import org.odoo.backend.service.EmployeeExportService;
+import org.odoo.backend.service.EmployeeImportService;
+import org.odoo.backend.service.EmployeeStatsService;
+import org.odoo.backend.service.LeaveService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+public class EmployeeController {
+
+    private final EmployeeImportService employeeImportService;
+    private final EmployeeExportService employeeExportService;
+    private final EmployeeDirectoryService employeeDirectoryService;
+    private final EmployeeStatsService employeeStatsService;
+    private final AttendanceCalendarService attendanceCalendarService;
+    private final LeaveService leaveService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse> listEmployees(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String designation,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        EmployeePage page = employeeDirectoryService.list(
+                principal.companyId(),
+                new EmployeeFilter(department, designation, status),
+                cursor,
+                limit
+        );
+        return new ResponseEntity<>(new ApiResponse(true, "Employees fetched", page), HttpStatus.OK);
+    }
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> employeeStats(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        HeadcountStats stats = employeeStatsService.getHeadcount(principal.companyId());
+        return new ResponseEntity<>(new ApiResponse(true, "Employee statistics", stats), HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse> searchEmployees(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String designation,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        List<EmployeeSummary> results = employeeDirectoryService.search(
+                principal.companyId(),
+                query,
+                new EmployeeFilter(department, designation, status),
+                limit
+        );
+        return new ResponseEntity<>(new ApiResponse(true, "Search results", results), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse> getEmployee(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID id
+    ) {
+        EmployeeDetail employee = employeeDirectoryService.get(principal.companyId(), id);
+        return new ResponseEntity<>(new ApiResponse(true, "Employee fetched", employee), HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> importEmployees(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam("file") MultipartFile file
+    ) {
+        ImportJobResponse job = employeeImportService.startImport(principal.companyId(), file);
+        return new ResponseEntity<>(new ApiResponse(true, "Import started", job), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> importStatus(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID jobId
+    ) {
+        ImportJobResponse job = employeeImportService.getJob(principal.companyId(), jobId);
+        return new ResponseEntity<>(new ApiResponse(true, job.getStatus(), job), HttpStatus.OK);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String designation,
+            @RequestParam(required = false) EmployeeStatus status
+    ) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Export format must be csv or xlsx");
+        }
+
+        UUID companyId = principal.companyId();
+        EmployeeFilter filter = new EmployeeFilter(department, designation, status);
+        // xlsx is already a zip, compressing it again only costs CPU
+        boolean compress = gzip && exportFormat == ExportFormat.CSV;
+
+        StreamingResponseBody body = out -> {
+            OutputStream target = compress ? new GZIPOutputStream(out, 8192, true) : out;
+            employeeExportService.export(companyId, filter, exportFormat, target);
+        };
+
+        String fileName = "employees_" + LocalDate.now() + (exportFormat == ExportFormat.XLSX ? ".xlsx" : ".csv");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .contentType(exportFormat == ExportFormat.XLSX
+                        ? MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
+                        : MediaType.parseMediaType("text/csv;charset=UTF-8"));
+        if (compress) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @GetMapping("/{id}/attendance")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR') or #id == authentication.principal.userId()")
+    public ResponseEntity<ApiResponse> employeeAttendance(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID id,
+            @RequestParam int month,
+            @RequestParam int year
+    ) {
+        EmployeeMonthCalendar calendar = attendanceCalendarService.getEmployeeMonth(principal.companyId(), id, year, month);
+        return new ResponseEntity<>(new ApiResponse(true, "Attendance fetched", calendar), HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/leave-balance")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR') or #id == authentication.principal.userId()")
+    public ResponseEntity<ApiResponse> leaveBalance(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID id
+    ) {
+        List<LeaveBalanceResponse> balances = leaveService.getBalances(principal.companyId(), id);
+        return new ResponseEntity<>(new ApiResponse(true, "Leave balance fetched", balances), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,75 @@
+package org.odoo.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.LeaveApplicationRequest;
+import org.odoo.backend.dto.LeaveRequestResponse;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.odoo.backend.service.LeaveService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/leaves")
+@RequiredArgsConstructor
+public class LeaveController {
+
+    private final LeaveService leaveService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse> apply(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestBody LeaveApplicationRequest request
+    ) {
+        LeaveRequestResponse leave = leaveService.apply(principal.companyId(), principal.userId(), request);
+        return new ResponseEntity<>(new ApiResponse(true, "Leave request submitted", leave), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse> myRequests(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        List<LeaveRequestResponse> leaves = leaveService.getMyRequests(principal.companyId(), principal.userId());
+        return new ResponseEntity<>(new ApiResponse(true, "Leave requests fetched", leaves), HttpStatus.OK);
+    }
+
+    @GetMapping("/pending")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> pendingRequests(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
+        List<LeaveRequestResponse> leaves = leaveService.getPendingRequests(principal.companyId());
+        return new ResponseEntity<>(new ApiResponse(true, "Leave requests fetched", leaves), HttpStatus.OK);
+    }
+
+    @PostMapping("/{requestId}/approve")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> approve(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID requestId
+    ) {
+        LeaveRequestResponse leave = leaveService.approve(principal.companyId(), principal.userId(), requestId);
+        return new ResponseEntity<>(new ApiResponse(true, "Leave request approved", leave), HttpStatus.OK);
+    }
+
+    @PostMapping("/{requestId}/reject")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> reject(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID requestId
+    ) {
+        LeaveRequestResponse leave = leaveService.reject(principal.companyId(), principal.userId(), requestId);
+        return new ResponseEntity<>(new ApiResponse(true, "Leave request rejected", leave), HttpStatus.OK);
+    }
+
+    @PostMapping("/{requestId}/cancel")
+    public ResponseEntity<ApiResponse> cancel(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID requestId
+    ) {
+        LeaveRequestResponse leave = leaveService.cancel(principal.companyId(), principal.userId(), requestId);
+        return new ResponseEntity<>(new ApiResponse(true, "Leave request cancelled", leave), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,89 @@
+package org.odoo.backend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.PayrollRunResponse;
+import org.odoo.backend.dto.PayslipResponse;
+import org.odoo.backend.dto.SalaryStructureRequest;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.odoo.backend.service.PayrollService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/payroll")
+@RequiredArgsConstructor
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    @PutMapping("/salary-structures/{userId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> saveSalaryStructure(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID userId,
+            @RequestBody SalaryStructureRequest request
+    ) {
+        payrollService.saveSalaryStructure(principal.companyId(), userId, request);
+        return new ResponseEntity<>(new ApiResponse(true, "Salary structure saved", null), HttpStatus.OK);
+    }
+
+    // Plans the run and returns straight away; poll GET /runs/{runId} for progress
+    @PostMapping("/runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> startRun(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        PayrollRunResponse run = payrollService.startRun(principal.companyId(), year, month);
+        return new ResponseEntity<>(new ApiResponse(true, "Payroll run started", run), HttpStatus.ACCEPTED);
+    }
+
+    @PostMapping("/runs/{runId}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> resumeRun(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID runId
+    ) {
+        PayrollRunResponse run = payrollService.resumeRun(principal.companyId(), runId);
+        return new ResponseEntity<>(new ApiResponse(true, "Payroll run resumed", run), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/runs/{runId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> getRun(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID runId
+    ) {
+        PayrollRunResponse run = payrollService.getRun(principal.companyId(), runId);
+        return new ResponseEntity<>(new ApiResponse(true, "Payroll run fetched", run), HttpStatus.OK);
+    }
+
+    @GetMapping("/payslips/me")
+    public ResponseEntity<ApiResponse> myPayslip(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        PayslipResponse payslip = payrollService.getPayslip(principal.companyId(), principal.userId(), year, month);
+        return new ResponseEntity<>(new ApiResponse(true, "Payslip fetched", payslip), HttpStatus.OK);
+    }
+
+    @GetMapping("/payslips/{userId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'HR')")
+    public ResponseEntity<ApiResponse> employeePayslip(
+            @AuthenticationPrincipal AuthenticatedPrincipal principal,
+            @PathVariable UUID userId,
+            @RequestParam int year,
+            @RequestParam int month
+    ) {
+        PayslipResponse payslip = payrollService.getPayslip(principal.companyId(), userId, year, month);
+        return new ResponseEntity<>(new ApiResponse(true, "Payslip fetched", payslip), HttpStatus.OK);
+    }
+}
@@ -0,0 +1,15 @@
+package org.odoo.backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AttendanceDay(
+        UUID userId,
+        LocalDate workDate,
+        LocalDateTime firstCheckIn,
+        LocalDateTime lastCheckOut,
+        long workedMinutes,
+        boolean checkedIn   // an interval is still open
+) {
+}
@@ -0,0 +1,13 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class AttendanceEventResponse {
+    private String eventType;          // CHECK_IN / CHECK_OUT
+    private LocalDateTime occurredAt;  // server time the event was accepted
+}
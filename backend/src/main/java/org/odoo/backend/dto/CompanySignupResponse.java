@@ -10,5 +10,6 @@ public class CompanySignupResponse {
     private String companyId;
     private String companyCode;
     private String adminUserId;
+    private String adminEmployeeId; // login ID of the admin
     private String message;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package org.odoo.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DepartmentMonthCalendar(
+        String department,
+        int year,
+        int month,
+        int daysInMonth,
+        List<Row> employees,
+        int[] presentPerDay,
+        int[] absentPerDay,
+        int[] leavePerDay,
+        int fullAttendanceBits,   // days on which every employee was present or on leave
+        int anyAbsenceBits        // days on which at least one employee was absent
+) {
+    public record Row(UUID userId, int presentBits, int absentBits, int leaveBits, int lateBits) {
+    }
+}
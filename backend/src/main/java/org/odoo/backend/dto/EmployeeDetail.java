@@ -0,0 +1,31 @@
+package org.odoo.backend.dto;
+
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.UserRole;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record EmployeeDetail(
+        UUID userId,
+        String employeeId,
+        String email,
+        UserRole role,
+        boolean active,
+        String firstName,
+        String lastName,
+        String phone,
+        String address,
+        String city,
+        String state,
+        String country,
+        String profilePictureUrl,
+        String department,
+        String designation,
+        EmployeeStatus employeeStatus,
+        LocalDate dateOfJoining,
+        LocalDateTime createdAt,
+        LocalDateTime lastLogin
+) {
+}
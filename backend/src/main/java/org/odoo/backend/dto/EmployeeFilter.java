@@ -0,0 +1,11 @@
+package org.odoo.backend.dto;
+
+import org.odoo.backend.model.EmployeeStatus;
+
+// Optional directory/export filters; null means "any"
+public record EmployeeFilter(String department, String designation, EmployeeStatus status) {
+
+    public static EmployeeFilter none() {
+        return new EmployeeFilter(null, null, null);
+    }
+}
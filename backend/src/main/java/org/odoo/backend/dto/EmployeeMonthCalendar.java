@@ -0,0 +1,17 @@
+package org.odoo.backend.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+// Bit (day - 1) of each mask is that day's flag; days spells the same month out for the calendar view
+public record EmployeeMonthCalendar(
+        UUID userId,
+        int year,
+        int month,
+        int presentBits,
+        int absentBits,
+        int leaveBits,
+        int lateBits,
+        List<String> days   // PRESENT, LATE, ABSENT, LEAVE, WEEKEND or NONE
+) {
+}
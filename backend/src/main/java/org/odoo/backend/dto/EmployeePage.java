@@ -0,0 +1,14 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class EmployeePage {
+    private List<EmployeeSummary> items;
+    private String nextCursor;   // pass back as ?cursor= for the following page, null on the last one
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package org.odoo.backend.dto;
+
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.UserRole;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+// Directory row, built by a JPQL constructor expression so no entity (or its company) is loaded
+public record EmployeeSummary(
+        UUID userId,
+        String employeeId,
+        String email,
+        UserRole role,
+        boolean active,
+        String firstName,
+        String lastName,
+        String phone,
+        String department,
+        String designation,
+        EmployeeStatus employeeStatus,
+        LocalDate dateOfJoining
+) {
+}
@@ -0,0 +1,5 @@
+package org.odoo.backend.dto;
+
+public enum ExportFormat {
+    CSV, XLSX
+}
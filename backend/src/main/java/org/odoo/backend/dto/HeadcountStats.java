@@ -0,0 +1,15 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class HeadcountStats {
+    private long totalEmployees;               // all users of the company, by role
+    private Map<String, Long> byDepartment;    // from job details; UNASSIGNED when blank
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byRole;
+}
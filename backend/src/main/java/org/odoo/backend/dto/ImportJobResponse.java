@@ -0,0 +1,24 @@
+package org.odoo.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+public class ImportJobResponse {
+    private String jobId;
+    private String fileName;
+    private String status;        // QUEUED / RUNNING / COMPLETED / FAILED
+    private long processedRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowError> errors;
+    private boolean errorsTruncated;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,12 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportRowError {
+    private long row;       // 1-based line in the file, header included
+    private String email;
+    private String message;
+}
@@ -0,0 +1,20 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.odoo.backend.model.LeaveType;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LeaveApplicationRequest {
+    private LeaveType leaveType;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private String remarks;
+}
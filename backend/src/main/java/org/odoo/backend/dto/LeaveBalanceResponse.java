@@ -0,0 +1,13 @@
+package org.odoo.backend.dto;
+
+import org.odoo.backend.model.LeaveType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record LeaveBalanceResponse(
+        LeaveType leaveType,
+        BigDecimal available,
+        YearMonth accruedThrough
+) {
+}
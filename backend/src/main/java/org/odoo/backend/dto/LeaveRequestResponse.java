@@ -0,0 +1,24 @@
+package org.odoo.backend.dto;
+
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.odoo.backend.model.LeaveType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record LeaveRequestResponse(
+        UUID requestId,
+        UUID userId,
+        LeaveType leaveType,
+        LocalDate startDate,
+        LocalDate endDate,
+        BigDecimal days,
+        String remarks,
+        LeaveRequestStatus status,
+        UUID reviewedBy,
+        LocalDateTime reviewedAt,
+        LocalDateTime createdAt
+) {
+}
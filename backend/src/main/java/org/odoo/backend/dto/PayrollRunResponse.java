@@ -0,0 +1,24 @@
+package org.odoo.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class PayrollRunResponse {
+    private String runId;
+    private int year;
+    private int month;
+    private String status;        // QUEUED / RUNNING / COMPLETED / FAILED
+    private int employeeCount;
+    private int totalChunks;
+    private long completedChunks;
+    private long failedChunks;
+    private long payslipCount;    // employees without a salary structure get none
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
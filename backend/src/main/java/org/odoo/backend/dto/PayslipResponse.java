@@ -0,0 +1,26 @@
+package org.odoo.backend.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record PayslipResponse(
+        UUID payslipId,
+        UUID userId,
+        int year,
+        int month,
+        int payableDays,
+        int lossOfPayDays,
+        BigDecimal basic,
+        BigDecimal houseRentAllowance,
+        BigDecimal medicalAllowance,
+        BigDecimal conveyanceAllowance,
+        BigDecimal specialAllowance,
+        BigDecimal grossEarnings,
+        BigDecimal lossOfPay,
+        BigDecimal providentFund,
+        BigDecimal professionalTax,
+        BigDecimal incomeTax,
+        BigDecimal totalDeductions,
+        BigDecimal netPay
+) {
+}
@@ -0,0 +1,23 @@
+package org.odoo.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SalaryStructureRequest {
+    private BigDecimal monthlyWage;
+    private BigDecimal basicPercent;
+    private BigDecimal hraPercent;
+    private BigDecimal medicalAllowance;
+    private BigDecimal conveyanceAllowance;
+    private BigDecimal pfPercent;
+    private BigDecimal professionalTax;
+    private BigDecimal incomeTaxPercent;
+}
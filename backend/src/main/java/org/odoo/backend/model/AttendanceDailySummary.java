@@ -0,0 +1,50 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "attendance_daily_summary",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "work_date"}),
+        indexes = @Index(name = "idx_attendance_summary_company_date", columnList = "company_id, work_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceDailySummary {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "work_date", nullable = false)
+    private LocalDate workDate;
+
+    @Column(name = "first_check_in")
+    private LocalDateTime firstCheckIn;
+
+    @Column(name = "last_check_out")
+    private LocalDateTime lastCheckOut;
+
+    // check-in without a matching check-out yet; carried across fold runs
+    @Column(name = "open_check_in")
+    private LocalDateTime openCheckIn;
+
+    @Column(name = "worked_seconds", nullable = false)
+    private long workedSeconds;
+
+    @Column(name = "event_count", nullable = false)
+    private int eventCount;
+}
@@ -0,0 +1,37 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Append-only; rows are written in JDBC batches by AttendanceIngestor and never updated
+@Entity
+@Table(name = "attendance_events",
+        indexes = @Index(name = "idx_attendance_events_user", columnList = "user_id, occurred_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceEvent {
+
+    @Id
+    @Column(name = "event_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId; // ascending, the fold job's checkpoint
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "event_type", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private AttendanceEventType eventType;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
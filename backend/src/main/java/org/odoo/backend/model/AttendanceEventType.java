@@ -0,0 +1,6 @@
+package org.odoo.backend.model;
+
+public enum AttendanceEventType {
+    CHECK_IN,
+    CHECK_OUT
+}
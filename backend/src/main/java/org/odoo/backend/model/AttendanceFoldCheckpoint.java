@@ -0,0 +1,24 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Single row: highest attendance event already folded into the daily summaries
+@Entity
+@Table(name = "attendance_fold_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceFoldCheckpoint {
+
+    public static final String DAILY_SUMMARY = "daily-summary";
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+}
@@ -0,0 +1,28 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Event ids the fold job skipped because they were not visible yet: an insert still in flight or rolled back
+@Entity
+@Table(name = "attendance_fold_gaps")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceFoldGap {
+
+    @Id
+    @Column(name = "first_event_id")
+    private long firstEventId;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    // when the fold job first saw the gap; it gives up on the ids once the gap-timeout has passed
+    @Column(name = "opened_at", nullable = false)
+    private LocalDateTime openedAt;
+}
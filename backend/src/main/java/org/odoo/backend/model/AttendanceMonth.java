@@ -0,0 +1,53 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+/*
+ * One employee-month as four 31-bit planes: bit (day - 1) of each plane is that day's flag.
+ * A department month is one indexed range read of these rows, a few dozen bytes per employee.
+ * department is copied in when the row is created, so a mid-month move shows from the next month.
+ * Read-only as an entity: AttendanceCalendarWriter inserts rows and flips bits with single statements.
+ */
+@Entity
+@Table(name = "attendance_month",
+        indexes = @Index(name = "idx_attendance_month_department", columnList = "company_id, period, department"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceMonth {
+
+    @EmbeddedId
+    private AttendanceMonthId id;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "department", length = 100)
+    private String department;
+
+    @Column(name = "present_bits", nullable = false)
+    private int presentBits;
+
+    @Column(name = "absent_bits", nullable = false)
+    private int absentBits;
+
+    @Column(name = "leave_bits", nullable = false)
+    private int leaveBits;
+
+    @Column(name = "late_bits", nullable = false)
+    private int lateBits;
+
+    public static int period(YearMonth month) {
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    public static int bit(int dayOfMonth) {
+        return 1 << (dayOfMonth - 1);
+    }
+}
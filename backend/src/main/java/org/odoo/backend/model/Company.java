@@ -2,11 +2,17 @@ package org.odoo.backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.odoo.backend.common.id.TimeOrderedUuid;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+// Read on nearly every user/profile/job load and almost never written: kept in the "company" L2 region
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "company")
 @Table(name = "companies",
         uniqueConstraints = @UniqueConstraint(columnNames = "company_code"))
 @Getter
@@ -18,7 +24,7 @@ public class Company {
 
     @Id
     @Column(name = "company_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID companyId;
 
     @Column(name = "company_name", nullable = false)
@@ -0,0 +1,26 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "company_code_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompanyCodeCounter {
+
+    @Id
+    @Column(name = "prefix", length = 10)
+    private String prefix;
+
+    // 0 hands out the bare prefix, n hands out prefix + n
+    @Column(name = "next_suffix", nullable = false)
+    private int nextSuffix;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+}
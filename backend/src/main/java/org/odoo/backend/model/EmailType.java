@@ -0,0 +1,6 @@
+package org.odoo.backend.model;
+
+public enum EmailType {
+    OTP_VERIFICATION,
+    PASSWORD_RESET_OTP
+}
@@ -2,6 +2,10 @@ package org.odoo.backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+import org.odoo.backend.search.EmployeeSearchIndexListener;
+
+import java.util.UUID;
 
 @Entity
 @Table(name = "employee_profiles")
@@ -10,18 +14,19 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(EmployeeSearchIndexListener.class)
 public class EmployeeProfile {
 
     @Id
     @Column(name = "profile_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
-    private String profileId;
+    @TimeOrderedUuid
+    private UUID profileId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
@@ -2,12 +2,13 @@ package org.odoo.backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
 
 import java.util.UUID;
 
 @Entity
 @Table(name = "employee_sequence",
-        uniqueConstraints = @UniqueConstraint(columnNames = "year"))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"company_id", "year"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -16,16 +17,17 @@ import java.util.UUID;
 public class EmployeeSequence {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
     @Column(name = "year", nullable = false)
     private int year;
 
+    // last sequence number handed out to any node (nodes reserve blocks above it)
     @Column(name = "current_value", nullable = false)
     private int currentValue;
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// One row per (company, dimension, bucket); moved by HeadcountListener in the same transaction as the change
+@Entity
+@Table(name = "headcount_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeadcountCounter {
+
+    @EmbeddedId
+    private HeadcountCounterId id;
+
+    @Column(name = "headcount", nullable = false)
+    private long headcount;
+}
@@ -0,0 +1,26 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class HeadcountCounterId implements Serializable {
+
+    @Column(name = "company_id")
+    private UUID companyId;
+
+    @Column(name = "dimension", length = 20)
+    @Enumerated(EnumType.STRING)
+    private HeadcountDimension dimension;
+
+    @Column(name = "bucket", length = 100)
+    private String bucket; // department name, EmployeeStatus or UserRole
+}
@@ -0,0 +1,7 @@
+package org.odoo.backend.model;
+
+public enum HeadcountDimension {
+    DEPARTMENT,
+    STATUS,
+    ROLE
+}
@@ -2,29 +2,34 @@ package org.odoo.backend.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+import org.odoo.backend.search.EmployeeSearchIndexListener;
+import org.odoo.backend.stats.HeadcountListener;
 
 import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "job_details")
+@Table(name = "job_details",
+        indexes = @Index(name = "idx_job_details_status_user", columnList = "employee_status, user_id"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners({EmployeeSearchIndexListener.class, HeadcountListener.class})
 public class JobDetails {
 
     @Id
-    @Column(name = "job_detail_id", length = 36)
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "job_detail_id")
+    @TimeOrderedUuid
     private UUID jobDetailId;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "company_id")
     private Company company;
 
@@ -40,4 +45,14 @@ public class JobDetails {
     @Column(name = "employee_status")
     @Enumerated(EnumType.STRING)
     private EmployeeStatus employeeStatus;
+
+    // values as last loaded or saved, so HeadcountListener knows which counters an update moves
+    @Transient
+    private String loadedDepartment;
+
+    @Transient
+    private EmployeeStatus loadedStatus;
+
+    @Transient
+    private UUID loadedCompanyId;
 }
@@ -0,0 +1,58 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * Materialized running total of an employee's leave ledger for one balance type. Every change
+ * appends a ledger entry and moves this row in the same transaction; the version column turns
+ * two approvals racing on the same balance into one winner and one retry instead of a lost debit.
+ */
+@Entity
+@Table(name = "leave_balances")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveBalance implements Persistable<LeaveBalanceId> {
+
+    @EmbeddedId
+    private LeaveBalanceId id;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "balance", nullable = false, precision = 7, scale = 2)
+    private BigDecimal balance;
+
+    // yyyymm of the last month whose accrual is included
+    @Column(name = "accrued_through", nullable = false)
+    private int accruedThrough;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean newRow;
+
+    @Override
+    public boolean isNew() {
+        return newRow;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markStored() {
+        newRow = false;
+    }
+}
@@ -0,0 +1,58 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Append-only; days is signed and balance_after is the running total once this entry is applied
+@Entity
+@Table(name = "leave_ledger",
+        indexes = @Index(name = "idx_leave_ledger_user", columnList = "user_id, leave_type, entry_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "leave_type", nullable = false, length = 20)
+    private LeaveType leaveType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private LeaveLedgerEntryType entryType;
+
+    @Column(name = "days", nullable = false, precision = 7, scale = 2)
+    private BigDecimal days;
+
+    @Column(name = "balance_after", nullable = false, precision = 7, scale = 2)
+    private BigDecimal balanceAfter;
+
+    // accruals: the yyyymm range they cover
+    @Column(name = "period_from")
+    private Integer periodFrom;
+
+    @Column(name = "period_to")
+    private Integer periodTo;
+
+    @Column(name = "leave_request_id")
+    private UUID leaveRequestId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,70 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "leave_requests",
+        indexes = {
+                @Index(name = "idx_leave_request_user", columnList = "user_id, start_date"),
+                @Index(name = "idx_leave_request_company_status", columnList = "company_id, status, created_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaveRequest {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "request_id")
+    private UUID requestId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "leave_type", nullable = false, length = 20)
+    private LeaveType leaveType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // working days in the range, weekends excluded
+    @Column(name = "days", nullable = false, precision = 7, scale = 2)
+    private BigDecimal days;
+
+    @Column(name = "remarks", length = 500)
+    private String remarks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private LeaveRequestStatus status;
+
+    @Column(name = "reviewed_by")
+    private UUID reviewedBy;
+
+    @Column(name = "reviewed_at")
+    private LocalDateTime reviewedAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // two reviewers acting on the same request: the second one fails instead of double-debiting
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+}
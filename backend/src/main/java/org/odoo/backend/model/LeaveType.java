@@ -0,0 +1,17 @@
+package org.odoo.backend.model;
+
+// balanceType: the balance a type draws from; null means it is not balance-limited (and not paid)
+public enum LeaveType {
+    PAID,
+    SICK,
+    EMERGENCY,
+    UNPAID;
+
+    public LeaveType balanceType() {
+        return switch (this) {
+            case PAID, EMERGENCY -> PAID;
+            case SICK -> SICK;
+            case UNPAID -> null;
+        };
+    }
+}
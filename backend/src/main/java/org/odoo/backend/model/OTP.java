@@ -4,12 +4,17 @@ package org.odoo.backend.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.odoo.backend.common.id.TimeOrderedUuid;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "otps")
+@Table(name = "otps",
+        indexes = {
+                @Index(name = "idx_otps_email_code", columnList = "email, otp_code"),
+                @Index(name = "idx_otps_expiry_time", columnList = "expiry_time")
+        })
 @Getter
 @Setter
 @Builder
@@ -18,7 +23,7 @@ import java.util.UUID;
 public class OTP {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false)
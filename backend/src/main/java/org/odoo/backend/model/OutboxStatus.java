@@ -0,0 +1,9 @@
+package org.odoo.backend.model;
+
+public enum OutboxStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    SUPERSEDED,
+    DEAD
+}
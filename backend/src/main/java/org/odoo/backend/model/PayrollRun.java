@@ -0,0 +1,65 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * One month-end payroll for a company. The employee set is fixed when the run is planned and split
+ * into payroll_run_chunks; progress lives on the chunks, the run only tracks ownership. The node
+ * executing a run keeps heartbeat_at fresh, so a run whose heartbeat goes stale can be taken over.
+ */
+@Entity
+@Table(name = "payroll_runs",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"company_id", "period"}),
+        indexes = {
+                @Index(name = "idx_payroll_runs_status_heartbeat", columnList = "status, heartbeat_at"),
+                @Index(name = "idx_payroll_runs_status_created", columnList = "status, created_at")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRun {
+
+    @Id
+    @TimeOrderedUuid
+    @Column(name = "run_id")
+    private UUID runId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    // yyyymm
+    @Column(name = "period", nullable = false)
+    private int period;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PayrollRunStatus status;
+
+    @Column(name = "total_chunks", nullable = false)
+    private int totalChunks;
+
+    @Column(name = "employee_count", nullable = false)
+    private int employeeCount;
+
+    @Column(name = "message", length = 500)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,46 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Checkpoint for one slice of a run: the employees with after_user_id < user_id <= last_user_id
+@Entity
+@Table(name = "payroll_run_chunks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PayrollRunChunk {
+
+    @EmbeddedId
+    private PayrollRunChunkId id;
+
+    @Column(name = "after_user_id", nullable = false)
+    private UUID afterUserId;
+
+    @Column(name = "last_user_id", nullable = false)
+    private UUID lastUserId;
+
+    @Column(name = "employee_count", nullable = false)
+    private int employeeCount;
+
+    // set in the same transaction that inserts the chunk's payslips
+    @Column(name = "done", nullable = false)
+    private boolean done;
+
+    @Column(name = "payslip_count", nullable = false)
+    private int payslipCount;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,22 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PayrollRunChunkId implements Serializable {
+
+    @Column(name = "run_id")
+    private UUID runId;
+
+    @Column(name = "chunk_no")
+    private int chunkNo;
+}
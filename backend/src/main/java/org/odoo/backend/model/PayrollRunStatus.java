@@ -0,0 +1,8 @@
+package org.odoo.backend.model;
+
+public enum PayrollRunStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
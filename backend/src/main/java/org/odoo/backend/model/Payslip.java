@@ -0,0 +1,81 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payslips",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"run_id", "user_id"}),
+        indexes = @Index(name = "idx_payslip_user_period", columnList = "user_id, period"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Payslip {
+
+    @Id
+    @Column(name = "payslip_id")
+    private UUID payslipId;
+
+    @Column(name = "run_id", nullable = false)
+    private UUID runId;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "period", nullable = false)
+    private int period;
+
+    @Column(name = "payable_days", nullable = false)
+    private int payableDays;
+
+    @Column(name = "loss_of_pay_days", nullable = false)
+    private int lossOfPayDays;
+
+    @Column(name = "basic", nullable = false, precision = 12, scale = 2)
+    private BigDecimal basic;
+
+    @Column(name = "house_rent_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal houseRentAllowance;
+
+    @Column(name = "medical_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal medicalAllowance;
+
+    @Column(name = "conveyance_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal conveyanceAllowance;
+
+    @Column(name = "special_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal specialAllowance;
+
+    @Column(name = "gross_earnings", nullable = false, precision = 12, scale = 2)
+    private BigDecimal grossEarnings;
+
+    @Column(name = "loss_of_pay", nullable = false, precision = 12, scale = 2)
+    private BigDecimal lossOfPay;
+
+    @Column(name = "provident_fund", nullable = false, precision = 12, scale = 2)
+    private BigDecimal providentFund;
+
+    @Column(name = "professional_tax", nullable = false, precision = 12, scale = 2)
+    private BigDecimal professionalTax;
+
+    @Column(name = "income_tax", nullable = false, precision = 12, scale = 2)
+    private BigDecimal incomeTax;
+
+    @Column(name = "total_deductions", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalDeductions;
+
+    @Column(name = "net_pay", nullable = false, precision = 12, scale = 2)
+    private BigDecimal netPay;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,58 @@
+package org.odoo.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Monthly pay components for one employee; percentages are whole-number percents (50 = 50%)
+@Entity
+@Table(name = "salary_structures",
+        indexes = @Index(name = "idx_salary_structure_company", columnList = "company_id, user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryStructure {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "company_id", nullable = false)
+    private UUID companyId;
+
+    @Column(name = "monthly_wage", nullable = false, precision = 12, scale = 2)
+    private BigDecimal monthlyWage;
+
+    // of the monthly wage
+    @Column(name = "basic_percent", nullable = false, precision = 5, scale = 2)
+    private BigDecimal basicPercent;
+
+    // of basic
+    @Column(name = "hra_percent", nullable = false, precision = 5, scale = 2)
+    private BigDecimal hraPercent;
+
+    @Column(name = "medical_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal medicalAllowance;
+
+    @Column(name = "conveyance_allowance", nullable = false, precision = 12, scale = 2)
+    private BigDecimal conveyanceAllowance;
+
+    // of earned basic
+    @Column(name = "pf_percent", nullable = false, precision = 5, scale = 2)
+    private BigDecimal pfPercent;
+
+    @Column(name = "professional_tax", nullable = false, precision = 12, scale = 2)
+    private BigDecimal professionalTax;
+
+    // flat withholding on earned pay after provident fund
+    @Column(name = "income_tax_percent", nullable = false, precision = 5, scale = 2)
+    private BigDecimal incomeTaxPercent;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
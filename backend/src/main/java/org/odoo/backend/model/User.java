@@ -3,7 +3,10 @@ package org.odoo.backend.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
+import org.odoo.backend.common.id.TimeOrderedUuid;
+import org.odoo.backend.search.EmployeeSearchIndexListener;
+import org.odoo.backend.security.principal.PrincipalCacheInvalidator;
+import org.odoo.backend.stats.HeadcountListener;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -12,21 +15,23 @@ import java.util.UUID;
 @Table(name = "users",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = "email"),
-                @UniqueConstraint(columnNames = "employee_id")
+                @UniqueConstraint(columnNames = "employee_id"),
+                @UniqueConstraint(name = "ux_users_company_employee_id", columnNames = {"company_id", "employee_id"})
         })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners({PrincipalCacheInvalidator.class, EmployeeSearchIndexListener.class, HeadcountListener.class})
 public class User {
 
     @Id
     @Column(name = "user_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID userId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "company_id", nullable = false)
     private Company company;
 
@@ -56,7 +61,11 @@ public class User {
     @CreationTimestamp
     private LocalDateTime createdAt;
 
-    @Column(name = "last_login")
-    @UpdateTimestamp
+    // written only by LastLoginWriteBehind, so entity saves never overwrite a newer value
+    @Column(name = "last_login", insertable = false, updatable = false)
     private LocalDateTime lastLogin;
+
+    // role as last loaded or saved, so HeadcountListener knows which counter a role change moves
+    @Transient
+    private UserRole loadedRole;
 }
@@ -0,0 +1,29 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttendanceDailySummaryRepository extends JpaRepository<AttendanceDailySummary, UUID> {
+
+    @Query("""
+            select s from AttendanceDailySummary s
+            where s.userId in :userIds and s.workDate between :from and :to
+            """)
+    List<AttendanceDailySummary> findForFold(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    List<AttendanceDailySummary> findByCompanyIdAndWorkDateOrderByUserId(UUID companyId, LocalDate workDate);
+
+    List<AttendanceDailySummary> findByCompanyIdAndUserIdAndWorkDateBetweenOrderByWorkDate(
+            UUID companyId, UUID userId, LocalDate from, LocalDate to);
+}
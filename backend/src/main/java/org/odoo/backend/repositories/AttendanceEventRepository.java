@@ -0,0 +1,13 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.AttendanceEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AttendanceEventRepository extends JpaRepository<AttendanceEvent, Long> {
+    List<AttendanceEvent> findByEventIdGreaterThanOrderByEventId(long afterId, Limit limit);
+
+    List<AttendanceEvent> findByEventIdBetweenOrderByEventId(long firstId, long lastId);
+}
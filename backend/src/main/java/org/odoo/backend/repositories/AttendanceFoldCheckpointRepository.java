@@ -0,0 +1,17 @@
+package org.odoo.backend.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.odoo.backend.model.AttendanceFoldCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface AttendanceFoldCheckpointRepository extends JpaRepository<AttendanceFoldCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from AttendanceFoldCheckpoint c where c.name = :name")
+    Optional<AttendanceFoldCheckpoint> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,10 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.AttendanceFoldGap;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AttendanceFoldGapRepository extends JpaRepository<AttendanceFoldGap, Long> {
+    List<AttendanceFoldGap> findAllByOrderByFirstEventId();
+}
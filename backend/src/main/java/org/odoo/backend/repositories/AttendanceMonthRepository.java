@@ -0,0 +1,89 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.AttendanceMonthId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttendanceMonthRepository extends JpaRepository<AttendanceMonth, AttendanceMonthId> {
+
+    // What a cached calendar view is keyed by
+    interface CalendarKey {
+        UUID getUserId();
+
+        UUID getCompanyId();
+
+        String getDepartment();
+    }
+
+    List<AttendanceMonth> findByCompanyIdAndId_PeriodAndDepartmentOrderById_UserId(UUID companyId, int period, String department);
+
+    @Query("select m from AttendanceMonth m where m.id.period = :period and m.id.userId in :userIds")
+    List<AttendanceMonth> findForUsers(@Param("period") int period, @Param("userIds") Collection<UUID> userIds);
+
+    @Query("""
+            select m.id.userId as userId, m.companyId as companyId, m.department as department
+            from AttendanceMonth m
+            where m.id.period = :period and m.id.userId in :userIds
+            """)
+    List<CalendarKey> findCalendarKeys(@Param("period") int period, @Param("userIds") Collection<UUID> userIds);
+
+    /*
+     * The bit planes only change through the updates below. Each sets or clears its own bits against
+     * the stored value under the row lock, so the fold job, leave approvals and the absence job can
+     * write the same month at once without overwriting each other's days.
+     */
+    @Modifying
+    @Query("""
+            update AttendanceMonth m
+            set m.presentBits = bitor(m.presentBits, :present),
+                m.absentBits = bitand(m.absentBits, :keepAbsent),
+                m.lateBits = bitor(m.lateBits, :late)
+            where m.id.period = :period and m.id.userId in :userIds
+            """)
+    int markPresent(
+            @Param("period") int period,
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("present") int present,
+            @Param("keepAbsent") int keepAbsent,
+            @Param("late") int late
+    );
+
+    @Modifying
+    @Query("""
+            update AttendanceMonth m
+            set m.leaveBits = bitor(m.leaveBits, :leave),
+                m.absentBits = bitand(m.absentBits, :keepAbsent)
+            where m.id.period = :period and m.id.userId = :userId
+            """)
+    int markLeave(
+            @Param("period") int period,
+            @Param("userId") UUID userId,
+            @Param("leave") int leave,
+            @Param("keepAbsent") int keepAbsent
+    );
+
+    @Modifying
+    @Query("""
+            update AttendanceMonth m
+            set m.leaveBits = bitand(m.leaveBits, :keepLeave)
+            where m.id.period = :period and m.id.userId = :userId
+            """)
+    int clearLeave(@Param("period") int period, @Param("userId") UUID userId, @Param("keepLeave") int keepLeave);
+
+    // Only a day with no presence, leave or absence yet is marked, so the count is of new absences
+    @Modifying
+    @Query("""
+            update AttendanceMonth m
+            set m.absentBits = bitor(m.absentBits, :absent)
+            where m.id.period = :period and m.id.userId in :userIds
+              and bitand(bitor(bitor(m.presentBits, m.leaveBits), m.absentBits), :absent) = 0
+            """)
+    int markAbsent(@Param("period") int period, @Param("userIds") Collection<UUID> userIds, @Param("absent") int absent);
+}
@@ -0,0 +1,17 @@
+package org.odoo.backend.repositories;
+
+import jakarta.persistence.LockModeType;
+import org.odoo.backend.model.CompanyCodeCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface CompanyCodeCounterRepository extends JpaRepository<CompanyCodeCounter, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from CompanyCodeCounter c where c.prefix = :prefix")
+    Optional<CompanyCodeCounter> findForUpdate(@Param("prefix") String prefix);
+}
@@ -2,10 +2,17 @@ package org.odoo.backend.repositories;
 
 import org.odoo.backend.model.Company;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface CompanyRepository extends JpaRepository<Company, UUID> {
     boolean existsByCompanyNameIgnoreCase(String companyName);
     boolean existsByCompanyCode(String finalCode);
+
+    // range scan on the company_code unique index
+    @Query("select c.companyCode from Company c where c.companyCode like concat(:prefix, '%')")
+    List<String> findCompanyCodesStartingWith(@Param("prefix") String prefix);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package org.odoo.backend.repositories;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.odoo.backend.model.EmailOutbox;
+import org.odoo.backend.model.EmailType;
+import org.odoo.backend.model.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    // lock timeout -2 = SKIP LOCKED, so several nodes can dispatch without picking the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select e from EmailOutbox e
+            where (e.status = org.odoo.backend.model.OutboxStatus.PENDING and e.nextAttemptAt <= :now)
+               or (e.status = org.odoo.backend.model.OutboxStatus.SENDING and e.lockedUntil < :now)
+            order by e.nextAttemptAt
+            """)
+    List<EmailOutbox> findDispatchable(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox e set e.status = org.odoo.backend.model.OutboxStatus.SUPERSEDED
+            where e.emailType = :type and e.recipient = :recipient
+              and e.status = org.odoo.backend.model.OutboxStatus.PENDING
+            """)
+    int supersedePending(@Param("type") EmailType type, @Param("recipient") String recipient);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox e
+            set e.status = org.odoo.backend.model.OutboxStatus.SENT, e.sentAt = :sentAt, e.attempts = e.attempts + 1,
+                e.claimToken = null, e.lockedUntil = null
+            where e.id = :id and e.claimToken = :claimToken
+            """)
+    int markSent(@Param("id") UUID id, @Param("claimToken") UUID claimToken, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("""
+            update EmailOutbox e
+            set e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.attempts = e.attempts + 1,
+                e.lastError = :lastError, e.claimToken = null, e.lockedUntil = null
+            where e.id = :id and e.claimToken = :claimToken
+            """)
+    int markFailed(@Param("id") UUID id,
+                   @Param("claimToken") UUID claimToken,
+                   @Param("status") OutboxStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("delete from EmailOutbox e where e.status in :statuses and e.createdAt < :before")
+    int deleteFinished(@Param("statuses") Collection<OutboxStatus> statuses, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,201 @@
+package org.odoo.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.id.UuidV7;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.UserRole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Plain JDBC batches for bulk onboarding; going through JPA would flush one insert per entity
+@Repository
+@RequiredArgsConstructor
+public class EmployeeJdbcRepository {
+
+    private static final String INSERT_USER = """
+            INSERT INTO users (user_id, company_id, employee_id, email, password_hash, role,
+                               is_email_verified, is_active, first_login, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_PROFILE = """
+            INSERT INTO employee_profiles (profile_id, user_id, company_id, first_name, last_name,
+                                           phone, address, city, state, country)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_JOB_DETAILS = """
+            INSERT INTO job_details (job_detail_id, user_id, company_id, department, designation,
+                                     date_of_joining, employee_status)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String EXPORT_PAGE = """
+            SELECT u.employee_id, u.email, u.role, u.is_active, p.first_name, p.last_name, p.phone,
+                   p.address, p.city, p.state, p.country, j.department, j.designation,
+                   j.date_of_joining, j.employee_status
+            FROM users u
+            LEFT JOIN employee_profiles p ON p.user_id = u.user_id
+            LEFT JOIN job_details j ON j.user_id = u.user_id
+            WHERE u.company_id = ? AND u.employee_id > ?
+            """;
+
+    public record NewEmployee(
+            UUID userId,
+            UUID companyId,
+            String employeeId,
+            String email,
+            String passwordHash,
+            UserRole role,
+            boolean firstLogin,
+            String firstName,
+            String lastName,
+            String phone,
+            String address,
+            String city,
+            String state,
+            String country,
+            String department,
+            String designation,
+            LocalDate dateOfJoining
+    ) {
+    }
+
+    public record ExportRow(
+            String employeeId,
+            String email,
+            String role,
+            boolean active,
+            String firstName,
+            String lastName,
+            String phone,
+            String address,
+            String city,
+            String state,
+            String country,
+            String department,
+            String designation,
+            LocalDate dateOfJoining,
+            String employeeStatus
+    ) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT email FROM users WHERE email IN (:emails)",
+                new MapSqlParameterSource("emails", emails),
+                String.class
+        ));
+    }
+
+    // Caller owns the transaction: the three batches commit or roll back together
+    public void insertAll(List<NewEmployee> employees) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_USER, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, UuidBinary.toBytes(e.userId()));
+            ps.setBytes(2, UuidBinary.toBytes(e.companyId()));
+            ps.setString(3, e.employeeId());
+            ps.setString(4, e.email());
+            ps.setString(5, e.passwordHash());
+            ps.setString(6, e.role().name());
+            ps.setBoolean(7, false);
+            ps.setBoolean(8, true);
+            ps.setBoolean(9, e.firstLogin());
+            ps.setTimestamp(10, now);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_PROFILE, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, UuidBinary.toBytes(UuidV7.next()));
+            ps.setBytes(2, UuidBinary.toBytes(e.userId()));
+            ps.setBytes(3, UuidBinary.toBytes(e.companyId()));
+            ps.setString(4, e.firstName());
+            ps.setString(5, e.lastName());
+            ps.setString(6, e.phone());
+            ps.setString(7, e.address());
+            ps.setString(8, e.city());
+            ps.setString(9, e.state());
+            ps.setString(10, e.country());
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_JOB_DETAILS, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, UuidBinary.toBytes(UuidV7.next()));
+            ps.setBytes(2, UuidBinary.toBytes(e.userId()));
+            ps.setBytes(3, UuidBinary.toBytes(e.companyId()));
+            ps.setString(4, e.department());
+            ps.setString(5, e.designation());
+            if (e.dateOfJoining() != null) {
+                ps.setDate(6, Date.valueOf(e.dateOfJoining()));
+            } else {
+                ps.setNull(6, Types.DATE);
+            }
+            ps.setString(7, EmployeeStatus.ACTIVE.name());
+        });
+    }
+
+    // One keyset page ordered by login ID; each call is its own short read, so no connection
+    // stays checked out while the previous page is being written to a slow client
+    public List<ExportRow> findExportPage(UUID companyId, EmployeeFilter filter, String afterEmployeeId, int limit) {
+        StringBuilder sql = new StringBuilder(EXPORT_PAGE);
+        List<Object> args = new ArrayList<>();
+        args.add(UuidBinary.toBytes(companyId));
+        args.add(afterEmployeeId == null ? "" : afterEmployeeId);
+        if (filter.department() != null) {
+            sql.append(" AND j.department = ?");
+            args.add(filter.department());
+        }
+        if (filter.designation() != null) {
+            sql.append(" AND j.designation = ?");
+            args.add(filter.designation());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND j.employee_status = ?");
+            args.add(filter.status().name());
+        }
+        sql.append(" ORDER BY u.employee_id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> {
+            Date joined = rs.getDate("date_of_joining");
+            return new ExportRow(
+                    rs.getString("employee_id"),
+                    rs.getString("email"),
+                    rs.getString("role"),
+                    rs.getBoolean("is_active"),
+                    rs.getString("first_name"),
+                    rs.getString("last_name"),
+                    rs.getString("phone"),
+                    rs.getString("address"),
+                    rs.getString("city"),
+                    rs.getString("state"),
+                    rs.getString("country"),
+                    rs.getString("department"),
+                    rs.getString("designation"),
+                    joined == null ? null : joined.toLocalDate(),
+                    rs.getString("employee_status")
+            );
+        }, args.toArray());
+    }
+}
@@ -1,10 +1,19 @@
 package org.odoo.backend.repositories;
 
+import jakarta.persistence.LockModeType;
 import org.odoo.backend.model.EmployeeSequence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.UUID;
 
-public interface EmployeeSequenceRepository extends JpaRepository<EmployeeSequence, Long> {
-    Optional<EmployeeSequence> findByCompany_CompanyIdAndYear(String companyId, int year);
+public interface EmployeeSequenceRepository extends JpaRepository<EmployeeSequence, UUID> {
+    Optional<EmployeeSequence> findByCompany_CompanyIdAndYear(UUID companyId, int year);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EmployeeSequence s where s.company.companyId = :companyId and s.year = :year")
+    Optional<EmployeeSequence> findForUpdate(@Param("companyId") UUID companyId, @Param("year") int year);
 }
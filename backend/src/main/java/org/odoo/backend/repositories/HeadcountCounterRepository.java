@@ -0,0 +1,12 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.HeadcountCounter;
+import org.odoo.backend.model.HeadcountCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface HeadcountCounterRepository extends JpaRepository<HeadcountCounter, HeadcountCounterId> {
+    List<HeadcountCounter> findById_CompanyId(UUID companyId);
+}
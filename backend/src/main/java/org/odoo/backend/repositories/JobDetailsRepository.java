@@ -0,0 +1,60 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.JobDetails;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface JobDetailsRepository extends JpaRepository<JobDetails, UUID> {
+
+    // Where an employee sits, without loading the entity graph
+    interface Placement {
+        UUID getUserId();
+
+        UUID getCompanyId();
+
+        String getDepartment();
+    }
+
+    @Query("""
+            select u.userId as userId, u.company.companyId as companyId, j.department as department
+            from JobDetails j join j.user u
+            where u.userId in :userIds
+            """)
+    List<Placement> findPlacements(@Param("userIds") Collection<UUID> userIds);
+
+    @Query("""
+            select u.userId as userId, u.company.companyId as companyId, j.department as department
+            from JobDetails j join j.user u
+            where j.employeeStatus = :status and u.userId > :after
+            order by u.userId
+            """)
+    List<Placement> findPlacementsByStatus(@Param("status") EmployeeStatus status, @Param("after") UUID after, Limit limit);
+
+    // Keyset page of the employees a payroll run covers, used to plan its chunks
+    @Query("""
+            select u.userId from JobDetails j join j.user u
+            where u.company.companyId = :companyId and j.employeeStatus in :statuses and u.userId > :after
+            order by u.userId
+            """)
+    List<UUID> findPayrollMembers(
+            @Param("companyId") UUID companyId,
+            @Param("statuses") Collection<EmployeeStatus> statuses,
+            @Param("after") UUID after,
+            Limit limit
+    );
+
+    @Query("""
+            select j.dateOfJoining from JobDetails j
+            where j.user.userId = :userId and j.user.company.companyId = :companyId
+            """)
+    Optional<LocalDate> findDateOfJoining(@Param("companyId") UUID companyId, @Param("userId") UUID userId);
+}
@@ -0,0 +1,14 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.LeaveBalance;
+import org.odoo.backend.model.LeaveBalanceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface LeaveBalanceRepository extends JpaRepository<LeaveBalance, LeaveBalanceId> {
+
+    // primary key prefix: one index range read for all of an employee's balances
+    List<LeaveBalance> findById_UserId(UUID userId);
+}
@@ -0,0 +1,7 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.LeaveLedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface LeaveLedgerRepository extends JpaRepository<LeaveLedgerEntry, Long> {
+}
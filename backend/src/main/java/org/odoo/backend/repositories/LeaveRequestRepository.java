@@ -0,0 +1,27 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.LeaveRequest;
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface LeaveRequestRepository extends JpaRepository<LeaveRequest, UUID> {
+
+    List<LeaveRequest> findByUserIdAndCompanyIdOrderByStartDateDesc(UUID userId, UUID companyId, Limit limit);
+
+    List<LeaveRequest> findByCompanyIdAndStatusOrderByCreatedAt(UUID companyId, LeaveRequestStatus status, Limit limit);
+
+    @Query("""
+            select count(r) > 0 from LeaveRequest r
+            where r.userId = :userId
+              and r.status in (org.odoo.backend.model.LeaveRequestStatus.PENDING, org.odoo.backend.model.LeaveRequestStatus.APPROVED)
+              and r.startDate <= :endDate and r.endDate >= :startDate
+            """)
+    boolean existsOverlapping(@Param("userId") UUID userId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+}
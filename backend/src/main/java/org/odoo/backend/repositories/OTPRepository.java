@@ -2,11 +2,29 @@ package org.odoo.backend.repositories;
 
 import org.odoo.backend.model.OTP;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface OTPRepository extends JpaRepository<OTP, UUID> {
     void deleteOTPByEmail(String email);
     Optional<OTP> findByEmailAndOtpCodeAndVerifiedFalse(String email , String otp);
+    List<OTP> findByVerifiedFalseAndExpiryTimeAfter(LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("delete from OTP o where o.expiryTime < :now")
+    int deleteByExpiryTimeBefore(@Param("now") LocalDateTime now);
+
+    // 1 for the single caller that consumed the OTP, 0 when it was consumed or replaced first
+    @Modifying
+    @Transactional
+    @Query("delete from OTP o where o.id = :id and o.verified = false")
+    int consumeById(@Param("id") UUID id);
 }
\ No newline at end of file
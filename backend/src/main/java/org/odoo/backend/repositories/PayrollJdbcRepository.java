@@ -0,0 +1,84 @@
+package org.odoo.backend.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.Payslip;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// Payslips go in as one JDBC batch per chunk, together with the chunk's checkpoint update
+@Repository
+@RequiredArgsConstructor
+public class PayrollJdbcRepository {
+
+    private static final String INSERT_PAYSLIP = """
+            INSERT INTO payslips (payslip_id, run_id, user_id, company_id, period, payable_days, loss_of_pay_days,
+                                  basic, house_rent_allowance, medical_allowance, conveyance_allowance,
+                                  special_allowance, gross_earnings, loss_of_pay, provident_fund, professional_tax,
+                                  income_tax, total_deductions, net_pay, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String COMPLETE_CHUNK = """
+            UPDATE payroll_run_chunks
+            SET done = TRUE, payslip_count = ?, last_error = NULL, completed_at = ?
+            WHERE run_id = ? AND chunk_no = ? AND done = FALSE
+            """;
+
+    private static final String FAIL_CHUNK = """
+            UPDATE payroll_run_chunks
+            SET attempts = attempts + 1, last_error = ?
+            WHERE run_id = ? AND chunk_no = ? AND done = FALSE
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Caller owns the transaction. Returns false if the chunk was already done, the caller must roll back then
+    public boolean completeChunk(UUID runId, int chunkNo, int payslipCount) {
+        return jdbcTemplate.update(COMPLETE_CHUNK,
+                payslipCount,
+                Timestamp.valueOf(LocalDateTime.now()),
+                UuidBinary.toBytes(runId),
+                chunkNo) == 1;
+    }
+
+    public void insertPayslips(List<Payslip> payslips) {
+        if (payslips.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYSLIP, payslips, payslips.size(), (ps, p) -> {
+            ps.setBytes(1, UuidBinary.toBytes(p.getPayslipId()));
+            ps.setBytes(2, UuidBinary.toBytes(p.getRunId()));
+            ps.setBytes(3, UuidBinary.toBytes(p.getUserId()));
+            ps.setBytes(4, UuidBinary.toBytes(p.getCompanyId()));
+            ps.setInt(5, p.getPeriod());
+            ps.setInt(6, p.getPayableDays());
+            ps.setInt(7, p.getLossOfPayDays());
+            ps.setBigDecimal(8, p.getBasic());
+            ps.setBigDecimal(9, p.getHouseRentAllowance());
+            ps.setBigDecimal(10, p.getMedicalAllowance());
+            ps.setBigDecimal(11, p.getConveyanceAllowance());
+            ps.setBigDecimal(12, p.getSpecialAllowance());
+            ps.setBigDecimal(13, p.getGrossEarnings());
+            ps.setBigDecimal(14, p.getLossOfPay());
+            ps.setBigDecimal(15, p.getProvidentFund());
+            ps.setBigDecimal(16, p.getProfessionalTax());
+            ps.setBigDecimal(17, p.getIncomeTax());
+            ps.setBigDecimal(18, p.getTotalDeductions());
+            ps.setBigDecimal(19, p.getNetPay());
+            ps.setTimestamp(20, Timestamp.valueOf(p.getCreatedAt()));
+        });
+    }
+
+    public void recordChunkFailure(UUID runId, int chunkNo, String error) {
+        jdbcTemplate.update(FAIL_CHUNK,
+                error == null ? "unknown error" : error.substring(0, Math.min(error.length(), 500)),
+                UuidBinary.toBytes(runId),
+                chunkNo);
+    }
+}
@@ -0,0 +1,34 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.PayrollRunChunk;
+import org.odoo.backend.model.PayrollRunChunkId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PayrollRunChunkRepository extends JpaRepository<PayrollRunChunk, PayrollRunChunkId> {
+
+    interface Progress {
+        long getCompletedChunks();
+
+        long getPayslipCount();
+
+        long getFailedChunks();
+    }
+
+    List<PayrollRunChunk> findById_RunIdAndDoneFalseOrderById_ChunkNo(UUID runId);
+
+    long countById_RunIdAndDoneFalse(UUID runId);
+
+    @Query("""
+            select coalesce(sum(case when c.done = true then 1 else 0 end), 0) as completedChunks,
+                   coalesce(sum(c.payslipCount), 0) as payslipCount,
+                   coalesce(sum(case when c.lastError is not null then 1 else 0 end), 0) as failedChunks
+            from PayrollRunChunk c
+            where c.id.runId = :runId
+            """)
+    Progress findProgress(@Param("runId") UUID runId);
+}
@@ -0,0 +1,57 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.PayrollRun;
+import org.odoo.backend.model.PayrollRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PayrollRunRepository extends JpaRepository<PayrollRun, UUID> {
+
+    Optional<PayrollRun> findByCompanyIdAndPeriod(UUID companyId, int period);
+
+    // Conditional update so only one node gets to execute a run; a RUNNING run is claimable once its heartbeat is stale
+    @Modifying
+    @Query("""
+            update PayrollRun r
+            set r.status = org.odoo.backend.model.PayrollRunStatus.RUNNING,
+                r.heartbeatAt = :now,
+                r.startedAt = coalesce(r.startedAt, :now),
+                r.finishedAt = null,
+                r.message = null
+            where r.runId = :runId
+              and (r.status in (org.odoo.backend.model.PayrollRunStatus.QUEUED, org.odoo.backend.model.PayrollRunStatus.FAILED)
+                   or (r.status = org.odoo.backend.model.PayrollRunStatus.RUNNING and r.heartbeatAt < :staleBefore))
+            """)
+    int claim(@Param("runId") UUID runId, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Modifying
+    @Query("""
+            update PayrollRun r set r.heartbeatAt = :now
+            where r.runId in :runIds and r.status = org.odoo.backend.model.PayrollRunStatus.RUNNING
+            """)
+    int heartbeat(@Param("runIds") Collection<UUID> runIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            update PayrollRun r set r.status = :status, r.message = :message, r.finishedAt = :now
+            where r.runId = :runId and r.status = org.odoo.backend.model.PayrollRunStatus.RUNNING
+            """)
+    int finish(@Param("runId") UUID runId, @Param("status") PayrollRunStatus status,
+               @Param("message") String message, @Param("now") LocalDateTime now);
+
+    // Runs whose owner went away (crash, redeploy) or that were never picked up
+    @Query("""
+            select r.runId from PayrollRun r
+            where (r.status = org.odoo.backend.model.PayrollRunStatus.RUNNING and r.heartbeatAt < :staleBefore)
+               or (r.status = org.odoo.backend.model.PayrollRunStatus.QUEUED and r.createdAt < :staleBefore)
+            """)
+    List<UUID> findStalled(@Param("staleBefore") LocalDateTime staleBefore);
+}
@@ -0,0 +1,12 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.Payslip;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface PayslipRepository extends JpaRepository<Payslip, UUID> {
+
+    Optional<Payslip> findByCompanyIdAndUserIdAndPeriod(UUID companyId, UUID userId, int period);
+}
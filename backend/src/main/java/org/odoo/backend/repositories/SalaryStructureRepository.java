@@ -0,0 +1,29 @@
+package org.odoo.backend.repositories;
+
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.SalaryStructure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface SalaryStructureRepository extends JpaRepository<SalaryStructure, UUID> {
+
+    // Structures for one payroll chunk: the employees in (after, last] that are still on the payroll
+    @Query("""
+            select s from SalaryStructure s, JobDetails j
+            where j.user.userId = s.userId
+              and s.companyId = :companyId
+              and j.employeeStatus in :statuses
+              and s.userId > :after and s.userId <= :last
+            """)
+    List<SalaryStructure> findForPayroll(
+            @Param("companyId") UUID companyId,
+            @Param("statuses") Collection<EmployeeStatus> statuses,
+            @Param("after") UUID after,
+            @Param("last") UUID last
+    );
+}
@@ -1,8 +1,18 @@
 package org.odoo.backend.repositories;
 
+import org.odoo.backend.dto.EmployeeDetail;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.model.EmployeeStatus;
 import org.odoo.backend.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +21,58 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByCompany_CompanyIdAndEmployeeId(UUID companyId, String employeeId);
     boolean existsByCompany_CompanyIdAndEmail(String companyId, UUID email);
     Optional<User> findByEmail(String email);
+    boolean existsByUserIdAndCompany_CompanyId(UUID userId, UUID companyId);
+
+    // Compare-and-set so a concurrent password change is never overwritten by a background rehash
+    @Modifying
+    @Transactional
+    @Query("update User u set u.passwordHash = :newHash where u.userId = :userId and u.passwordHash = :oldHash")
+    int updatePasswordHash(@Param("userId") UUID userId, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
+    // Seek on login ID (unique, indexed with company_id): page N costs the same as page 1
+    @Query("""
+            select new org.odoo.backend.dto.EmployeeSummary(
+                u.userId, u.employeeId, u.email, u.role, u.active, p.firstName, p.lastName, p.phone,
+                j.department, j.designation, j.employeeStatus, j.dateOfJoining)
+            from User u
+            left join EmployeeProfile p on p.user = u
+            left join JobDetails j on j.user = u
+            where u.company.companyId = :companyId
+              and u.employeeId > :after
+              and (:department is null or j.department = :department)
+              and (:designation is null or j.designation = :designation)
+              and (:status is null or j.employeeStatus = :status)
+            order by u.employeeId
+            """)
+    List<EmployeeSummary> findDirectoryPage(
+            @Param("companyId") UUID companyId,
+            @Param("after") String after,
+            @Param("department") String department,
+            @Param("designation") String designation,
+            @Param("status") EmployeeStatus status,
+            Limit limit
+    );
+
+    @Query("""
+            select new org.odoo.backend.dto.EmployeeDetail(
+                u.userId, u.employeeId, u.email, u.role, u.active, p.firstName, p.lastName, p.phone,
+                p.address, p.city, p.state, p.country, p.profilePictureUrl,
+                j.department, j.designation, j.employeeStatus, j.dateOfJoining, u.createdAt, u.lastLogin)
+            from User u
+            left join EmployeeProfile p on p.user = u
+            left join JobDetails j on j.user = u
+            where u.company.companyId = :companyId and u.userId = :userId
+            """)
+    Optional<EmployeeDetail> findDirectoryEntry(@Param("companyId") UUID companyId, @Param("userId") UUID userId);
+
+    @Query("""
+            select new org.odoo.backend.dto.EmployeeSummary(
+                u.userId, u.employeeId, u.email, u.role, u.active, p.firstName, p.lastName, p.phone,
+                j.department, j.designation, j.employeeStatus, j.dateOfJoining)
+            from User u
+            left join EmployeeProfile p on p.user = u
+            left join JobDetails j on j.user = u
+            where u.company.companyId = :companyId and u.userId in :userIds
+            """)
+    List<EmployeeSummary> findDirectoryEntries(@Param("companyId") UUID companyId, @Param("userIds") Collection<UUID> userIds);
 }
@@ -0,0 +1,222 @@
+package org.odoo.backend.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/*
+ * Per-company employee search index kept in memory. A company's index is built on its first search;
+ * after that, committed changes are applied incrementally on a single indexer thread, in commit order.
+ * Changes reach it from the JPA listener and from the bulk import, which bypasses JPA.
+ *
+ * Writes that reach neither (plain SQL, another node's cache-less path) are picked up by a periodic
+ * rebuild: an index older than employee-search.max-age is rebuilt on the indexer thread, so it is
+ * ordered with the refreshes around it. Tenants nobody searched for employee-search.idle-timeout are
+ * dropped, and at most employee-search.max-tenants indexes are kept, least recently used evicted first.
+ */
+@Slf4j
+@Component
+public class EmployeeSearchIndex {
+
+    private static final int REFRESH_BATCH = 500;
+
+    private static final class Tenant {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        TenantIndex index; // null until the first search builds it
+        volatile long builtAt;
+        volatile long lastUsedAt = System.currentTimeMillis();
+        volatile boolean rebuildQueued;
+    }
+
+    private final UserRepository userRepository;
+    private final Map<UUID, Tenant> tenants = new ConcurrentHashMap<>();
+    private final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-search-indexer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Timer searchTimer;
+    private final Timer buildTimer;
+    private final long maxAgeMs;
+    private final long idleTimeoutMs;
+    private final int maxTenants;
+
+    public EmployeeSearchIndex(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${employee-search.max-age:3600000}") long maxAgeMs,
+            @Value("${employee-search.idle-timeout:1800000}") long idleTimeoutMs,
+            @Value("${employee-search.max-tenants:500}") int maxTenants
+    ) {
+        this.userRepository = userRepository;
+        this.maxAgeMs = maxAgeMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxTenants = maxTenants;
+        this.searchTimer = Timer.builder("employee.search.duration").register(meterRegistry);
+        this.buildTimer = Timer.builder("employee.search.build.duration").register(meterRegistry);
+        Gauge.builder("employee.search.tenants", this, EmployeeSearchIndex::indexedTenants).register(meterRegistry);
+    }
+
+    public List<EmployeeSummary> search(UUID companyId, String query, EmployeeFilter filter, int limit) {
+        Tenant tenant = tenants.computeIfAbsent(companyId, id -> new Tenant());
+        tenant.lastUsedAt = System.currentTimeMillis();
+        ensureBuilt(companyId, tenant);
+
+        Predicate<EmployeeSummary> predicate = employee ->
+                (filter.department() == null || filter.department().equalsIgnoreCase(employee.department()))
+                        && (filter.designation() == null || filter.designation().equalsIgnoreCase(employee.designation()))
+                        && (filter.status() == null || filter.status() == employee.employeeStatus());
+
+        tenant.lock.readLock().lock();
+        try {
+            return searchTimer.record(() -> tenant.index.search(query, limit, predicate));
+        } finally {
+            tenant.lock.readLock().unlock();
+        }
+    }
+
+    // Re-reads the given users after their transaction committed; users that no longer exist are dropped
+    public void refresh(UUID companyId, Collection<UUID> userIds) {
+        if (!tenants.containsKey(companyId) || userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(userIds);
+        indexer.execute(() -> {
+            try {
+                applyRefresh(companyId, ids);
+            } catch (Exception e) {
+                // a missed update would otherwise stick until restart, so rebuild on next search
+                log.warn("Search index refresh failed for company {}, dropping its index: {}", companyId, e.getMessage());
+                tenants.remove(companyId);
+            }
+        });
+    }
+
+    private void applyRefresh(UUID companyId, List<UUID> userIds) {
+        Tenant tenant = tenants.get(companyId);
+        if (tenant == null) {
+            return;
+        }
+
+        for (int from = 0; from < userIds.size(); from += REFRESH_BATCH) {
+            List<UUID> batch = userIds.subList(from, Math.min(from + REFRESH_BATCH, userIds.size()));
+            List<EmployeeSummary> current = userRepository.findDirectoryEntries(companyId, batch);
+
+            tenant.lock.writeLock().lock();
+            try {
+                // not built yet: the build will read these rows itself
+                if (tenant.index == null) {
+                    return;
+                }
+                Set<UUID> missing = new HashSet<>(batch);
+                for (EmployeeSummary employee : current) {
+                    tenant.index.upsert(employee);
+                    missing.remove(employee.userId());
+                }
+                missing.forEach(tenant.index::remove);
+                if (tenant.index.needsCompaction()) {
+                    tenant.index = tenant.index.compact();
+                }
+            } finally {
+                tenant.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee-search.sweep-interval:60000}")
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        tenants.entrySet().removeIf(entry -> now - entry.getValue().lastUsedAt > idleTimeoutMs);
+
+        if (tenants.size() > maxTenants) {
+            tenants.entrySet().stream()
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsedAt))
+                    .limit(tenants.size() - maxTenants)
+                    .toList()
+                    .forEach(entry -> tenants.remove(entry.getKey(), entry.getValue()));
+        }
+
+        tenants.forEach((companyId, tenant) -> {
+            if (tenant.builtAt > 0 && now - tenant.builtAt > maxAgeMs && !tenant.rebuildQueued) {
+                tenant.rebuildQueued = true;
+                indexer.execute(() -> rebuild(companyId, tenant));
+            }
+        });
+    }
+
+    public int indexedTenants() {
+        return tenants.size();
+    }
+
+    // Runs on the indexer thread: refreshes queued before it are applied first, later ones after the swap
+    private void rebuild(UUID companyId, Tenant tenant) {
+        try {
+            TenantIndex fresh = buildTimer.record(() -> build(companyId));
+            tenant.lock.writeLock().lock();
+            try {
+                tenant.index = fresh;
+                tenant.builtAt = System.currentTimeMillis();
+            } finally {
+                tenant.lock.writeLock().unlock();
+            }
+            log.debug("Rebuilt employee search index for company {} with {} employees", companyId, fresh.size());
+        } catch (Exception e) {
+            log.warn("Search index rebuild failed for company {}, dropping its index: {}", companyId, e.getMessage());
+            tenants.remove(companyId, tenant);
+        } finally {
+            tenant.rebuildQueued = false;
+        }
+    }
+
+    private void ensureBuilt(UUID companyId, Tenant tenant) {
+        tenant.lock.readLock().lock();
+        try {
+            if (tenant.index != null) {
+                return;
+            }
+        } finally {
+            tenant.lock.readLock().unlock();
+        }
+
+        // refreshes queue behind the write lock, so nothing committed during the build is lost
+        tenant.lock.writeLock().lock();
+        try {
+            if (tenant.index == null) {
+                tenant.index = buildTimer.record(() -> build(companyId));
+                tenant.builtAt = System.currentTimeMillis();
+                log.info("Built employee search index for company {} with {} employees", companyId, tenant.index.size());
+            }
+        } finally {
+            tenant.lock.writeLock().unlock();
+        }
+    }
+
+    private TenantIndex build(UUID companyId) {
+        TenantIndex index = new TenantIndex();
+        userRepository.findDirectoryPage(companyId, "", null, null, null, Limit.unlimited())
+                .forEach(index::upsert);
+        index.trim();
+        return index;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        indexer.shutdownNow();
+    }
+}
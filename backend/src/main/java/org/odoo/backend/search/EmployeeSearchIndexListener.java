@@ -0,0 +1,79 @@
+package org.odoo.backend.search;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.EmployeeProfile;
+import org.odoo.backend.model.JobDetails;
+import org.odoo.backend.model.User;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+// Collects the users touched in a transaction and hands them to the search index once it commits
+@Component
+@RequiredArgsConstructor
+public class EmployeeSearchIndexListener {
+
+    // resolved lazily: the index needs UserRepository, which needs the EntityManagerFactory that creates this listener
+    private final ObjectProvider<EmployeeSearchIndex> searchIndex;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        switch (entity) {
+            case User user -> changed(user.getCompany(), user);
+            // the row's own company_id first: going through the lazy user would load it
+            case EmployeeProfile profile -> changed(profile.getCompany(), profile.getUser());
+            case JobDetails jobDetails -> changed(jobDetails.getCompany(), jobDetails.getUser());
+            default -> {
+            }
+        }
+    }
+
+    private void changed(Company company, User user) {
+        if (user == null) {
+            return;
+        }
+        Company owner = company != null ? company : user.getCompany();
+        if (owner == null) {
+            return;
+        }
+        // ids come straight off uninitialized proxies, no query
+        changed(owner.getCompanyId(), user.getUserId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void changed(UUID companyId, UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            searchIndex.getObject().refresh(companyId, List.of(userId));
+            return;
+        }
+
+        Map<UUID, Set<UUID>> pending = (Map<UUID, Set<UUID>>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<UUID, Set<UUID>> touched = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, touched);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    EmployeeSearchIndex index = searchIndex.getObject();
+                    touched.forEach(index::refresh);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeSearchIndexListener.this);
+                }
+            });
+            pending = touched;
+        }
+        pending.computeIfAbsent(companyId, id -> new HashSet<>()).add(userId);
+    }
+}
@@ -0,0 +1,61 @@
+package org.odoo.backend.search;
+
+import java.util.Arrays;
+
+// Append-only sorted list of doc ids backed by an int[]; doc ids only ever grow, so appends keep it sorted
+final class IntPostings {
+
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int docId) {
+        // a doc can produce the same term or trigram more than once
+        if (size > 0 && ids[size - 1] == docId) {
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+        }
+        ids[size++] = docId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    void trim() {
+        if (ids.length != size) {
+            ids = Arrays.copyOf(ids, size);
+        }
+    }
+
+    // Linear merge of two sorted lists; the result is sorted as well
+    static int[] intersect(int[] left, int leftSize, IntPostings right) {
+        int[] out = new int[Math.min(leftSize, right.size)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < leftSize && j < right.size) {
+            int a = left[i];
+            int b = right.ids[j];
+            if (a == b) {
+                out[n++] = a;
+                i++;
+                j++;
+            } else if (a < b) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return n == out.length ? out : Arrays.copyOf(out, n);
+    }
+
+    int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+}
@@ -0,0 +1,221 @@
+package org.odoo.backend.search;
+
+import org.odoo.backend.dto.EmployeeSummary;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/*
+ * Search index for one company. Doc ids are positions in an append-only list; an update appends a new
+ * doc and tombstones the old one, so posting lists never have to be rewritten in place.
+ * Terms live in a sorted dictionary for prefix lookups, and every term of 3+ characters is also
+ * split into trigrams so a query can match inside a word ("ohn" finds "john").
+ * Not thread-safe: EmployeeSearchIndex guards each instance with a read/write lock.
+ */
+final class TenantIndex {
+
+    private static final int MAX_QUERY_TOKENS = 8;
+    private static final int EXACT_SCORE = 4;
+    private static final int PREFIX_SCORE = 2;
+    private static final int INFIX_SCORE = 1;
+
+    private record Doc(EmployeeSummary employee, String[] terms, String sortKey) {
+    }
+
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<UUID, Integer> docByUser = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private final NavigableMap<String, IntPostings> terms = new TreeMap<>();
+    private final Map<Long, IntPostings> trigrams = new HashMap<>();
+
+    void upsert(EmployeeSummary employee) {
+        remove(employee.userId());
+
+        int docId = docs.size();
+        String[] docTerms = tokenize(
+                employee.firstName(),
+                employee.lastName(),
+                employee.email(),
+                employee.employeeId(),
+                employee.department(),
+                employee.designation()
+        ).toArray(String[]::new);
+        String sortKey = (Objects.toString(employee.firstName(), "") + " " + Objects.toString(employee.lastName(), ""))
+                .toLowerCase(Locale.ROOT);
+
+        docs.add(new Doc(employee, docTerms, sortKey));
+        docByUser.put(employee.userId(), docId);
+
+        for (String term : docTerms) {
+            terms.computeIfAbsent(term, t -> new IntPostings()).add(docId);
+            for (int i = 0; i + 3 <= term.length(); i++) {
+                trigrams.computeIfAbsent(trigram(term, i), t -> new IntPostings()).add(docId);
+            }
+        }
+    }
+
+    void remove(UUID userId) {
+        Integer docId = docByUser.remove(userId);
+        if (docId != null) {
+            deleted.set(docId);
+        }
+    }
+
+    boolean needsCompaction() {
+        int tombstones = deleted.cardinality();
+        return tombstones > 1024 && tombstones > docs.size() / 4;
+    }
+
+    // Rebuilds from live docs only, dropping tombstones and dead postings
+    TenantIndex compact() {
+        TenantIndex compacted = new TenantIndex();
+        for (int docId = 0; docId < docs.size(); docId++) {
+            if (!deleted.get(docId)) {
+                compacted.upsert(docs.get(docId).employee());
+            }
+        }
+        compacted.trim();
+        return compacted;
+    }
+
+    void trim() {
+        terms.values().forEach(IntPostings::trim);
+        trigrams.values().forEach(IntPostings::trim);
+    }
+
+    int size() {
+        return docByUser.size();
+    }
+
+    /*
+     * Every query token has to match (AND). Per token a doc scores once, with the best way it matched:
+     * exact term, term prefix, or substring via trigram candidates that are then verified.
+     */
+    List<EmployeeSummary> search(String query, int limit, Predicate<EmployeeSummary> filter) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || docs.isEmpty()) {
+            return List.of();
+        }
+        if (tokens.size() > MAX_QUERY_TOKENS) {
+            tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+        }
+
+        int docCount = docs.size();
+        byte[] matched = new byte[docCount];
+        int[] scores = new int[docCount];
+
+        for (int k = 0; k < tokens.size(); k++) {
+            String token = tokens.get(k);
+            int hits = 0;
+
+            // the exact term sorts first in the prefix range, so it claims the higher score
+            for (Map.Entry<String, IntPostings> entry : terms.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                int score = entry.getKey().length() == token.length() ? EXACT_SCORE : PREFIX_SCORE;
+                IntPostings postings = entry.getValue();
+                for (int i = 0; i < postings.size(); i++) {
+                    int docId = postings.get(i);
+                    if (matched[docId] == k) {
+                        matched[docId] = (byte) (k + 1);
+                        scores[docId] += score;
+                        hits++;
+                    }
+                }
+            }
+
+            if (token.length() >= 3) {
+                hits += matchInfix(token, k, matched, scores);
+            }
+            if (hits == 0) {
+                return List.of();
+            }
+        }
+
+        int required = tokens.size();
+        PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int byScore = Integer.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : docs.get(b).sortKey().compareTo(docs.get(a).sortKey());
+        });
+        for (int docId = 0; docId < docCount; docId++) {
+            if (matched[docId] != required || deleted.get(docId) || !filter.test(docs.get(docId).employee())) {
+                continue;
+            }
+            top.offer(docId);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<EmployeeSummary> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(docs.get(top.poll()).employee());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    private int matchInfix(String token, int k, byte[] matched, int[] scores) {
+        int[] candidates = null;
+        int candidateCount = 0;
+        for (int i = 0; i + 3 <= token.length(); i++) {
+            IntPostings postings = trigrams.get(trigram(token, i));
+            if (postings == null) {
+                return 0;
+            }
+            if (candidates == null) {
+                candidates = postings.toArray();
+            } else {
+                candidates = IntPostings.intersect(candidates, candidateCount, postings);
+            }
+            candidateCount = candidates.length;
+            if (candidateCount == 0) {
+                return 0;
+            }
+        }
+
+        int hits = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int docId = candidates[i];
+            // trigrams can all be present without being adjacent, so confirm the substring
+            if (matched[docId] == k && containsInfix(docs.get(docId).terms(), token)) {
+                matched[docId] = (byte) (k + 1);
+                scores[docId] += INFIX_SCORE;
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static boolean containsInfix(String[] docTerms, String token) {
+        for (String term : docTerms) {
+            if (term.contains(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long trigram(String term, int offset) {
+        return ((long) term.charAt(offset) << 32) | ((long) term.charAt(offset + 1) << 16) | term.charAt(offset + 2);
+    }
+
+    // Lower-cased runs of letters and digits: "OI-JD-2024-0001" -> oi, jd, 2024, 0001
+    static List<String> tokenize(String... values) {
+        List<String> tokens = new ArrayList<>();
+        for (String value : values) {
+            if (value == null) {
+                continue;
+            }
+            int start = -1;
+            for (int i = 0; i <= value.length(); i++) {
+                boolean wordChar = i < value.length() && Character.isLetterOrDigit(value.charAt(i));
+                if (wordChar && start < 0) {
+                    start = i;
+                } else if (!wordChar && start >= 0) {
+                    tokens.add(value.substring(start, i).toLowerCase(Locale.ROOT));
+                    start = -1;
+                }
+            }
+        }
+        return tokens;
+    }
+}
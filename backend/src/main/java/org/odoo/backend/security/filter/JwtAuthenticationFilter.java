@@ -1,15 +1,16 @@
 package org.odoo.backend.security.filter;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.odoo.backend.model.User;
 import org.odoo.backend.model.UserRole;
 import org.odoo.backend.repositories.UserRepository;
 import org.odoo.backend.security.jwt.JwtService;
+import org.odoo.backend.security.jwt.TokenClaims;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.odoo.backend.security.principal.PrincipalCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(
@@ -43,28 +45,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = authHeader.substring(7);
 
-            Claims claims = jwtService.extractClaims(token);
+            TokenClaims claims = jwtService.parseToken(token);
 
-            UUID userId = UUID.fromString(claims.getSubject());
-            UUID companyId = UUID.fromString(
-                    claims.get("companyId", String.class)
-            );
+            UUID userId = claims.userId();
+            UUID companyId = claims.companyId();
+            UserRole role = claims.role();
 
-            UserRole role = UserRole.valueOf(
-                    claims.get("role", String.class)
+            AuthenticatedPrincipal principal = principalCache.get(userId, id ->
+                    userRepository.findById(id)
+                            .map(AuthenticatedPrincipal::from)
+                            .orElseThrow(() -> new RuntimeException("User not found"))
             );
 
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-
             // HARD TENANT CHECK (CORRECT)
-            if (!user.getCompany().getCompanyId().equals(companyId)) {
+            if (!principal.companyId().equals(companyId)) {
                 throw new RuntimeException("Tenant violation detected");
             }
 
+            if (!principal.active()) {
+                throw new RuntimeException("Account disabled");
+            }
+
+            // a token minted before a role change must not keep granting the old role
+            if (principal.role() != role) {
+                throw new RuntimeException("Role changed");
+            }
+
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            user,
+                            principal,
                             null,
                             List.of(new SimpleGrantedAuthority(role.name()))
                     );
@@ -0,0 +1,289 @@
+package org.odoo.backend.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/*
+ * HMAC keys shared by every node, identified by kid.
+ *  - security.jwt.keys      inline "kid:base64secret" pairs, comma separated
+ *  - security.jwt.key-dir   directory of <kid>.key files holding a base64 secret
+ * Tokens are signed with security.jwt.signing-kid, or the most recently published key when it is not set,
+ * and verified with any key in the ring. Inline keys count as published long ago, key files as of their
+ * mtime. The directory is re-read on a schedule, so no restart is needed.
+ *
+ * Rotation: with security.jwt.rotation-interval set, a node that finds the newest key file older than
+ * the interval writes a fresh rotated-<timestamp>.key into the shared directory. A new file only becomes
+ * the signing key once it has been visible for one reload interval, so every node can verify it first.
+ * A rotated file is deleted once the key published after it has been signing for key-overlap (files an
+ * operator put there are never deleted), and a key that leaves the ring keeps verifying for
+ * security.jwt.key-overlap (default: the token lifetime) on every node.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String KEY_FILE_SUFFIX = ".key";
+    private static final String ROTATED_KID_PREFIX = "rotated-";
+    private static final Pattern ROTATED_KID = Pattern.compile(ROTATED_KID_PREFIX + "\\d{14}");
+    private static final DateTimeFormatter ROTATED_KID_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMddHHmmss").withZone(ZoneOffset.UTC);
+    // publication order; kids only break ties between files written in the same mtime tick
+    private static final Comparator<Map.Entry<String, Instant>> BY_PUBLISHED =
+            Map.Entry.<String, Instant>comparingByValue().thenComparing(Map.Entry.comparingByKey());
+
+    @Value("${security.jwt.keys:}")
+    private String inlineKeys;
+
+    @Value("${security.jwt.key-dir:}")
+    private String keyDir;
+
+    @Value("${security.jwt.signing-kid:}")
+    private String signingKid;
+
+    @Value("${security.jwt.key-reload-interval:60000}")
+    private long reloadIntervalMillis;
+
+    @Value("${security.jwt.rotation-interval:0}")
+    private long rotationIntervalMillis;
+
+    @Value("${security.jwt.key-overlap:3600000}")
+    private long overlapMillis;
+
+    private volatile KeySet keySet;
+
+    // kids that left the ring, still accepted for verification until the instant they map to
+    private volatile Map<String, RetiredKey> retired = Map.of();
+
+    private record KeySet(Map<String, SecretKey> keys, String signingKid) {
+    }
+
+    private record RetiredKey(SecretKey key, Instant until) {
+    }
+
+    private record KeyFile(SecretKey key, Instant publishedAt) {
+    }
+
+    public record SigningKey(String kid, SecretKey key) {
+    }
+
+    @PostConstruct
+    void init() {
+        if (rotationIntervalMillis > 0 && !keyDir.isBlank()) {
+            rotateKeyDir(Path.of(keyDir));
+        }
+        KeySet loaded = load();
+        if (loaded.keys().isEmpty()) {
+            // Local development fallback: behaves like the old per-JVM key, tokens die on restart
+            String kid = "ephemeral-" + UUID.randomUUID();
+            log.warn("No JWT keys configured (security.jwt.keys / security.jwt.key-dir), using ephemeral key {}", kid);
+            loaded = new KeySet(Map.of(kid, Jwts.SIG.HS256.key().build()), kid);
+        }
+        keySet = loaded;
+        log.info("JWT key ring loaded with kids {}, signing with {}", loaded.keys().keySet(), loaded.signingKid());
+    }
+
+    @Scheduled(
+            initialDelayString = "${security.jwt.key-reload-interval:60000}",
+            fixedDelayString = "${security.jwt.key-reload-interval:60000}"
+    )
+    public synchronized void reload() {
+        if (keyDir.isBlank()) {
+            return;
+        }
+        try {
+            if (rotationIntervalMillis > 0) {
+                rotateKeyDir(Path.of(keyDir));
+            }
+            KeySet loaded = load();
+            if (loaded.keys().isEmpty()) {
+                log.warn("JWT key ring reload found no keys, keeping the current ring");
+                return;
+            }
+            if (!loaded.keys().keySet().equals(keySet.keys().keySet())
+                    || !loaded.signingKid().equals(keySet.signingKid())) {
+                log.info("JWT key ring rotated to kids {}, signing with {}", loaded.keys().keySet(), loaded.signingKid());
+            }
+            retire(keySet, loaded);
+            keySet = loaded;
+        } catch (RuntimeException e) {
+            log.error("JWT key ring reload failed, keeping the current ring: {}", e.getMessage());
+        }
+    }
+
+    // Keys dropped from the ring keep verifying for the overlap window, so tokens already issued stay valid
+    private void retire(KeySet previous, KeySet next) {
+        Instant now = Instant.now();
+        Map<String, RetiredKey> updated = new HashMap<>();
+        retired.forEach((kid, key) -> {
+            if (key.until().isAfter(now) && !next.keys().containsKey(kid)) {
+                updated.put(kid, key);
+            }
+        });
+        previous.keys().forEach((kid, key) -> {
+            if (!next.keys().containsKey(kid)) {
+                log.info("JWT key {} left the ring, verifying with it for another {} ms", kid, overlapMillis);
+                updated.put(kid, new RetiredKey(key, now.plusMillis(overlapMillis)));
+            }
+        });
+        retired = Map.copyOf(updated);
+    }
+
+    private void rotateKeyDir(Path dir) {
+        Instant now = Instant.now();
+        Map<String, KeyFile> files = readKeyDir(dir);
+        Instant newest = files.values().stream().map(KeyFile::publishedAt).max(Instant::compareTo).orElse(Instant.EPOCH);
+
+        if (newest.plusMillis(rotationIntervalMillis).isBefore(now)) {
+            String kid = ROTATED_KID_PREFIX + ROTATED_KID_FORMAT.format(now);
+            byte[] secret = Jwts.SIG.HS256.key().build().getEncoded();
+            try {
+                // CREATE_NEW: when two nodes rotate in the same second, the first file wins
+                Files.writeString(dir.resolve(kid + KEY_FILE_SUFFIX),
+                        Base64.getEncoder().encodeToString(secret),
+                        StandardCharsets.US_ASCII, StandardOpenOption.CREATE_NEW);
+                log.info("JWT key {} published, signing with it after the next reload", kid);
+            } catch (FileAlreadyExistsException e) {
+                log.debug("JWT key {} was already published by another node", kid);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not publish a JWT key to " + dir, e);
+            }
+        }
+
+        // a rotated key stops signing once its successor is visible; its tokens are gone after the overlap
+        Instant expired = now.minusMillis(reloadIntervalMillis + overlapMillis);
+        List<Map.Entry<String, Instant>> byPublished = files.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().publishedAt()))
+                .sorted(BY_PUBLISHED)
+                .toList();
+        for (int i = 0; i < byPublished.size() - 1; i++) {
+            String kid = byPublished.get(i).getKey();
+            Instant successorPublished = byPublished.get(i + 1).getValue();
+            if (ROTATED_KID.matcher(kid).matches() && !kid.equals(signingKid) && successorPublished.isBefore(expired)) {
+                try {
+                    Files.deleteIfExists(dir.resolve(kid + KEY_FILE_SUFFIX));
+                    log.info("JWT key {} expired and was removed from {}", kid, dir);
+                } catch (IOException e) {
+                    log.warn("Could not remove expired JWT key {}: {}", kid, e.getMessage());
+                }
+            }
+        }
+    }
+
+    public SigningKey signingKey() {
+        KeySet current = keySet;
+        return new SigningKey(current.signingKid(), current.keys().get(current.signingKid()));
+    }
+
+    public SecretKey verificationKey(String kid) {
+        if (kid == null) {
+            return null;
+        }
+        SecretKey key = keySet.keys().get(kid);
+        if (key != null) {
+            return key;
+        }
+        RetiredKey retiredKey = retired.get(kid);
+        return retiredKey != null && retiredKey.until().isAfter(Instant.now()) ? retiredKey.key() : null;
+    }
+
+    public boolean isActive(String kid) {
+        return verificationKey(kid) != null;
+    }
+
+    private KeySet load() {
+        Map<String, SecretKey> keys = new TreeMap<>();
+        // inline keys count as published long ago
+        Map<String, Instant> published = new HashMap<>();
+
+        if (!inlineKeys.isBlank()) {
+            for (String entry : inlineKeys.split(",")) {
+                String trimmed = entry.trim();
+                int separator = trimmed.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalStateException("Invalid security.jwt.keys entry, expected kid:base64secret");
+                }
+                String kid = trimmed.substring(0, separator);
+                keys.put(kid, toKey(trimmed.substring(separator + 1)));
+                published.put(kid, Instant.EPOCH);
+            }
+        }
+
+        if (!keyDir.isBlank()) {
+            readKeyDir(Path.of(keyDir)).forEach((kid, file) -> {
+                keys.put(kid, file.key());
+                published.put(kid, file.publishedAt());
+            });
+        }
+
+        if (keys.isEmpty()) {
+            return new KeySet(Map.of(), null);
+        }
+
+        String kid = signingKid.isBlank() ? newestPublishedKid(published) : signingKid;
+        if (!keys.containsKey(kid)) {
+            throw new IllegalStateException("Signing kid " + kid + " is not in the JWT key ring");
+        }
+        return new KeySet(Collections.unmodifiableMap(keys), kid);
+    }
+
+    // Most recently published kid that every node has had a chance to load; the newest key when none qualifies yet
+    private String newestPublishedKid(Map<String, Instant> published) {
+        Instant visibleBefore = Instant.now().minusMillis(reloadIntervalMillis);
+        List<Map.Entry<String, Instant>> byPublished = published.entrySet().stream().sorted(BY_PUBLISHED).toList();
+        for (Map.Entry<String, Instant> entry : byPublished.reversed()) {
+            if (!entry.getValue().isAfter(visibleBefore)) {
+                return entry.getKey();
+            }
+        }
+        return byPublished.getLast().getKey();
+    }
+
+    private Map<String, KeyFile> readKeyDir(Path dir) {
+        Map<String, KeyFile> keys = new TreeMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*" + KEY_FILE_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String kid = name.substring(0, name.length() - KEY_FILE_SUFFIX.length());
+                keys.put(kid, new KeyFile(
+                        toKey(Files.readString(file, StandardCharsets.US_ASCII)),
+                        Files.getLastModifiedTime(file).toInstant()
+                ));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read JWT keys from " + dir, e);
+        }
+        return keys;
+    }
+
+    private static SecretKey toKey(String base64Secret) {
+        // rejects secrets shorter than 256 bits
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret.trim()));
+    }
+}
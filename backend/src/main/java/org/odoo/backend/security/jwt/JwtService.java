@@ -1,22 +1,82 @@
 package org.odoo.backend.security.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.odoo.backend.model.UserRole;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
-import java.util.Map;
 import java.util.UUID;
 
 @Service
 public class JwtService {
 
     private static final long EXPIRATION_TIME = 60 * 60 * 1000; // 1 hour
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+    private final JwtKeyRing keyRing;
+
+    // JwtParser is immutable and thread-safe, so one instance serves every request;
+    // the verification key is picked from the ring by the token's kid header
+    private final JwtParser parser;
+
+    // Already verified tokens keyed by SHA-256 digest, each entry dropped at the token's exp
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    public JwtService(
+            JwtKeyRing keyRing,
+            MeterRegistry meterRegistry,
+            @Value("${security.token-cache.max-size:20000}") long maxSize
+    ) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        SecretKey key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, TokenClaims claims, long currentTime) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, TokenClaims claims, long currentTime, long currentDuration) {
+                        return nanosUntilExpiry(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, TokenClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokenCache");
+    }
 
     public String generateToken(
             UUID userId,
@@ -24,42 +84,74 @@ public class JwtService {
             UserRole role,
             String email
     ) {
+        JwtKeyRing.SigningKey signingKey = keyRing.signingKey();
+
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .subject(String.valueOf(userId))
                 .claim("companyId", companyId.toString())
                 .claim("role", role.name())
                 .claim("email" , email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(key)
+                .signWith(signingKey.key())
                 .compact();
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) key)
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    public UUID extractUserId(String token) {
-        return UUID.fromString(
-                extractClaims(token).getSubject()
+    // Single parse + verification for everything the filter needs, served from cache on repeat calls
+    public TokenClaims parseToken(String token) {
+        String digest = digest(token);
+
+        TokenClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now()) && keyRing.isActive(cached.keyId())) {
+            return cached;
+        }
+
+        Jws<Claims> jws = parser.parseSignedClaims(token);
+        Claims claims = jws.getPayload();
+        TokenClaims tokenClaims = new TokenClaims(
+                jws.getHeader().getKeyId(),
+                UUID.fromString(claims.getSubject()),
+                UUID.fromString(claims.get("companyId", String.class)),
+                UserRole.valueOf(claims.get("role", String.class)),
+                claims.get("email", String.class),
+                claims.getExpiration().toInstant()
         );
+
+        verifiedTokens.put(digest, tokenClaims);
+        return tokenClaims;
+    }
+
+    public UUID extractUserId(String token) {
+        return parseToken(token).userId();
     }
 
     public UUID extractCompanyId(String token) {
-        return UUID.fromString(
-                extractClaims(token).get("companyId", String.class)
-        );
+        return parseToken(token).companyId();
     }
 
     public UserRole extractRole(String token) {
-        return UserRole.valueOf(
-                extractClaims(token).get("role", String.class)
-        );
+        return parseToken(token).role();
     }
 
+    private static long nanosUntilExpiry(TokenClaims claims) {
+        long millis = claims.expiresAt().toEpochMilli() - System.currentTimeMillis();
+        return Math.max(0, millis) * 1_000_000L;
+    }
 
-}
\ No newline at end of file
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package org.odoo.backend.security.jwt;
+
+import org.odoo.backend.model.UserRole;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TokenClaims(
+        String keyId,
+        UUID userId,
+        UUID companyId,
+        UserRole role,
+        String email,
+        Instant expiresAt
+) {
+}
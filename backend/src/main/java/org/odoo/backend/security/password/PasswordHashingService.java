@@ -0,0 +1,191 @@
+package org.odoo.backend.security.password;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Runs BCrypt on a bounded pool so a login burst cannot take every request thread's CPU
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final int queueCapacity;
+    private final long waitTimeoutMs;
+
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter upgradedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.hashing.threads:0}") int threads,
+            @Value("${security.password.hashing.queue-capacity:200}") int queueCapacity,
+            @Value("${security.password.hashing.wait-timeout:5000}") long waitTimeoutMs,
+            @Value("${security.password.hashing.bulk-threads:0}") int bulkThreads,
+            @Value("${security.password.hashing.bulk-queue-capacity:64}") int bulkQueueCapacity
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        // default: leave half the cores for everything else
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // bulk imports get their own, smaller pool so a large file never queues ahead of interactive logins
+        // or takes the cores they need; when its queue is full the importing thread hashes the row itself
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, poolSize / 2);
+        AtomicInteger bulkThreadCount = new AtomicInteger();
+        this.bulkExecutor = new ThreadPoolExecutor(
+                bulkPoolSize,
+                bulkPoolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-bulk-hasher-" + bulkThreadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.hashing.duration").tag("operation", "encode").register(meterRegistry);
+        this.matchTimer = Timer.builder("password.hashing.duration").tag("operation", "matches").register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected").register(meterRegistry);
+        this.upgradedCounter = Counter.builder("password.hashing.upgraded").register(meterRegistry);
+        Gauge.builder("password.hashing.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("password.hashing.bulk.queue.depth", bulkExecutor, e -> e.getQueue().size()).register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return submitAndWait(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    // Hashes a whole import chunk in parallel; results keep the input order
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<Callable<String>> tasks = new ArrayList<>(rawPasswords.size());
+        for (String rawPassword : rawPasswords) {
+            tasks.add(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        }
+
+        try {
+            List<String> hashes = new ArrayList<>(rawPasswords.size());
+            for (Future<String> future : bulkExecutor.invokeAll(tasks)) {
+                hashes.add(future.get());
+            }
+            return hashes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bulk password hashing was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Bulk password hashing failed", e.getCause());
+        }
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submitAndWait(() -> matchTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // Rehash in the background when the stored hash has an old cost factor or no {bcrypt} prefix
+    public void upgradeIfNeeded(UUID userId, String rawPassword, String storedHash) {
+        if (!passwordEncoder.upgradeEncoding(storedHash)) {
+            return;
+        }
+
+        // upgrades are optional work, never let them push logins out of the queue
+        if (executor.getQueue().size() > queueCapacity / 2) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    String newHash = encodeTimer.record(() -> passwordEncoder.encode(rawPassword));
+                    if (userRepository.updatePasswordHash(userId, storedHash, newHash) == 1) {
+                        upgradedCounter.increment();
+                    }
+                } catch (Exception e) {
+                    log.warn("Password hash upgrade failed for user {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Skipping password hash upgrade for user {}, hashing pool is full", userId);
+        }
+    }
+
+    private <T> T submitAndWait(Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Too many concurrent authentication requests, please retry shortly");
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Authentication is taking too long, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Authentication was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+}
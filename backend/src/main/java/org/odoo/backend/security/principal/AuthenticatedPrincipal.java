@@ -0,0 +1,24 @@
+package org.odoo.backend.security.principal;
+
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+
+import java.util.UUID;
+
+// Immutable snapshot of the fields the security layer needs, cached instead of the User entity
+public record AuthenticatedPrincipal(
+        UUID userId,
+        UUID companyId,
+        UserRole role,
+        boolean active
+) {
+
+    public static AuthenticatedPrincipal from(User user) {
+        return new AuthenticatedPrincipal(
+                user.getUserId(),
+                user.getCompany().getCompanyId(),
+                user.getRole(),
+                user.isActive()
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package org.odoo.backend.security.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.odoo.backend.common.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+// Limits for the public auth endpoints: per client IP, per login identity and per email
+@Component
+public class AuthRateLimiter {
+
+    private final Map<String, TokenBucketRateLimiter> limiters;
+    private final Map<String, Counter> allowed;
+    private final Map<String, Counter> rejected;
+
+    @Value("${security.rate-limit.idle-timeout:600000}")
+    private long idleTimeoutMs;
+
+    public AuthRateLimiter(
+            MeterRegistry meterRegistry,
+            @Value("${security.rate-limit.slots:65536}") int slots,
+            @Value("${security.rate-limit.ip.capacity:60}") long ipCapacity,
+            @Value("${security.rate-limit.ip.refill-per-second:1}") double ipRefill,
+            @Value("${security.rate-limit.login.capacity:5}") long loginCapacity,
+            @Value("${security.rate-limit.login.refill-per-second:0.05}") double loginRefill,
+            @Value("${security.rate-limit.email.capacity:3}") long emailCapacity,
+            @Value("${security.rate-limit.email.refill-per-second:0.0167}") double emailRefill
+    ) {
+        this.limiters = Map.of(
+                "ip", new TokenBucketRateLimiter(slots, ipCapacity, ipRefill),
+                "login", new TokenBucketRateLimiter(slots, loginCapacity, loginRefill),
+                "email", new TokenBucketRateLimiter(slots, emailCapacity, emailRefill)
+        );
+        this.allowed = Map.of(
+                "ip", counter(meterRegistry, "ip", "allowed"),
+                "login", counter(meterRegistry, "login", "allowed"),
+                "email", counter(meterRegistry, "email", "allowed")
+        );
+        this.rejected = Map.of(
+                "ip", counter(meterRegistry, "ip", "rejected"),
+                "login", counter(meterRegistry, "login", "rejected"),
+                "email", counter(meterRegistry, "email", "rejected")
+        );
+        limiters.forEach((dimension, limiter) -> Gauge.builder("auth.ratelimit.active.buckets", limiter, TokenBucketRateLimiter::activeSlots)
+                .tag("dimension", dimension)
+                .register(meterRegistry));
+    }
+
+    public void checkIp(String ip) {
+        check("ip", ip);
+    }
+
+    public void checkLogin(UUID companyId, String employeeId) {
+        check("login", companyId + ":" + employeeId.toUpperCase(Locale.ROOT));
+    }
+
+    public void checkEmail(String email) {
+        if (email == null) {
+            return;
+        }
+        check("email", email.toLowerCase(Locale.ROOT));
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval:60000}")
+    public void evictIdleBuckets() {
+        limiters.values().forEach(limiter -> limiter.evictIdle(idleTimeoutMs));
+    }
+
+    private void check(String dimension, String key) {
+        long waitMs = limiters.get(dimension).tryAcquire(key);
+        if (waitMs == 0) {
+            allowed.get(dimension).increment();
+            return;
+        }
+        rejected.get(dimension).increment();
+        throw new RateLimitExceededException(
+                "Too many requests, please try again later",
+                Math.max(1, (waitMs + 999) / 1000)
+        );
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String dimension, String outcome) {
+        return Counter.builder("auth.ratelimit.requests")
+                .tag("dimension", dimension)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
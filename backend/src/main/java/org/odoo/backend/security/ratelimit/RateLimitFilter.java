@@ -0,0 +1,55 @@
+package org.odoo.backend.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.odoo.backend.common.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/*
+ * Per-IP throttling of /api/public/**; identity-based limits are applied in the auth controllers.
+ * The remote address is already resolved from X-Forwarded-For by the container
+ * (server.forward-headers-strategy), which only trusts server.tomcat.remoteip.internal-proxies.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final AuthRateLimiter authRateLimiter;
+    private final HandlerExceptionResolver exceptionResolver;
+
+    public RateLimitFilter(
+            AuthRateLimiter authRateLimiter,
+            @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver
+    ) {
+        this.authRateLimiter = authRateLimiter;
+        this.exceptionResolver = exceptionResolver;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/public/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            authRateLimiter.checkIp(request.getRemoteAddr());
+        } catch (RateLimitExceededException ex) {
+            // hand over to GlobalExceptionHandler so the 429 body looks like every other error
+            exceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,103 @@
+package org.odoo.backend.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Fixed-size table of token buckets updated with CAS only, no locks and no per-key allocation.
+ * A key is hashed to one slot, so memory never grows with the number of clients; two keys that
+ * collide share a bucket, which only ever makes the limit stricter.
+ *
+ * Each slot packs one long: upper 40 bits = last refill time (ms since the limiter started),
+ * lower 24 bits = available tokens in thousandths. 0 means "unused" and reads as a full bucket.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long capacityMilli;
+    // refill in milli-tokens per millisecond, numerically equal to tokens per second
+    private final double refillRate;
+    private final long epochMs = System.currentTimeMillis() - 1;
+
+    public TokenBucketRateLimiter(int slotCount, long capacity, double refillPerSecond) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("slotCount must be a power of two");
+        }
+        if (capacity * MILLI > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity too large");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+        this.slots = new AtomicLongArray(slotCount);
+        this.mask = slotCount - 1;
+        this.capacityMilli = capacity * MILLI;
+        this.refillRate = refillPerSecond;
+    }
+
+    // 0 when a token was taken, otherwise the milliseconds until one is available
+    public long tryAcquire(String key) {
+        int index = indexOf(key);
+        while (true) {
+            long now = System.currentTimeMillis() - epochMs;
+            long state = slots.get(index);
+
+            long tokens;
+            long lastRefill;
+            if (state == 0) {
+                tokens = capacityMilli;
+                lastRefill = now;
+            } else {
+                tokens = state & TOKEN_MASK;
+                lastRefill = state >>> TOKEN_BITS;
+                long refill = (long) ((now - lastRefill) * refillRate);
+                if (refill > 0) {
+                    tokens = Math.min(capacityMilli, tokens + refill);
+                    // only move the clock by what was credited so slow rates do not lose fractions
+                    lastRefill = tokens == capacityMilli ? now : lastRefill + (long) (refill / refillRate);
+                }
+            }
+
+            if (tokens < MILLI) {
+                return (long) Math.ceil((MILLI - tokens) / refillRate);
+            }
+
+            long next = (lastRefill << TOKEN_BITS) | (tokens - MILLI);
+            if (slots.compareAndSet(index, state, next == 0 ? 1 : next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Reset slots that have not been touched for idleMs; they would have refilled to full anyway
+    public int evictIdle(long idleMs) {
+        long cutoff = System.currentTimeMillis() - epochMs - idleMs;
+        int evicted = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long state = slots.get(i);
+            if (state != 0 && (state >>> TOKEN_BITS) < cutoff && slots.compareAndSet(i, state, 0)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int activeSlots() {
+        int active = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    private int indexOf(String key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
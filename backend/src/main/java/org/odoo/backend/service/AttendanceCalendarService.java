@@ -0,0 +1,12 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.DepartmentMonthCalendar;
+import org.odoo.backend.dto.EmployeeMonthCalendar;
+
+import java.util.UUID;
+
+public interface AttendanceCalendarService {
+    EmployeeMonthCalendar getEmployeeMonth(UUID companyId, UUID userId, int year, int month);
+
+    DepartmentMonthCalendar getDepartmentMonth(UUID companyId, String department, int year, int month);
+}
@@ -0,0 +1,17 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.AttendanceDay;
+import org.odoo.backend.dto.AttendanceEventResponse;
+import org.odoo.backend.model.AttendanceEventType;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface AttendanceService {
+    AttendanceEventResponse record(UUID userId, UUID companyId, AttendanceEventType type);
+
+    List<AttendanceDay> getDays(UUID companyId, UUID userId, LocalDate from, LocalDate to);
+
+    List<AttendanceDay> getCompanyDay(UUID companyId, LocalDate date);
+}
@@ -9,8 +9,9 @@ import org.odoo.backend.dto.*;
 import org.odoo.backend.model.User;
 import org.odoo.backend.repositories.UserRepository;
 import org.odoo.backend.security.jwt.JwtService;
+import org.odoo.backend.security.password.PasswordHashingService;
+import org.odoo.backend.service.impl.LastLoginWriteBehind;
 import org.odoo.backend.service.impl.OtpServiceImpl;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,12 +22,14 @@ import java.time.LocalDateTime;
 public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
     private final OtpServiceImpl otpService;
+    private final LastLoginWriteBehind lastLoginWriteBehind;
 
+    // No read-write transaction here: the lookup runs in the repository's read-only transaction,
+    // last login goes through the write-behind buffer and the OTP is issued in its own transaction
     @Override
-    @Transactional
     public ApiResponse login(LoginRequest request) {
 
         User user = userRepository.findByCompany_CompanyIdAndEmployeeId(request.getCompanyId(), request.getEmployeeId())
@@ -36,13 +39,15 @@ public class AuthServiceImpl implements AuthService {
             throw new InvalidCredentialsException("Account disabled");
         }
 
-        if (!passwordEncoder.matches(
+        if (!passwordHashingService.matches(
                 request.getPassword(),
                 user.getPasswordHash()
         )) {
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
+        passwordHashingService.upgradeIfNeeded(user.getUserId(), request.getPassword(), user.getPasswordHash());
+
         String token = jwtService.generateToken(
                 user.getUserId(),
                 user.getCompany().getCompanyId(),
@@ -50,10 +55,9 @@ public class AuthServiceImpl implements AuthService {
                 user.getEmail()
         );
 
-        user.setLastLogin(LocalDateTime.now());
-        User savedUser = userRepository.save(user);
+        lastLoginWriteBehind.recordLogin(user.getUserId(), LocalDateTime.now());
 
-        otpService.generateAndSendOtp(savedUser.getEmail());
+        otpService.generateAndSendOtp(user.getEmail());
 
 
       AuthResponse authResponse = AuthResponse.builder()
@@ -63,7 +67,7 @@ public class AuthServiceImpl implements AuthService {
                 .build();
 
         return new ApiResponse(true, "Registration successful. Please verify your email with OTP sent to " +
-                savedUser.getEmail(), authResponse);
+                user.getEmail(), authResponse);
     }
 
 
@@ -9,15 +9,15 @@ import org.odoo.backend.model.User;
 import org.odoo.backend.model.UserRole;
 import org.odoo.backend.repositories.CompanyRepository;
 import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.security.password.PasswordHashingService;
+import org.odoo.backend.service.impl.CompanyCodeAllocator;
+import org.odoo.backend.service.impl.EmployeeIdAllocator;
 import org.odoo.backend.service.impl.OtpServiceImpl;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.Locale;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -25,11 +25,13 @@ public class CompanySignupServiceImpl {
 
     private final CompanyRepository companyRepository;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final OtpServiceImpl otpService;
+    private final CompanyCodeAllocator companyCodeAllocator;
+    private final EmployeeIdAllocator employeeIdAllocator;
+    private final TransactionTemplate transactionTemplate;
 
 
-    @Transactional
     public ApiResponse signupCompanyWithAdmin(CompanySignupRequest request) {
 
         // 1. Validate company uniqueness
@@ -37,8 +39,15 @@ public class CompanySignupServiceImpl {
             throw new IllegalStateException("Company already exists");
         }
 
-        // 2. Generate company code
-        String companyCode = generateUniqueCompanyCode(request.getCompanyName());
+        // 2. Generate company code and hash the password before the signup transaction starts,
+        // so no pooled connection is held while the allocator needs its own or BCrypt runs
+        String companyCode = companyCodeAllocator.allocate(request.getCompanyName());
+        String passwordHash = passwordHashingService.encode(request.getAdminPassword());
+
+        return transactionTemplate.execute(status -> createCompanyWithAdmin(request, companyCode, passwordHash));
+    }
+
+    private ApiResponse createCompanyWithAdmin(CompanySignupRequest request, String companyCode, String passwordHash) {
 
         // 3. Create company
         Company company = Company.builder()
@@ -52,11 +61,17 @@ public class CompanySignupServiceImpl {
         Company savedCompany = companyRepository.save(company);
 
         // 4. Create admin user
+        String adminEmployeeId = employeeIdAllocator.firstEmployeeId(
+                savedCompany,
+                request.getAdminName(),
+                savedCompany.getCreatedAt().getYear()
+        );
+
         User admin = User.builder()
                 .company(company)
-                .employeeId("ADMIN-001")
+                .employeeId(adminEmployeeId)
                 .email(request.getAdminEmail().toLowerCase(Locale.ROOT))
-                .passwordHash(passwordEncoder.encode(request.getAdminPassword()))
+                .passwordHash(passwordHash)
                 .role(UserRole.ROLE_ADMIN)
                 .active(true)
                 .emailVerified(true)
@@ -72,6 +87,7 @@ public class CompanySignupServiceImpl {
                 .companyId(savedCompany.getCompanyId().toString())
                 .companyCode(savedCompany.getCompanyCode())
                 .adminUserId(savedUser.getUserId().toString())
+                .adminEmployeeId(savedUser.getEmployeeId())
                 .message("Company and Admin registered successfully")
                 .build();
 
@@ -82,42 +98,4 @@ public class CompanySignupServiceImpl {
 
     }
 
-    private String generateUniqueCompanyCode(String companyName) {
-        // 1. INPUT VALIDATION
-        if (companyName == null || companyName.trim().isEmpty()) {
-            throw new IllegalArgumentException("Company name cannot be null or empty");
-        }
-
-        String[] words = companyName.replaceAll("[^A-Za-z ]", "").trim().split("\\s+");
-
-        StringBuilder codeBuilder = new StringBuilder();
-        if (words.length == 0 || (words.length == 1 && words[0].isEmpty())) {
-            codeBuilder.append("DEF");
-        } else {
-            for (String word : words) {
-                if (!word.isEmpty()) {
-                    codeBuilder.append(word.charAt(0));
-                }
-            }
-        }
-
-
-        if (codeBuilder.length() < 2 && words.length > 0 && words[0].length() > 1) {
-            codeBuilder.append(words[0].substring(1, Math.min(words[0].length(), 3)));
-        }
-
-        String code = codeBuilder.toString().toUpperCase(Locale.ROOT);
-
-        if (code.isEmpty()) code = "GEN";
-
-        // 4. HANDLE COLLISIONS
-        String finalCode = code;
-        int counter = 1;
-        while (companyRepository.existsByCompanyCode(finalCode)) {
-            finalCode = code + counter++;
-        }
-
-        return finalCode;
-    }
-
 }
@@ -0,0 +1,7 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.model.EmailType;
+
+public interface EmailOutboxService {
+    void enqueue(EmailType type, String recipient, String payload);
+}
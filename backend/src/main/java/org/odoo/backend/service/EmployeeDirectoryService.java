@@ -0,0 +1,17 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.EmployeeDetail;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeePage;
+import org.odoo.backend.dto.EmployeeSummary;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface EmployeeDirectoryService {
+    EmployeePage list(UUID companyId, EmployeeFilter filter, String cursor, int limit);
+
+    EmployeeDetail get(UUID companyId, UUID userId);
+
+    List<EmployeeSummary> search(UUID companyId, String query, EmployeeFilter filter, int limit);
+}
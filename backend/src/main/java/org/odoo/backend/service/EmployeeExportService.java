@@ -0,0 +1,12 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface EmployeeExportService {
+    void export(UUID companyId, EmployeeFilter filter, ExportFormat format, OutputStream out) throws IOException;
+}
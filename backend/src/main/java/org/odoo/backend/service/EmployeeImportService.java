@@ -0,0 +1,12 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.ImportJobResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.UUID;
+
+public interface EmployeeImportService {
+    ImportJobResponse startImport(UUID companyId, MultipartFile file);
+
+    ImportJobResponse getJob(UUID companyId, UUID jobId);
+}
@@ -0,0 +1,9 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.HeadcountStats;
+
+import java.util.UUID;
+
+public interface EmployeeStatsService {
+    HeadcountStats getHeadcount(UUID companyId);
+}
@@ -0,0 +1,24 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.LeaveApplicationRequest;
+import org.odoo.backend.dto.LeaveBalanceResponse;
+import org.odoo.backend.dto.LeaveRequestResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface LeaveService {
+    List<LeaveBalanceResponse> getBalances(UUID companyId, UUID userId);
+
+    LeaveRequestResponse apply(UUID companyId, UUID userId, LeaveApplicationRequest request);
+
+    List<LeaveRequestResponse> getMyRequests(UUID companyId, UUID userId);
+
+    List<LeaveRequestResponse> getPendingRequests(UUID companyId);
+
+    LeaveRequestResponse approve(UUID companyId, UUID reviewerId, UUID requestId);
+
+    LeaveRequestResponse reject(UUID companyId, UUID reviewerId, UUID requestId);
+
+    LeaveRequestResponse cancel(UUID companyId, UUID userId, UUID requestId);
+}
@@ -0,0 +1,11 @@
+package org.odoo.backend.service;
+
+import java.time.LocalDateTime;
+
+public interface OtpStore {
+    // replaces any OTP already issued for the email
+    void put(String email, String otpCode, LocalDateTime expiryTime);
+
+    // true when the code matches an unexpired OTP, which is consumed
+    boolean verify(String email, String otpCode);
+}
@@ -0,0 +1,19 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.dto.PayrollRunResponse;
+import org.odoo.backend.dto.PayslipResponse;
+import org.odoo.backend.dto.SalaryStructureRequest;
+
+import java.util.UUID;
+
+public interface PayrollService {
+    void saveSalaryStructure(UUID companyId, UUID userId, SalaryStructureRequest request);
+
+    PayrollRunResponse startRun(UUID companyId, int year, int month);
+
+    PayrollRunResponse resumeRun(UUID companyId, UUID runId);
+
+    PayrollRunResponse getRun(UUID companyId, UUID runId);
+
+    PayslipResponse getPayslip(UUID companyId, UUID userId, int year, int month);
+}
@@ -0,0 +1,55 @@
+package org.odoo.backend.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.odoo.backend.dto.DepartmentMonthCalendar;
+import org.odoo.backend.dto.EmployeeMonthCalendar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// Month views keyed by (company, user, period) and (company, department, period); evicted by AttendanceCalendarWriter
+@Component
+public class AttendanceCalendarCache {
+
+    private record EmployeeKey(UUID companyId, UUID userId, int period) {
+    }
+
+    private record DepartmentKey(UUID companyId, String department, int period) {
+    }
+
+    private final Cache<EmployeeKey, EmployeeMonthCalendar> employeeMonths;
+    private final Cache<DepartmentKey, DepartmentMonthCalendar> departmentMonths;
+
+    public AttendanceCalendarCache(
+            MeterRegistry meterRegistry,
+            @Value("${attendance.calendar.cache.max-size:20000}") long maxSize,
+            @Value("${attendance.calendar.cache.ttl:30m}") Duration ttl
+    ) {
+        this.employeeMonths = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.departmentMonths = Caffeine.newBuilder().maximumSize(maxSize / 10).expireAfterWrite(ttl).recordStats().build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, employeeMonths, "attendanceEmployeeMonth");
+        CaffeineCacheMetrics.monitor(meterRegistry, departmentMonths, "attendanceDepartmentMonth");
+    }
+
+    public EmployeeMonthCalendar employeeMonth(UUID companyId, UUID userId, int period, Supplier<EmployeeMonthCalendar> loader) {
+        return employeeMonths.get(new EmployeeKey(companyId, userId, period), key -> loader.get());
+    }
+
+    public DepartmentMonthCalendar departmentMonth(UUID companyId, String department, int period,
+                                                   Supplier<DepartmentMonthCalendar> loader) {
+        return departmentMonths.get(new DepartmentKey(companyId, Objects.toString(department, ""), period), key -> loader.get());
+    }
+
+    public void invalidate(UUID userId, UUID companyId, String department, int period) {
+        employeeMonths.invalidate(new EmployeeKey(companyId, userId, period));
+        departmentMonths.invalidate(new DepartmentKey(companyId, Objects.toString(department, ""), period));
+    }
+}
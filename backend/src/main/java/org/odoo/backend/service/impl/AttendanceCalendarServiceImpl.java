@@ -0,0 +1,119 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.dto.DepartmentMonthCalendar;
+import org.odoo.backend.dto.EmployeeMonthCalendar;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.AttendanceMonthId;
+import org.odoo.backend.repositories.AttendanceMonthRepository;
+import org.odoo.backend.service.AttendanceCalendarService;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceCalendarServiceImpl implements AttendanceCalendarService {
+
+    private final AttendanceMonthRepository monthRepository;
+    private final AttendanceCalendarWriter calendarWriter;
+    private final AttendanceCalendarCache calendarCache;
+
+    @Override
+    public EmployeeMonthCalendar getEmployeeMonth(UUID companyId, UUID userId, int year, int month) {
+        YearMonth yearMonth = yearMonth(year, month);
+        int period = AttendanceMonth.period(yearMonth);
+
+        return calendarCache.employeeMonth(companyId, userId, period, () -> {
+            AttendanceMonth row = monthRepository.findById(new AttendanceMonthId(userId, period))
+                    .orElseGet(() -> AttendanceMonth.builder().id(new AttendanceMonthId(userId, period)).companyId(companyId).build());
+            if (!row.getCompanyId().equals(companyId)) {
+                throw new ResourceNotFoundException("Employee not found");
+            }
+            return new EmployeeMonthCalendar(
+                    userId, year, month,
+                    row.getPresentBits(), row.getAbsentBits(), row.getLeaveBits(), row.getLateBits(),
+                    spellOut(yearMonth, row)
+            );
+        });
+    }
+
+    @Override
+    public DepartmentMonthCalendar getDepartmentMonth(UUID companyId, String department, int year, int month) {
+        YearMonth yearMonth = yearMonth(year, month);
+        int period = AttendanceMonth.period(yearMonth);
+        return calendarCache.departmentMonth(companyId, department, period, () -> aggregate(
+                department, yearMonth,
+                monthRepository.findByCompanyIdAndId_PeriodAndDepartmentOrderById_UserId(companyId, period, department)));
+    }
+
+    // Per-day counts walk only the set bits; the whole-department masks are plain AND/OR folds
+    private static DepartmentMonthCalendar aggregate(String department, YearMonth yearMonth, List<AttendanceMonth> rows) {
+        int days = yearMonth.lengthOfMonth();
+        int monthMask = (int) ((1L << days) - 1);
+        int[] present = new int[days];
+        int[] absent = new int[days];
+        int[] leave = new int[days];
+        int fullAttendance = rows.isEmpty() ? 0 : monthMask;
+        int anyAbsence = 0;
+
+        List<DepartmentMonthCalendar.Row> employees = new ArrayList<>(rows.size());
+        for (AttendanceMonth row : rows) {
+            employees.add(new DepartmentMonthCalendar.Row(
+                    row.getId().getUserId(), row.getPresentBits(), row.getAbsentBits(), row.getLeaveBits(), row.getLateBits()));
+            countBits(row.getPresentBits(), present);
+            countBits(row.getAbsentBits(), absent);
+            countBits(row.getLeaveBits(), leave);
+            fullAttendance &= row.getPresentBits() | row.getLeaveBits();
+            anyAbsence |= row.getAbsentBits();
+        }
+
+        return new DepartmentMonthCalendar(
+                department, yearMonth.getYear(), yearMonth.getMonthValue(), days, employees,
+                present, absent, leave, fullAttendance, anyAbsence & monthMask
+        );
+    }
+
+    private static void countBits(int bits, int[] perDay) {
+        while (bits != 0) {
+            int day = Integer.numberOfTrailingZeros(bits);
+            if (day < perDay.length) {
+                perDay[day]++;
+            }
+            bits &= bits - 1;
+        }
+    }
+
+    private List<String> spellOut(YearMonth yearMonth, AttendanceMonth row) {
+        List<String> days = new ArrayList<>(yearMonth.lengthOfMonth());
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day++) {
+            int bit = AttendanceMonth.bit(day);
+            if ((row.getLeaveBits() & bit) != 0) {
+                days.add("LEAVE");
+            } else if ((row.getPresentBits() & bit) != 0) {
+                days.add((row.getLateBits() & bit) != 0 ? "LATE" : "PRESENT");
+            } else if ((row.getAbsentBits() & bit) != 0) {
+                days.add("ABSENT");
+            } else if (calendarWriter.isWeekend(yearMonth.atDay(day))) {
+                days.add("WEEKEND");
+            } else {
+                days.add("NONE");
+            }
+        }
+        return days;
+    }
+
+    private static YearMonth yearMonth(int year, int month) {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("Invalid month: " + year + "-" + month);
+        }
+    }
+}
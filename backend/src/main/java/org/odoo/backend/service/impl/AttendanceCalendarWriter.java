@@ -0,0 +1,205 @@
+package org.odoo.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.repositories.AttendanceMonthRepository;
+import org.odoo.backend.repositories.AttendanceMonthRepository.CalendarKey;
+import org.odoo.backend.repositories.JobDetailsRepository;
+import org.odoo.backend.repositories.JobDetailsRepository.Placement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/*
+ * Maintains the attendance_month bit planes: presence and lateness from the daily summaries (inside
+ * the fold transaction), absences once a working day is over, leave from the leave ledger.
+ * Rows are created with an insert that leaves an existing row alone, and bits are set or cleared by
+ * single UPDATE statements, never loaded and saved back, so concurrent writers do not lose each
+ * other's days. Cached month views touched by a write are evicted after it commits.
+ */
+@Slf4j
+@Component
+public class AttendanceCalendarWriter {
+
+    private static final int ABSENCE_PAGE = 1000;
+    private static final UUID FIRST_USER = new UUID(0L, 0L);
+
+    // a row another writer created first is kept as it is
+    private static final String INSERT_MONTH_SQL = """
+            INSERT INTO attendance_month (user_id, period, company_id, department, present_bits, absent_bits, leave_bits, late_bits)
+            VALUES (?, ?, ?, ?, 0, 0, 0, 0)
+            ON DUPLICATE KEY UPDATE period = period
+            """;
+
+    private record MonthKey(UUID userId, UUID companyId, String department) {
+    }
+
+    private record DayMarks(int present, int late) {
+    }
+
+    private final AttendanceMonthRepository monthRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final AttendanceCalendarCache calendarCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalTime lateAfter;
+    private final Set<DayOfWeek> weekend;
+
+    public AttendanceCalendarWriter(
+            AttendanceMonthRepository monthRepository,
+            JobDetailsRepository jobDetailsRepository,
+            AttendanceCalendarCache calendarCache,
+            TransactionTemplate transactionTemplate,
+            JdbcTemplate jdbcTemplate,
+            @Value("${attendance.calendar.late-after:09:30}") LocalTime lateAfter,
+            @Value("${attendance.calendar.weekend:SATURDAY,SUNDAY}") DayOfWeek[] weekend
+    ) {
+        this.monthRepository = monthRepository;
+        this.jobDetailsRepository = jobDetailsRepository;
+        this.calendarCache = calendarCache;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.lateAfter = lateAfter;
+        this.weekend = weekend.length == 0 ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(Arrays.asList(weekend));
+    }
+
+    public boolean isWeekend(LocalDate day) {
+        return weekend.contains(day.getDayOfWeek());
+    }
+
+    // Caller's transaction (the fold job): sets present/late for every summary that has a check-in
+    public void applyDays(Collection<AttendanceDailySummary> summaries) {
+        Map<Integer, List<AttendanceDailySummary>> byPeriod = summaries.stream()
+                .filter(summary -> summary.getFirstCheckIn() != null)
+                .collect(Collectors.groupingBy(summary -> AttendanceMonth.period(YearMonth.from(summary.getWorkDate()))));
+
+        byPeriod.forEach((period, days) -> {
+            Map<UUID, UUID> companies = new HashMap<>();
+            Map<UUID, DayMarks> marks = new HashMap<>();
+            for (AttendanceDailySummary day : days) {
+                int bit = AttendanceMonth.bit(day.getWorkDate().getDayOfMonth());
+                int late = day.getFirstCheckIn().toLocalTime().isAfter(lateAfter) ? bit : 0;
+                companies.put(day.getUserId(), day.getCompanyId());
+                marks.merge(day.getUserId(), new DayMarks(bit, late),
+                        (a, b) -> new DayMarks(a.present() | b.present(), a.late() | b.late()));
+            }
+            List<MonthKey> keys = ensureRows(period, companies);
+
+            // a fold batch is mostly the same day for everyone: one statement per distinct set of bits
+            Map<DayMarks, List<UUID>> usersByMarks = new HashMap<>();
+            marks.forEach((userId, mark) -> usersByMarks.computeIfAbsent(mark, m -> new ArrayList<>()).add(userId));
+            // a late check-in can arrive after the day was already closed as absent
+            usersByMarks.forEach((mark, userIds) ->
+                    monthRepository.markPresent(period, userIds, mark.present(), ~mark.present(), mark.late()));
+            evictAfterCommit(period, keys);
+        });
+    }
+
+    // Caller's transaction (the leave ledger): days is a mask of the month's days, see AttendanceMonth.bit
+    public void markLeave(UUID userId, UUID companyId, YearMonth month, int days, boolean onLeave) {
+        int period = AttendanceMonth.period(month);
+        List<MonthKey> keys = ensureRows(period, Map.of(userId, companyId));
+        if (onLeave) {
+            monthRepository.markLeave(period, userId, days, ~days);
+        } else {
+            monthRepository.clearLeave(period, userId, ~days);
+        }
+        evictAfterCommit(period, keys);
+    }
+
+    @Scheduled(cron = "${attendance.calendar.absence-cron:0 30 0 * * *}")
+    public void closeYesterday() {
+        markAbsences(LocalDate.now().minusDays(1));
+    }
+
+    // Every active employee with neither presence nor leave on a working day is marked absent
+    public int markAbsences(LocalDate day) {
+        if (isWeekend(day)) {
+            return 0;
+        }
+        int period = AttendanceMonth.period(YearMonth.from(day));
+        int bit = AttendanceMonth.bit(day.getDayOfMonth());
+
+        int marked = 0;
+        UUID after = FIRST_USER;
+        List<Placement> page;
+        do {
+            page = jobDetailsRepository.findPlacementsByStatus(EmployeeStatus.ACTIVE, after, Limit.of(ABSENCE_PAGE));
+            if (page.isEmpty()) {
+                break;
+            }
+            List<Placement> batch = page;
+            Integer batchMarked = transactionTemplate.execute(status -> {
+                Map<UUID, UUID> companies = new HashMap<>();
+                batch.forEach(placement -> companies.put(placement.getUserId(), placement.getCompanyId()));
+                List<MonthKey> keys = ensureRows(period, companies);
+                int count = monthRepository.markAbsent(period, companies.keySet(), bit);
+                evictAfterCommit(period, keys);
+                return count;
+            });
+            marked += batchMarked == null ? 0 : batchMarked;
+            after = page.getLast().getUserId();
+        } while (page.size() == ABSENCE_PAGE);
+
+        log.info("Marked {} absences for {}", marked, day);
+        return marked;
+    }
+
+    // Creates the rows that do not exist yet and returns the cache key of every row
+    private List<MonthKey> ensureRows(int period, Map<UUID, UUID> companyByUser) {
+        List<MonthKey> keys = new ArrayList<>(companyByUser.size());
+        Set<UUID> missing = new HashSet<>(companyByUser.keySet());
+        for (CalendarKey key : monthRepository.findCalendarKeys(period, companyByUser.keySet())) {
+            keys.add(new MonthKey(key.getUserId(), key.getCompanyId(), key.getDepartment()));
+            missing.remove(key.getUserId());
+        }
+        if (missing.isEmpty()) {
+            return keys;
+        }
+
+        Map<UUID, String> departments = new HashMap<>();
+        jobDetailsRepository.findPlacements(missing)
+                .forEach(placement -> departments.put(placement.getUserId(), placement.getDepartment()));
+        List<MonthKey> created = missing.stream()
+                .map(userId -> new MonthKey(userId, companyByUser.get(userId), departments.get(userId)))
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_MONTH_SQL, created, created.size(), (ps, key) -> {
+            ps.setBytes(1, UuidBinary.toBytes(key.userId()));
+            ps.setInt(2, period);
+            ps.setBytes(3, UuidBinary.toBytes(key.companyId()));
+            ps.setString(4, key.department());
+        });
+        keys.addAll(created);
+        return keys;
+    }
+
+    private void evictAfterCommit(int period, List<MonthKey> keys) {
+        Runnable evict = () -> keys.forEach(key ->
+                calendarCache.invalidate(key.userId(), key.companyId(), key.department(), period));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.odoo.backend.model.AttendanceEvent;
+import org.odoo.backend.model.AttendanceEventType;
+import org.odoo.backend.model.AttendanceFoldCheckpoint;
+import org.odoo.backend.model.AttendanceFoldGap;
+import org.odoo.backend.repositories.AttendanceDailySummaryRepository;
+import org.odoo.backend.repositories.AttendanceEventRepository;
+import org.odoo.backend.repositories.AttendanceFoldCheckpointRepository;
+import org.odoo.backend.repositories.AttendanceFoldGapRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * Folds attendance events into one summary row per employee and day. Runs read the events after a
+ * checkpoint in id order, update the affected summaries and move the checkpoint in one transaction,
+ * so every event is folded exactly once even with several nodes (the checkpoint row is locked).
+ * Identity ids from different flushers can commit out of order, so the checkpoint may pass an id that
+ * is not visible yet. Every id skipped that way is kept as a gap and folded when its row shows up; a gap
+ * still empty after the gap-timeout belongs to a rolled-back insert and is dropped.
+ */
+@Slf4j
+@Component
+public class AttendanceFoldJob {
+
+    private record DayKey(UUID userId, LocalDate workDate) {
+    }
+
+    private final AttendanceEventRepository eventRepository;
+    private final AttendanceDailySummaryRepository summaryRepository;
+    private final AttendanceFoldCheckpointRepository checkpointRepository;
+    private final AttendanceFoldGapRepository gapRepository;
+    private final AttendanceCalendarWriter calendarWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration gapTimeout;
+    private final Counter foldedCounter;
+    private final Counter abandonedCounter;
+
+    public AttendanceFoldJob(
+            AttendanceEventRepository eventRepository,
+            AttendanceDailySummaryRepository summaryRepository,
+            AttendanceFoldCheckpointRepository checkpointRepository,
+            AttendanceFoldGapRepository gapRepository,
+            AttendanceCalendarWriter calendarWriter,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${attendance.fold.batch-size:5000}") int batchSize,
+            @Value("${attendance.fold.gap-timeout:5m}") Duration gapTimeout
+    ) {
+        this.eventRepository = eventRepository;
+        this.summaryRepository = summaryRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.gapRepository = gapRepository;
+        this.calendarWriter = calendarWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.gapTimeout = gapTimeout;
+        this.foldedCounter = Counter.builder("attendance.fold.events").register(meterRegistry);
+        this.abandonedCounter = Counter.builder("attendance.fold.abandoned-ids").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${attendance.fold.interval:30000}")
+    public void foldPending() {
+        int folded;
+        do {
+            folded = foldBatch();
+        } while (folded >= batchSize);
+    }
+
+    // Returns how many events were folded
+    public int foldBatch() {
+        Integer folded = transactionTemplate.execute(status -> {
+            AttendanceFoldCheckpoint checkpoint = checkpointRepository
+                    .findForUpdate(AttendanceFoldCheckpoint.DAILY_SUMMARY)
+                    .orElseGet(() -> checkpointRepository.saveAndFlush(AttendanceFoldCheckpoint.builder()
+                            .name(AttendanceFoldCheckpoint.DAILY_SUMMARY)
+                            .lastEventId(0)
+                            .build()));
+
+            LocalDateTime now = LocalDateTime.now();
+            List<AttendanceEvent> events = fillGaps(now);
+            List<AttendanceEvent> fresh = eventRepository.findByEventIdGreaterThanOrderByEventId(
+                    checkpoint.getLastEventId(), Limit.of(batchSize));
+            openGaps(checkpoint.getLastEventId(), fresh, now);
+            events.addAll(fresh);
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            Set<UUID> userIds = new HashSet<>();
+            LocalDate from = LocalDate.MAX;
+            LocalDate to = LocalDate.MIN;
+            for (AttendanceEvent event : events) {
+                userIds.add(event.getUserId());
+                LocalDate day = event.getOccurredAt().toLocalDate();
+                from = day.isBefore(from) ? day : from;
+                to = day.isAfter(to) ? day : to;
+            }
+
+            Map<DayKey, AttendanceDailySummary> summaries = new HashMap<>();
+            for (AttendanceDailySummary summary : summaryRepository.findForFold(userIds, from, to)) {
+                summaries.put(new DayKey(summary.getUserId(), summary.getWorkDate()), summary);
+            }
+
+            Set<AttendanceDailySummary> touched = new HashSet<>();
+            for (AttendanceEvent event : events) {
+                DayKey key = new DayKey(event.getUserId(), event.getOccurredAt().toLocalDate());
+                AttendanceDailySummary summary = summaries.computeIfAbsent(key, k -> AttendanceDailySummary.builder()
+                        .userId(k.userId())
+                        .companyId(event.getCompanyId())
+                        .workDate(k.workDate())
+                        .build());
+                apply(summary, event);
+                touched.add(summary);
+            }
+
+            summaryRepository.saveAll(touched);
+            calendarWriter.applyDays(touched);
+            if (!fresh.isEmpty()) {
+                checkpoint.setLastEventId(fresh.getLast().getEventId());
+            }
+            return events.size();
+        });
+
+        int count = folded == null ? 0 : folded;
+        foldedCounter.increment(count);
+        return count;
+    }
+
+    // Events that arrived in earlier gaps, oldest first; what is still missing stays open under its first time
+    private List<AttendanceEvent> fillGaps(LocalDateTime now) {
+        LocalDateTime expiredBefore = now.minus(gapTimeout);
+        List<AttendanceEvent> late = new ArrayList<>();
+        for (AttendanceFoldGap gap : gapRepository.findAllByOrderByFirstEventId()) {
+            List<AttendanceEvent> arrived = eventRepository.findByEventIdBetweenOrderByEventId(
+                    gap.getFirstEventId(), gap.getLastEventId());
+            if (gap.getOpenedAt().isBefore(expiredBefore)) {
+                long missing = gap.getLastEventId() - gap.getFirstEventId() + 1 - arrived.size();
+                log.info("Attendance event ids {}..{}: {} never committed within {}, no longer waiting for them",
+                        gap.getFirstEventId(), gap.getLastEventId(), missing, gapTimeout);
+                abandonedCounter.increment(missing);
+                gapRepository.delete(gap);
+                late.addAll(arrived);
+                continue;
+            }
+            if (arrived.isEmpty()) {
+                continue;
+            }
+
+            List<long[]> remaining = new ArrayList<>();
+            long next = gap.getFirstEventId();
+            for (AttendanceEvent event : arrived) {
+                if (event.getEventId() > next) {
+                    remaining.add(new long[]{next, event.getEventId() - 1});
+                }
+                next = event.getEventId() + 1;
+            }
+            if (next <= gap.getLastEventId()) {
+                remaining.add(new long[]{next, gap.getLastEventId()});
+            }
+
+            // a remainder starting where the gap did keeps its row: deleting and re-inserting one key
+            // in the same flush would insert first and collide
+            if (remaining.isEmpty() || remaining.getFirst()[0] != gap.getFirstEventId()) {
+                gapRepository.delete(gap);
+            }
+            for (long[] range : remaining) {
+                if (range[0] == gap.getFirstEventId()) {
+                    gap.setLastEventId(range[1]);
+                } else {
+                    gapRepository.save(AttendanceFoldGap.builder()
+                            .firstEventId(range[0])
+                            .lastEventId(range[1])
+                            .openedAt(gap.getOpenedAt())
+                            .build());
+                }
+            }
+            late.addAll(arrived);
+        }
+        return late;
+    }
+
+    // Ids between the checkpoint and the new events that are not visible: in flight on another connection
+    private void openGaps(long afterId, List<AttendanceEvent> events, LocalDateTime now) {
+        long expected = afterId + 1;
+        for (AttendanceEvent event : events) {
+            if (event.getEventId() > expected) {
+                gapRepository.save(AttendanceFoldGap.builder()
+                        .firstEventId(expected)
+                        .lastEventId(event.getEventId() - 1)
+                        .openedAt(now)
+                        .build());
+            }
+            expected = event.getEventId() + 1;
+        }
+    }
+
+    /*
+     * Check-in opens a work interval, check-out closes it and adds its length. A second check-in while
+     * one is open, or a check-out with nothing open, only moves first/last times. Intervals are per
+     * calendar day: a check-out after midnight does not close the previous day's interval.
+     */
+    static void apply(AttendanceDailySummary summary, AttendanceEvent event) {
+        LocalDateTime at = event.getOccurredAt();
+        summary.setEventCount(summary.getEventCount() + 1);
+
+        if (event.getEventType() == AttendanceEventType.CHECK_IN) {
+            if (summary.getFirstCheckIn() == null || at.isBefore(summary.getFirstCheckIn())) {
+                summary.setFirstCheckIn(at);
+            }
+            if (summary.getOpenCheckIn() == null) {
+                summary.setOpenCheckIn(at);
+            }
+            return;
+        }
+
+        if (summary.getLastCheckOut() == null || at.isAfter(summary.getLastCheckOut())) {
+            summary.setLastCheckOut(at);
+        }
+        if (summary.getOpenCheckIn() != null && at.isAfter(summary.getOpenCheckIn())) {
+            summary.setWorkedSeconds(summary.getWorkedSeconds() + Duration.between(summary.getOpenCheckIn(), at).toSeconds());
+            summary.setOpenCheckIn(null);
+        }
+    }
+}
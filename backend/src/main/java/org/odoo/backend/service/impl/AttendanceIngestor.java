@@ -0,0 +1,162 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Check-ins land in a bounded in-memory queue and return immediately; one flusher thread drains the
+ * queue into attendance_events as JDBC batches, one transaction per batch. When the database cannot
+ * keep up (or is down) the queue fills and submit() answers 503 instead of piling up threads.
+ * Accepted-but-unflushed events live only in memory until the next batch commits (milliseconds),
+ * which is the trade-off for taking a shift-start burst without a row insert per request.
+ */
+@Slf4j
+@Component
+public class AttendanceIngestor {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance_events (user_id, company_id, event_type, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private record PendingEvent(UUID userId, UUID companyId, AttendanceEventType type, LocalDateTime occurredAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final long lingerMs;
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    private final Counter acceptedCounter;
+    private final Counter rejectedCounter;
+    private final Counter writtenCounter;
+    private final Timer flushTimer;
+
+    public AttendanceIngestor(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${attendance.ingest.queue-capacity:50000}") int queueCapacity,
+            @Value("${attendance.ingest.batch-size:500}") int batchSize,
+            @Value("${attendance.ingest.linger:20}") long lingerMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMs = lingerMs;
+        this.flusher = new Thread(this::flushLoop, "attendance-flusher");
+        this.flusher.setDaemon(true);
+
+        this.acceptedCounter = Counter.builder("attendance.ingest.events").tag("result", "accepted").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("attendance.ingest.events").tag("result", "rejected").register(meterRegistry);
+        this.writtenCounter = Counter.builder("attendance.ingest.written").register(meterRegistry);
+        this.flushTimer = Timer.builder("attendance.ingest.flush.duration").register(meterRegistry);
+        Gauge.builder("attendance.ingest.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        flusher.start();
+    }
+
+    public LocalDateTime submit(UUID userId, UUID companyId, AttendanceEventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!queue.offer(new PendingEvent(userId, companyId, type, now))) {
+            rejectedCounter.increment();
+            throw new ServiceBusyException("Attendance is receiving too many events, please retry shortly");
+        }
+        acceptedCounter.increment();
+        return now;
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // wait briefly for the first event, then take whatever else is already queued
+                PendingEvent first = queue.poll(lingerMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    // shutting down: keep draining, the loop ends once the queue is empty
+                    continue;
+                }
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // Keep retrying while running: a blocked flusher fills the queue, and that is the backpressure
+    private void writeWithRetry(List<PendingEvent> batch) throws InterruptedException {
+        long backoffMs = 100;
+        while (true) {
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> write(batch)));
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (DataAccessException e) {
+                if (!running) {
+                    log.error("Dropping {} attendance events at shutdown, database unavailable: {}", batch.size(), e.getMessage());
+                    return;
+                }
+                log.warn("Attendance batch of {} failed, retrying in {} ms: {}", batch.size(), backoffMs, e.getMessage());
+                Thread.sleep(backoffMs);
+                backoffMs = Math.min(backoffMs * 2, 5000);
+            }
+        }
+    }
+
+    private void write(List<PendingEvent> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, event) -> {
+            ps.setBytes(1, UuidBinary.toBytes(event.userId()));
+            ps.setBytes(2, UuidBinary.toBytes(event.companyId()));
+            ps.setString(3, event.type().name());
+            ps.setTimestamp(4, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.join(10_000);
+        if (!queue.isEmpty()) {
+            log.warn("{} attendance events were not flushed before shutdown", queue.size());
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.dto.AttendanceDay;
+import org.odoo.backend.dto.AttendanceEventResponse;
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.odoo.backend.model.AttendanceEventType;
+import org.odoo.backend.repositories.AttendanceDailySummaryRepository;
+import org.odoo.backend.service.AttendanceService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class AttendanceServiceImpl implements AttendanceService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final AttendanceIngestor attendanceIngestor;
+    private final AttendanceDailySummaryRepository summaryRepository;
+
+    // Hot path: no database access here, the ingestor batches the write
+    @Override
+    public AttendanceEventResponse record(UUID userId, UUID companyId, AttendanceEventType type) {
+        LocalDateTime occurredAt = attendanceIngestor.submit(userId, companyId, type);
+        return new AttendanceEventResponse(type.name(), occurredAt);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDay> getDays(UUID companyId, UUID userId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("Date range must be ascending and at most a year long");
+        }
+        return summaryRepository.findByCompanyIdAndUserIdAndWorkDateBetweenOrderByWorkDate(companyId, userId, from, to)
+                .stream()
+                .map(AttendanceServiceImpl::toDay)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AttendanceDay> getCompanyDay(UUID companyId, LocalDate date) {
+        return summaryRepository.findByCompanyIdAndWorkDateOrderByUserId(companyId, date)
+                .stream()
+                .map(AttendanceServiceImpl::toDay)
+                .toList();
+    }
+
+    private static AttendanceDay toDay(AttendanceDailySummary summary) {
+        return new AttendanceDay(
+                summary.getUserId(),
+                summary.getWorkDate(),
+                summary.getFirstCheckIn(),
+                summary.getLastCheckOut(),
+                summary.getWorkedSeconds() / 60,
+                summary.getOpenCheckIn() != null
+        );
+    }
+}
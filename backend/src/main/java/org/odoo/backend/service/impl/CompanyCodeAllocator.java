@@ -0,0 +1,141 @@
+package org.odoo.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.model.CompanyCodeCounter;
+import org.odoo.backend.repositories.CompanyCodeCounterRepository;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+
+/*
+ * Hands out company codes (OI, TCS, TCS1, TCS2 ...) from a per-prefix counter row. A prefix whose
+ * suffixes no longer fit the 10 character company_code column continues under a prefix one letter shorter.
+ * The counter is locked and bumped in its own short transaction, so two signups can never get the
+ * same code, and a conflict is retried here instead of failing the caller's signup transaction.
+ * Callers must not hold a transaction: a request thread waiting for a second pooled connection
+ * while holding the first can starve the pool under parallel signups.
+ */
+@Slf4j
+@Component
+public class CompanyCodeAllocator {
+
+    private static final int MAX_CODE_LENGTH = 10;
+    private static final int MAX_PREFIX_LENGTH = 6;
+    private static final int MAX_ATTEMPTS = 10;
+
+    private final CompanyCodeCounterRepository counterRepository;
+    private final CompanyRepository companyRepository;
+    private final TransactionTemplate requiresNew;
+
+    public CompanyCodeAllocator(
+            CompanyCodeCounterRepository counterRepository,
+            CompanyRepository companyRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.counterRepository = counterRepository;
+        this.companyRepository = companyRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public String allocate(String companyName) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Company codes must be allocated before the caller's transaction starts");
+        }
+        String prefix = derivePrefix(companyName);
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requiresNew.execute(status -> nextCode(prefix));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                // another signup created or locked the counter row first
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new IllegalStateException("Could not allocate a company code, please retry");
+                }
+                log.debug("Company code allocation for {} conflicted (attempt {}), retrying", prefix, attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private String nextCode(String prefix) {
+        CompanyCodeCounter counter = counterRepository.findForUpdate(prefix)
+                .orElseGet(() -> counterRepository.saveAndFlush(CompanyCodeCounter.builder()
+                        .prefix(prefix)
+                        .nextSuffix(firstFreeSuffix(prefix))
+                        .build()));
+
+        int suffix = counter.getNextSuffix();
+        if (suffix > 0 && prefix.length() + String.valueOf(suffix).length() > MAX_CODE_LENGTH) {
+            if (prefix.length() == 1) {
+                throw new IllegalStateException("No company codes left for prefix " + prefix);
+            }
+            // a shorter prefix followed by digits can never equal a code of the longer one
+            return nextCode(prefix.substring(0, prefix.length() - 1));
+        }
+        counter.setNextSuffix(suffix + 1);
+        return suffix == 0 ? prefix : prefix + suffix;
+    }
+
+    // First use of a prefix: continue after codes created before the counter table existed
+    private int firstFreeSuffix(String prefix) {
+        int next = 0;
+        for (String code : companyRepository.findCompanyCodesStartingWith(prefix)) {
+            String suffix = code.substring(prefix.length());
+            if (suffix.isEmpty()) {
+                next = Math.max(next, 1);
+            } else if (suffix.chars().allMatch(Character::isDigit) && suffix.length() < 9) {
+                next = Math.max(next, Integer.parseInt(suffix) + 1);
+            }
+        }
+        return next;
+    }
+
+    public static String derivePrefix(String companyName) {
+        // 1. INPUT VALIDATION
+        if (companyName == null || companyName.trim().isEmpty()) {
+            throw new IllegalArgumentException("Company name cannot be null or empty");
+        }
+
+        String[] words = companyName.replaceAll("[^A-Za-z ]", "").trim().split("\\s+");
+
+        StringBuilder codeBuilder = new StringBuilder();
+        if (words.length == 0 || (words.length == 1 && words[0].isEmpty())) {
+            codeBuilder.append("DEF");
+        } else {
+            for (String word : words) {
+                if (!word.isEmpty()) {
+                    codeBuilder.append(word.charAt(0));
+                }
+            }
+        }
+
+
+        if (codeBuilder.length() < 2 && words.length > 0 && words[0].length() > 1) {
+            codeBuilder.append(words[0].substring(1, Math.min(words[0].length(), 3)));
+        }
+
+        String code = codeBuilder.toString().toUpperCase(Locale.ROOT);
+
+        if (code.isEmpty()) code = "GEN";
+
+        // leave room for a numeric suffix in the company_code column
+        return code.length() > MAX_PREFIX_LENGTH ? code.substring(0, MAX_PREFIX_LENGTH) : code;
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            Thread.sleep(Math.min(200, 5L * attempt * attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while allocating a company code");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.model.EmailOutbox;
+import org.odoo.backend.model.OutboxStatus;
+import org.odoo.backend.repositories.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private final EmailOutboxRepository outboxRepository;
+    private final EmailServiceImpl emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+
+    @Value("${email.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${email.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.outbox.base-backoff:2000}")
+    private long baseBackoffMs;
+
+    @Value("${email.outbox.max-backoff:600000}")
+    private long maxBackoffMs;
+
+    @Value("${email.outbox.lease:60000}")
+    private long leaseMs;
+
+    @Value("${email.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository outboxRepository,
+            EmailServiceImpl emailService,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = transactionTemplate;
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.retryCounter = meterRegistry.counter("email.outbox.retried");
+        this.deadCounter = meterRegistry.counter("email.outbox.dead");
+        this.batchTimer = meterRegistry.timer("email.outbox.batch");
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:1000}")
+    public void dispatch() {
+        List<EmailOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                List<EmailOutbox> claimed = batch;
+                batchTimer.record(() -> deliver(claimed));
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 30 3 * * *}")
+    public void purge() {
+        int deleted = transactionTemplate.execute(status -> outboxRepository.deleteFinished(
+                List.of(OutboxStatus.SENT, OutboxStatus.SUPERSEDED),
+                LocalDateTime.now().minusDays(retentionDays)
+        ));
+        log.debug("Purged {} finished outbox emails", deleted);
+    }
+
+    // Short transaction: lock due rows, stamp them with a claim token and a lease, commit
+    private List<EmailOutbox> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> rows = outboxRepository.findDispatchable(now, PageRequest.of(0, batchSize));
+            for (EmailOutbox row : rows) {
+                row.setStatus(OutboxStatus.SENDING);
+                row.setClaimToken(UUID.randomUUID());
+                row.setLockedUntil(now.plus(leaseMs, ChronoUnit.MILLIS));
+            }
+            return rows;
+        });
+    }
+
+    // SMTP runs outside any transaction; one connection carries the whole batch
+    private void deliver(List<EmailOutbox> batch) {
+        Map<SimpleMailMessage, EmailOutbox> messages = new IdentityHashMap<>();
+        for (EmailOutbox email : batch) {
+            messages.put(emailService.buildMessage(email.getEmailType(), email.getRecipient(), email.getPayload()), email);
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            failures = emailService.sendBatch(new ArrayList<>(messages.keySet()));
+        } catch (Exception e) {
+            failures = new IdentityHashMap<>();
+            for (SimpleMailMessage message : messages.keySet()) {
+                failures.put(message, e);
+            }
+        }
+
+        Map<Object, Exception> failed = failures;
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            messages.forEach((message, email) -> {
+                Exception error = failed.get(message);
+                if (error == null) {
+                    outboxRepository.markSent(email.getId(), email.getClaimToken(), now);
+                    sentCounter.increment();
+                } else {
+                    recordFailure(email, error, now);
+                }
+            });
+        });
+    }
+
+    private void recordFailure(EmailOutbox email, Exception error, LocalDateTime now) {
+        int attempts = email.getAttempts() + 1;
+        String message = Objects.toString(error.getMessage(), error.getClass().getSimpleName());
+        if (message.length() > 500) {
+            message = message.substring(0, 500);
+        }
+
+        if (attempts >= maxAttempts) {
+            log.error("Email {} to {} moved to dead letter after {} attempts: {}",
+                    email.getId(), email.getRecipient(), attempts, message);
+            outboxRepository.markFailed(email.getId(), email.getClaimToken(), OutboxStatus.DEAD, now, message);
+            deadCounter.increment();
+            return;
+        }
+
+        // exponential backoff with jitter, capped
+        long backoff = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+        backoff += ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+        log.warn("Email {} to {} failed (attempt {}), retrying in {} ms: {}",
+                email.getId(), email.getRecipient(), attempts, backoff, message);
+        outboxRepository.markFailed(email.getId(), email.getClaimToken(), OutboxStatus.PENDING,
+                now.plus(backoff, ChronoUnit.MILLIS), message);
+        retryCounter.increment();
+    }
+}
@@ -0,0 +1,38 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.model.EmailOutbox;
+import org.odoo.backend.model.EmailType;
+import org.odoo.backend.model.OutboxStatus;
+import org.odoo.backend.repositories.EmailOutboxRepository;
+import org.odoo.backend.service.EmailOutboxService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxServiceImpl implements EmailOutboxService {
+
+    private final EmailOutboxRepository outboxRepository;
+
+    // Joins the caller's transaction: the email only exists if the business change commits
+    @Override
+    @Transactional
+    public void enqueue(EmailType type, String recipient, String payload) {
+        // an older OTP that has not gone out yet is useless once a new one is issued
+        outboxRepository.supersedePending(type, recipient);
+
+        EmailOutbox email = EmailOutbox.builder()
+                .emailType(type)
+                .recipient(recipient)
+                .payload(payload)
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        outboxRepository.save(email);
+    }
+}
@@ -5,12 +5,16 @@ package org.odoo.backend.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.odoo.backend.common.exception.EmailSendingException;
+import org.odoo.backend.model.EmailType;
 import org.odoo.backend.service.EmailService;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -22,15 +26,7 @@ public class EmailServiceImpl implements EmailService {
 
     public void sendOTPEmail(String to, String otpCode) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("Email Verification Otp");
-            message.setText(
-                    "Your OTP for email verification is: " + otpCode + "\n\n" +
-                            "This OTP will expire in 5 minutes.\n\n" +
-                            "If you didn't request this, please ignore this email."
-            );
-            mailSender.send(message);
+            mailSender.send(buildMessage(EmailType.OTP_VERIFICATION, to, otpCode));
             log.debug("SuccessFull send the Otp to User");
         } catch (Exception e) {
             log.error("Failed To send the Otp to User" + e.getMessage());
@@ -41,19 +37,45 @@ public class EmailServiceImpl implements EmailService {
     @Override
     public void sendPasswordResetOTPEmail(String to, String otpCode) {
         try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("Password Reset - OTP");
-            message.setText(
-                    "Your OTP for password reset is: " + otpCode + "\n\n" +
-                            "This OTP will expire in 5 minutes.\n\n" +
-                            "If you didn't request this, please ignore this email."
-            );
-            mailSender.send(message);
+            mailSender.send(buildMessage(EmailType.PASSWORD_RESET_OTP, to, otpCode));
             log.debug("SuccessFull send the Password Reset - OTP");
         } catch (Exception e) {
             log.error("Failed To send the Password Reset - OTP");
             throw new EmailSendingException("Otp failed To Send ");
         }
     }
-}
\ No newline at end of file
+
+    public SimpleMailMessage buildMessage(EmailType type, String to, String otpCode) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        switch (type) {
+            case OTP_VERIFICATION -> {
+                message.setSubject("Email Verification Otp");
+                message.setText(
+                        "Your OTP for email verification is: " + otpCode + "\n\n" +
+                                "This OTP will expire in 5 minutes.\n\n" +
+                                "If you didn't request this, please ignore this email."
+                );
+            }
+            case PASSWORD_RESET_OTP -> {
+                message.setSubject("Password Reset - OTP");
+                message.setText(
+                        "Your OTP for password reset is: " + otpCode + "\n\n" +
+                                "This OTP will expire in 5 minutes.\n\n" +
+                                "If you didn't request this, please ignore this email."
+                );
+            }
+        }
+        return message;
+    }
+
+    // Sends every message over one SMTP connection and returns the ones that failed
+    public Map<Object, Exception> sendBatch(List<SimpleMailMessage> messages) {
+        try {
+            mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            return e.getFailedMessages();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.dto.EmployeeDetail;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeePage;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.search.EmployeeSearchIndex;
+import org.odoo.backend.service.EmployeeDirectoryService;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class EmployeeDirectoryServiceImpl implements EmployeeDirectoryService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final UserRepository userRepository;
+    private final EmployeeSearchIndex employeeSearchIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePage list(UUID companyId, EmployeeFilter filter, String cursor, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+
+        // one extra row tells whether another page exists without a count query
+        List<EmployeeSummary> rows = userRepository.findDirectoryPage(
+                companyId,
+                cursor == null ? "" : cursor,
+                filter.department(),
+                filter.designation(),
+                filter.status(),
+                Limit.of(pageSize + 1)
+        );
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EmployeeSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? items.getLast().employeeId() : null;
+        return new EmployeePage(items, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeeDetail get(UUID companyId, UUID userId) {
+        return userRepository.findDirectoryEntry(companyId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found"));
+    }
+
+    // Served from the in-memory index: the search box calls this on every keystroke
+    @Override
+    public List<EmployeeSummary> search(UUID companyId, String query, EmployeeFilter filter, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        return employeeSearchIndex.search(companyId, query, filter, Math.clamp(limit, 1, MAX_LIMIT));
+    }
+}
@@ -0,0 +1,140 @@
+package org.odoo.backend.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.EmployeeSequence;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.EmployeeSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Hi/lo allocator for login IDs like OI-JD-2026-0001, on top of the employee_sequence rows.
+ * Each node reserves a block of numbers per (company, year) with one locked update and then hands
+ * them out from memory, so bulk onboarding does not serialize on the sequence row.
+ * Numbers are unique but not gap-free: a block left over at shutdown is simply skipped.
+ */
+@Slf4j
+@Component
+public class EmployeeIdAllocator {
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    private record Key(UUID companyId, int year) {
+    }
+
+    private record Block(AtomicLong next, long last) {
+    }
+
+    private final EmployeeSequenceRepository sequenceRepository;
+    private final CompanyRepository companyRepository;
+    private final TransactionTemplate requiresNew;
+    private final Map<Key, Block> blocks = new ConcurrentHashMap<>();
+    private final Map<Key, Object> refillLocks = new ConcurrentHashMap<>();
+
+    @Value("${employee-id.block-size:50}")
+    private int blockSize;
+
+    public EmployeeIdAllocator(
+            EmployeeSequenceRepository sequenceRepository,
+            CompanyRepository companyRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.sequenceRepository = sequenceRepository;
+        this.companyRepository = companyRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // For a company created in the current transaction: its sequence row has to be written in the
+    // same transaction, because a separate one could not see the uncommitted company
+    public String firstEmployeeId(Company company, String fullName, int year) {
+        sequenceRepository.save(EmployeeSequence.builder()
+                .company(company)
+                .year(year)
+                .currentValue(1)
+                .build());
+        return format(company.getCompanyCode(), fullName, year, 1);
+    }
+
+    public String nextEmployeeId(Company company, String fullName, int year) {
+        return format(company.getCompanyCode(), fullName, year, nextSequence(company.getCompanyId(), year));
+    }
+
+    public long nextSequence(UUID companyId, int year) {
+        Key key = new Key(companyId, year);
+        while (true) {
+            Block block = blocks.get(key);
+            if (block != null) {
+                long value = block.next().getAndIncrement();
+                if (value <= block.last()) {
+                    return value;
+                }
+            }
+
+            synchronized (refillLocks.computeIfAbsent(key, k -> new Object())) {
+                // only the first thread to find the block exhausted reserves a new one
+                if (blocks.get(key) == block) {
+                    blocks.put(key, reserveBlock(key));
+                }
+            }
+        }
+    }
+
+    private Block reserveBlock(Key key) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return requiresNew.execute(status -> {
+                    EmployeeSequence sequence = sequenceRepository.findForUpdate(key.companyId(), key.year())
+                            .orElseGet(() -> sequenceRepository.saveAndFlush(EmployeeSequence.builder()
+                                    .company(companyRepository.getReferenceById(key.companyId()))
+                                    .year(key.year())
+                                    .currentValue(0)
+                                    .build()));
+
+                    long first = sequence.getCurrentValue() + 1L;
+                    sequence.setCurrentValue(sequence.getCurrentValue() + blockSize);
+                    return new Block(new AtomicLong(first), first + blockSize - 1);
+                });
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new IllegalStateException("Could not reserve employee IDs, please retry");
+                }
+                log.debug("Employee ID block reservation for {} conflicted (attempt {}), retrying", key, attempt);
+            }
+        }
+    }
+
+    public static String format(String companyCode, String fullName, int year, long sequence) {
+        return String.format(Locale.ROOT, "%s-%s-%d-%04d", companyCode, initials(fullName), year, sequence);
+    }
+
+    private static String initials(String fullName) {
+        if (fullName == null) {
+            return "XX";
+        }
+        String[] words = fullName.replaceAll("[^A-Za-z ]", "").trim().split("\\s+");
+        StringBuilder initials = new StringBuilder();
+        if (!words[0].isEmpty()) {
+            initials.append(words[0].charAt(0));
+            if (words.length > 1) {
+                initials.append(words[words.length - 1].charAt(0));
+            }
+        }
+        while (initials.length() < 2) {
+            initials.append('X');
+        }
+        return initials.toString().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,465 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.common.id.UuidV7;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.common.io.CsvRowReader;
+import org.odoo.backend.common.io.SpreadsheetRowReader;
+import org.odoo.backend.common.io.XlsxRowReader;
+import org.odoo.backend.dto.ImportJobResponse;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.HeadcountDimension;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.EmployeeJdbcRepository;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.odoo.backend.search.EmployeeSearchIndex;
+import org.odoo.backend.security.password.PasswordHashingService;
+import org.odoo.backend.service.EmployeeImportService;
+import org.odoo.backend.stats.HeadcountCounterWriter;
+import org.odoo.backend.stats.HeadcountCounterWriter.Bucket;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/*
+ * Bulk onboarding from CSV/XLSX. The upload is streamed row by row and written in fixed-size chunks:
+ * per chunk the passwords are hashed in parallel, login IDs come from the allocator's reserved blocks,
+ * and users, profiles and job details go in as three JDBC batches in one short transaction.
+ * Memory stays at one chunk whatever the file size; progress and row errors are polled by job ID.
+ */
+@Slf4j
+@Service
+public class EmployeeImportServiceImpl implements EmployeeImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final LocalDate EXCEL_EPOCH = LocalDate.of(1899, 12, 30);
+    // serials up to 2199-12-31; a larger number is more likely a yyyyMMdd typed into a number cell
+    private static final long MAX_EXCEL_SERIAL = 109_574;
+
+    private record ParsedRow(
+            long rowNumber,
+            String firstName,
+            String lastName,
+            String email,
+            String phone,
+            String address,
+            String city,
+            String state,
+            String country,
+            String department,
+            String designation,
+            LocalDate dateOfJoining,
+            UserRole role,
+            String password
+    ) {
+        String fullName() {
+            return lastName == null ? firstName : firstName + " " + lastName;
+        }
+    }
+
+    private final CompanyRepository companyRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeIdAllocator employeeIdAllocator;
+    private final PasswordHashingService passwordHashingService;
+    private final EmployeeSearchIndex employeeSearchIndex;
+    private final HeadcountCounterWriter headcountCounterWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+    private final int chunkSize;
+    private final int maxErrors;
+    private final long retentionMs;
+
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer chunkTimer;
+
+    public EmployeeImportServiceImpl(
+            CompanyRepository companyRepository,
+            EmployeeJdbcRepository employeeJdbcRepository,
+            EmployeeIdAllocator employeeIdAllocator,
+            PasswordHashingService passwordHashingService,
+            EmployeeSearchIndex employeeSearchIndex,
+            HeadcountCounterWriter headcountCounterWriter,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${employee-import.threads:2}") int threads,
+            @Value("${employee-import.queue-capacity:10}") int queueCapacity,
+            @Value("${employee-import.chunk-size:500}") int chunkSize,
+            @Value("${employee-import.max-errors:1000}") int maxErrors,
+            @Value("${employee-import.retention:3600000}") long retentionMs
+    ) {
+        this.companyRepository = companyRepository;
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.employeeIdAllocator = employeeIdAllocator;
+        this.passwordHashingService = passwordHashingService;
+        this.employeeSearchIndex = employeeSearchIndex;
+        this.headcountCounterWriter = headcountCounterWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.retentionMs = retentionMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "employee-import-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.importedCounter = Counter.builder("employee.import.rows").tag("result", "imported").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("employee.import.rows").tag("result", "rejected").register(meterRegistry);
+        this.chunkTimer = Timer.builder("employee.import.chunk.duration").register(meterRegistry);
+    }
+
+    @Override
+    public ImportJobResponse startImport(UUID companyId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidRequestException("Upload a non-empty .csv or .xlsx file");
+        }
+
+        String fileName = Optional.ofNullable(file.getOriginalFilename()).orElse("upload");
+        String lowerName = fileName.toLowerCase(Locale.ROOT);
+        boolean xlsx = lowerName.endsWith(".xlsx");
+        if (!xlsx && !lowerName.endsWith(".csv")) {
+            throw new InvalidRequestException("Only .csv and .xlsx files can be imported");
+        }
+
+        // the multipart temp file is deleted when the request ends, the job needs its own copy
+        Path copy;
+        try {
+            copy = Files.createTempFile("employee-import-", xlsx ? ".xlsx" : ".csv");
+            file.transferTo(copy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store the uploaded file", e);
+        }
+
+        ImportJob job = new ImportJob(companyId, fileName, copy, xlsx, maxErrors);
+        jobs.put(job.getJobId(), job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            deleteQuietly(copy);
+            throw new ServiceBusyException("Too many imports in progress, please retry later");
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public ImportJobResponse getJob(UUID companyId, UUID jobId) {
+        ImportJob job = jobs.get(jobId);
+        if (job == null || !job.getCompanyId().equals(companyId)) {
+            throw new ResourceNotFoundException("Import job not found");
+        }
+        return job.toResponse();
+    }
+
+    private void run(ImportJob job) {
+        job.start();
+        try (SpreadsheetRowReader reader = open(job)) {
+            Company company = companyRepository.findById(job.getCompanyId())
+                    .orElseThrow(() -> new IllegalStateException("Company not found"));
+
+            List<String> header = reader.nextRow();
+            if (header == null) {
+                job.finish(ImportJob.Status.FAILED, "The file is empty");
+                return;
+            }
+            Map<String, Integer> columns = columnIndex(header);
+            if (!columns.containsKey("firstname") || !columns.containsKey("email")) {
+                job.finish(ImportJob.Status.FAILED, "Header must contain at least firstName and email columns");
+                return;
+            }
+
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 1;
+            List<String> cells;
+            while ((cells = reader.nextRow()) != null) {
+                rowNumber++;
+                if (cells.stream().allMatch(String::isBlank)) {
+                    continue;
+                }
+                ParsedRow row = parse(job, columns, cells, rowNumber);
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(job, company, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                writeChunk(job, company, chunk);
+            }
+
+            job.finish(ImportJob.Status.COMPLETED, String.format(Locale.ROOT, "%d imported, %d rejected",
+                    job.getImportedRows().get(), job.getFailedRows().get()));
+        } catch (Exception e) {
+            log.error("Employee import {} failed after {} rows", job.getJobId(), job.getProcessedRows().get(), e);
+            job.finish(ImportJob.Status.FAILED, "Import stopped: " + e.getMessage());
+        } finally {
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    private void writeChunk(ImportJob job, Company company, List<ParsedRow> chunk) {
+        chunkTimer.record(() -> {
+            // duplicates inside the chunk, then against stored users (earlier chunks are already committed)
+            Set<String> seen = new HashSet<>();
+            List<ParsedRow> candidates = new ArrayList<>(chunk.size());
+            for (ParsedRow row : chunk) {
+                if (seen.add(row.email())) {
+                    candidates.add(row);
+                } else {
+                    reject(job, row, "Duplicate email in file");
+                }
+            }
+
+            Set<String> existing = employeeJdbcRepository.findExistingEmails(seen);
+            List<ParsedRow> rows = new ArrayList<>(candidates.size());
+            for (ParsedRow row : candidates) {
+                if (existing.contains(row.email())) {
+                    reject(job, row, "Email already registered");
+                } else {
+                    rows.add(row);
+                }
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<String> passwords = rows.stream().map(ParsedRow::password).toList();
+            List<String> hashes = passwordHashingService.encodeAll(passwords);
+
+            // IDs are reserved before the write transaction so it never waits on the sequence row
+            int currentYear = LocalDate.now().getYear();
+            List<NewEmployee> employees = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                ParsedRow row = rows.get(i);
+                int year = row.dateOfJoining() != null ? row.dateOfJoining().getYear() : currentYear;
+                employees.add(new NewEmployee(
+                        UuidV7.next(),
+                        company.getCompanyId(),
+                        employeeIdAllocator.nextEmployeeId(company, row.fullName(), year),
+                        row.email(),
+                        hashes.get(i),
+                        row.role(),
+                        false,
+                        row.firstName(),
+                        row.lastName(),
+                        row.phone(),
+                        row.address(),
+                        row.city(),
+                        row.state(),
+                        row.country(),
+                        row.department(),
+                        row.designation(),
+                        row.dateOfJoining()
+                ));
+            }
+
+            List<UUID> inserted = new ArrayList<>(employees.size());
+            try {
+                transactionTemplate.executeWithoutResult(status -> insert(company, employees));
+                employees.forEach(employee -> inserted.add(employee.userId()));
+                job.imported(employees.size());
+                importedCounter.increment(employees.size());
+            } catch (DataAccessException e) {
+                // one bad row fails the whole batch; replay row by row so only that row is reported
+                log.debug("Import {} chunk failed, retrying row by row: {}", job.getJobId(), e.getMessage());
+                for (int i = 0; i < employees.size(); i++) {
+                    NewEmployee employee = employees.get(i);
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> insert(company, List.of(employee)));
+                        inserted.add(employee.userId());
+                        job.imported(1);
+                        importedCounter.increment();
+                    } catch (DataAccessException rowError) {
+                        reject(job, rows.get(i), rowError instanceof DuplicateKeyException
+                                ? "Email or employee ID already exists"
+                                : "Could not be saved: " + NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            }
+
+            // likewise the search index has to be told about rows written without JPA
+            employeeSearchIndex.refresh(company.getCompanyId(), inserted);
+        });
+    }
+
+    // JDBC inserts skip the entity listeners, so the headcount counters move here in the same transaction
+    private void insert(Company company, List<NewEmployee> employees) {
+        employeeJdbcRepository.insertAll(employees);
+
+        Map<Bucket, Long> deltas = new HashMap<>();
+        for (NewEmployee employee : employees) {
+            deltas.merge(new Bucket(HeadcountDimension.ROLE, employee.role().name()), 1L, Long::sum);
+            deltas.merge(new Bucket(HeadcountDimension.DEPARTMENT, employee.department()), 1L, Long::sum);
+            deltas.merge(new Bucket(HeadcountDimension.STATUS, EmployeeStatus.ACTIVE.name()), 1L, Long::sum);
+        }
+        headcountCounterWriter.addAll(company.getCompanyId(), deltas);
+    }
+
+    private ParsedRow parse(ImportJob job, Map<String, Integer> columns, List<String> cells, long rowNumber) {
+        String email = cell(columns, cells, "email");
+        email = email == null ? null : email.toLowerCase(Locale.ROOT);
+        String firstName = cell(columns, cells, "firstname");
+
+        String password = cell(columns, cells, "password");
+
+        String error = null;
+        if (firstName == null) {
+            error = "First name is required";
+        } else if (email == null || !EMAIL_PATTERN.matcher(email).matches()) {
+            error = "A valid email is required";
+        } else if (password == null) {
+            // nothing can deliver a generated password to the employee, so the sheet has to carry one
+            error = "Password is required";
+        }
+
+        LocalDate dateOfJoining = null;
+        String rawDate = cell(columns, cells, "dateofjoining");
+        if (error == null && rawDate != null) {
+            try {
+                dateOfJoining = parseDate(rawDate, job.isXlsx());
+            } catch (DateTimeParseException | NumberFormatException e) {
+                error = "Date of joining must be yyyy-MM-dd";
+            }
+        }
+
+        UserRole role = UserRole.ROLE_EMPLOYEE;
+        String rawRole = cell(columns, cells, "role");
+        if (error == null && rawRole != null) {
+            String normalized = rawRole.toUpperCase(Locale.ROOT).replace("ROLE_", "");
+            if ("HR".equals(normalized)) {
+                role = UserRole.ROLE_HR;
+            } else if (!"EMPLOYEE".equals(normalized)) {
+                // admins are never created by import
+                error = "Role must be EMPLOYEE or HR";
+            }
+        }
+
+        if (error != null) {
+            job.rejected(rowNumber, email, error);
+            rejectedCounter.increment();
+            return null;
+        }
+
+        return new ParsedRow(
+                rowNumber,
+                firstName,
+                cell(columns, cells, "lastname"),
+                email,
+                cell(columns, cells, "phone"),
+                cell(columns, cells, "address"),
+                cell(columns, cells, "city"),
+                cell(columns, cells, "state"),
+                cell(columns, cells, "country"),
+                cell(columns, cells, "department"),
+                cell(columns, cells, "designation"),
+                dateOfJoining,
+                role,
+                password
+        );
+    }
+
+    private void reject(ImportJob job, ParsedRow row, String reason) {
+        job.rejected(row.rowNumber(), row.email(), reason);
+        rejectedCounter.increment();
+    }
+
+    // "First Name", "first_name" and "firstName" all map to "firstname"
+    private static Map<String, Integer> columnIndex(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", ""), i);
+        }
+        return columns;
+    }
+
+    private static String cell(Map<String, Integer> columns, List<String> cells, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= cells.size()) {
+            return null;
+        }
+        String value = cells.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // xlsx date cells are stored as serial day numbers; CSV has no cell types, so only ISO dates there
+    private static LocalDate parseDate(String value, boolean xlsx) {
+        if (xlsx && value.matches("\\d+(\\.\\d+)?")) {
+            long serial = (long) Double.parseDouble(value);
+            if (serial < 1 || serial > MAX_EXCEL_SERIAL) {
+                throw new NumberFormatException("Not a date serial: " + value);
+            }
+            return EXCEL_EPOCH.plusDays(serial);
+        }
+        return LocalDate.parse(value);
+    }
+
+    private static SpreadsheetRowReader open(ImportJob job) throws IOException {
+        if (job.isXlsx()) {
+            return new XlsxRowReader(job.getFile());
+        }
+        return new CsvRowReader(Files.newBufferedReader(job.getFile(), StandardCharsets.UTF_8));
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${employee-import.sweep-interval:300000}")
+    void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000L);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
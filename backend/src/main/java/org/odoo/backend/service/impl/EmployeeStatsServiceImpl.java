@@ -0,0 +1,48 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.dto.HeadcountStats;
+import org.odoo.backend.model.HeadcountCounter;
+import org.odoo.backend.repositories.HeadcountCounterRepository;
+import org.odoo.backend.service.EmployeeStatsService;
+import org.odoo.backend.stats.HeadcountCache;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Reads the maintained counters (a handful of rows per company), never the employee tables
+@Service
+@RequiredArgsConstructor
+public class EmployeeStatsServiceImpl implements EmployeeStatsService {
+
+    private final HeadcountCounterRepository headcountCounterRepository;
+    private final HeadcountCache headcountCache;
+
+    @Override
+    public HeadcountStats getHeadcount(UUID companyId) {
+        return headcountCache.get(companyId, this::load);
+    }
+
+    private HeadcountStats load(UUID companyId) {
+        Map<String, Long> byDepartment = new TreeMap<>();
+        Map<String, Long> byStatus = new TreeMap<>();
+        Map<String, Long> byRole = new TreeMap<>();
+
+        for (HeadcountCounter counter : headcountCounterRepository.findById_CompanyId(companyId)) {
+            if (counter.getHeadcount() <= 0) {
+                continue;
+            }
+            Map<String, Long> target = switch (counter.getId().getDimension()) {
+                case DEPARTMENT -> byDepartment;
+                case STATUS -> byStatus;
+                case ROLE -> byRole;
+            };
+            target.put(counter.getId().getBucket(), counter.getHeadcount());
+        }
+
+        long total = byRole.values().stream().mapToLong(Long::longValue).sum();
+        return new HeadcountStats(total, byDepartment, byStatus, byRole);
+    }
+}
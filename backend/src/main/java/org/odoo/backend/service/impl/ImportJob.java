@@ -0,0 +1,99 @@
+package org.odoo.backend.service.impl;
+
+import lombok.Getter;
+import org.odoo.backend.dto.ImportJobResponse;
+import org.odoo.backend.dto.ImportRowError;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one import; written by the worker thread, read by status polls
+@Getter
+class ImportJob {
+
+    enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final UUID jobId = UUID.randomUUID();
+    private final UUID companyId;
+    private final String fileName;
+    private final Path file;
+    private final boolean xlsx;
+    private final int maxErrors;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<ImportRowError> errors = new ArrayList<>();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    ImportJob(UUID companyId, String fileName, Path file, boolean xlsx, int maxErrors) {
+        this.companyId = companyId;
+        this.fileName = fileName;
+        this.file = file;
+        this.xlsx = xlsx;
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void finish(Status finalStatus, String finalMessage) {
+        message = finalMessage;
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    void imported(int rows) {
+        processedRows.addAndGet(rows);
+        importedRows.addAndGet(rows);
+    }
+
+    // Only the first maxErrors are kept, the counter still reflects every failed row
+    void rejected(long row, String email, String reason) {
+        processedRows.incrementAndGet();
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportRowError(row, email, reason));
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    ImportJobResponse toResponse() {
+        List<ImportRowError> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+        return ImportJobResponse.builder()
+                .jobId(jobId.toString())
+                .fileName(fileName)
+                .status(status.name())
+                .processedRows(processedRows.get())
+                .importedRows(importedRows.get())
+                .failedRows(failedRows.get())
+                .errors(errorSnapshot)
+                .errorsTruncated(failedRows.get() > errorSnapshot.size())
+                .message(message)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.concurrent.HierarchicalTimingWheel;
+import org.odoo.backend.model.OTP;
+import org.odoo.backend.repositories.OTPRepository;
+import org.odoo.backend.service.OtpStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+ * Default OTP store. Without write-through the map is the store and verification is a map lookup.
+ * With write-through the otps table is the authority shared by every node: an OTP is consumed by a
+ * conditional delete of its row, and the map only caches the row id so the lookup can be skipped.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "otp.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOtpStore implements OtpStore {
+
+    private static final int SHARD_COUNT = 64;
+
+    private record Entry(String email, String otpCode, LocalDateTime expiryTime, UUID rowId) {
+    }
+
+    private static final class Shard {
+        private final Map<String, Entry> entries = new HashMap<>();
+    }
+
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+    private final OTPRepository otpRepository;
+    private final boolean writeThrough;
+    private final HierarchicalTimingWheel<Entry> expiryWheel;
+    private final ExecutorService rowCleaner;
+
+    public InMemoryOtpStore(
+            OTPRepository otpRepository,
+            MeterRegistry meterRegistry,
+            @Value("${otp.write-through:false}") boolean writeThrough,
+            @Value("${otp.wheel.tick:1000}") long tickMs,
+            @Value("${otp.wheel.size:64}") int wheelSize
+    ) {
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard();
+        }
+        this.otpRepository = otpRepository;
+        this.writeThrough = writeThrough;
+        this.expiryWheel = new HierarchicalTimingWheel<>("otp-expiry-wheel", tickMs, wheelSize, this::expire);
+        this.rowCleaner = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "otp-row-cleaner");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("otp.store.size", this, InMemoryOtpStore::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void warmUp() {
+        if (!writeThrough) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        otpRepository.deleteByExpiryTimeBefore(now);
+        for (OTP otp : otpRepository.findByVerifiedFalseAndExpiryTimeAfter(now)) {
+            remember(new Entry(otp.getEmail(), otp.getOtpCode(), otp.getExpiryTime(), otp.getId()));
+        }
+        log.info("Loaded {} pending OTPs from the otps table", size());
+    }
+
+    // Runs inside the caller's transaction, so the row and the outbox email commit together.
+    // The map entry is only added once that transaction commits, so a rollback leaves no usable code.
+    @Override
+    public void put(String email, String otpCode, LocalDateTime expiryTime) {
+        UUID rowId = null;
+        if (writeThrough) {
+            otpRepository.deleteOTPByEmail(email);
+            rowId = otpRepository.save(OTP.builder()
+                    .email(email)
+                    .otpCode(otpCode)
+                    .expiryTime(expiryTime)
+                    .build()).getId();
+        }
+
+        Entry entry = new Entry(email, otpCode, expiryTime, rowId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(entry);
+            }
+        });
+    }
+
+    @Override
+    public boolean verify(String email, String otpCode) {
+        if (writeThrough) {
+            return verifyAgainstTable(email, otpCode);
+        }
+
+        Shard shard = shardFor(email);
+        synchronized (shard) {
+            Entry entry = shard.entries.get(email);
+            if (entry == null || !entry.otpCode().equals(otpCode) || entry.expiryTime().isBefore(LocalDateTime.now())) {
+                return false;
+            }
+            shard.entries.remove(email);
+            return true;
+        }
+    }
+
+    // Whichever node deletes the row first wins; a cached entry only saves the select
+    private boolean verifyAgainstTable(String email, String otpCode) {
+        Entry cached = cached(email);
+        UUID rowId;
+        if (cached != null && cached.otpCode().equals(otpCode)) {
+            if (cached.expiryTime().isBefore(LocalDateTime.now())) {
+                return false;
+            }
+            rowId = cached.rowId();
+        } else {
+            // not issued by this node, issued before a restart, or replaced by another node
+            Optional<OTP> otp = otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, otpCode);
+            if (otp.isEmpty() || otp.get().getExpiryTime().isBefore(LocalDateTime.now())) {
+                return false;
+            }
+            rowId = otp.get().getId();
+        }
+
+        boolean consumed = otpRepository.consumeById(rowId) == 1;
+        if (consumed || cached != null && rowId.equals(cached.rowId())) {
+            // the cached code is spent either way
+            forget(email, cached);
+        }
+        return consumed;
+    }
+
+    private Entry cached(String email) {
+        Shard shard = shardFor(email);
+        synchronized (shard) {
+            return shard.entries.get(email);
+        }
+    }
+
+    private void forget(String email, Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        Shard shard = shardFor(email);
+        synchronized (shard) {
+            shard.entries.remove(email, entry);
+        }
+    }
+
+    private void remember(Entry entry) {
+        Shard shard = shardFor(entry.email());
+        synchronized (shard) {
+            shard.entries.put(entry.email(), entry);
+        }
+        expiryWheel.schedule(entry, entry.expiryTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    // Called on the wheel thread; an entry replaced by a newer OTP is left alone
+    private void expire(Entry entry) {
+        Shard shard = shardFor(entry.email());
+        synchronized (shard) {
+            shard.entries.remove(entry.email(), entry);
+        }
+        deleteRowLater(entry);
+    }
+
+    private void deleteRowLater(Entry entry) {
+        if (entry.rowId() == null) {
+            return;
+        }
+        rowCleaner.execute(() -> {
+            try {
+                otpRepository.deleteById(entry.rowId());
+            } catch (Exception e) {
+                log.debug("Could not delete OTP row {}: {}", entry.rowId(), e.getMessage());
+            }
+        });
+    }
+
+    private Shard shardFor(String email) {
+        int hash = email.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
+    }
+
+    private int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.entries.size();
+            }
+        }
+        return size;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryWheel.close();
+        rowCleaner.shutdown();
+    }
+}
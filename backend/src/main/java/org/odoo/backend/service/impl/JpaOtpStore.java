@@ -0,0 +1,48 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.model.OTP;
+import org.odoo.backend.repositories.OTPRepository;
+import org.odoo.backend.service.OtpStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "otp.store", havingValue = "jpa")
+public class JpaOtpStore implements OtpStore {
+
+    private final OTPRepository otpRepository;
+
+    @Override
+    @Transactional
+    public void put(String email, String otpCode, LocalDateTime expiryTime) {
+        otpRepository.deleteOTPByEmail(email);
+
+        OTP otp = OTP.builder()
+                .email(email)
+                .otpCode(otpCode)
+                .expiryTime(expiryTime)
+                .build();
+
+        otpRepository.save(otp);
+    }
+
+    @Override
+    @Transactional
+    public boolean verify(String email, String otpCode) {
+        Optional<OTP> otp = otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, otpCode);
+
+        if (otp.isEmpty() || otp.get().getExpiryTime().isBefore(LocalDateTime.now())) {
+            return false;
+        }
+
+        otp.get().setVerified(true);
+        otpRepository.save(otp.get());
+        return true;
+    }
+}
@@ -0,0 +1,117 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Coalesces last-login timestamps per user and writes them as one JDBC batch instead of a row update per login
+@Slf4j
+@Component
+public class LastLoginWriteBehind {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET last_login = ? WHERE user_id = ? AND (last_login IS NULL OR last_login < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final ExecutorService overflowFlusher;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final Counter writtenCounter;
+    private final Timer flushTimer;
+
+    public LastLoginWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${user-activity.write-behind.max-pending:50000}") int maxPending,
+            @Value("${user-activity.write-behind.batch-size:500}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.overflowFlusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.writtenCounter = meterRegistry.counter("user.activity.write.behind.written");
+        this.flushTimer = meterRegistry.timer("user.activity.write.behind.flush");
+        Gauge.builder("user.activity.write.behind.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    public void recordLogin(UUID userId, LocalDateTime loginTime) {
+        pending.merge(userId, loginTime, (current, next) -> next.isAfter(current) ? next : current);
+
+        // bounded memory: a full buffer is flushed right away instead of waiting for the schedule
+        if (pending.size() >= maxPending && !flushing.get()) {
+            overflowFlusher.execute(this::flush);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${user-activity.write-behind.flush-interval:5000}")
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushTimer.record(this::drain);
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    private void drain() {
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        for (UUID userId : pending.keySet()) {
+            LocalDateTime loginTime = pending.remove(userId);
+            if (loginTime == null) {
+                continue;
+            }
+            batch.add(new Object[]{loginTime, UuidBinary.toBytes(userId), loginTime});
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            // last login is informational: losing one batch is better than growing the buffer forever
+            log.warn("Failed to write {} last-login updates: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        overflowFlusher.shutdown();
+        flush();
+    }
+}
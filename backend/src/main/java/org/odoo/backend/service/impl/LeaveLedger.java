@@ -0,0 +1,169 @@
+package org.odoo.backend.service.impl;
+
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.model.*;
+import org.odoo.backend.repositories.JobDetailsRepository;
+import org.odoo.backend.repositories.LeaveBalanceRepository;
+import org.odoo.backend.repositories.LeaveLedgerRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/*
+ * Writes to the leave ledger. Every method runs in the caller's transaction and moves the balance
+ * row together with the ledger entry it appends; the row's version makes a concurrent writer fail
+ * at commit, and the caller retries on fresh rows. Accrual is lazy: a balance row remembers the
+ * last month it includes, and the next write (or a read that finds it behind) credits only the
+ * months since, as a single ledger entry.
+ */
+@Component
+public class LeaveLedger {
+
+    public static final List<LeaveType> BALANCE_TYPES = List.of(LeaveType.PAID, LeaveType.SICK);
+
+    private final LeaveBalanceRepository balanceRepository;
+    private final LeaveLedgerRepository ledgerRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final UserRepository userRepository;
+    private final Map<LeaveType, BigDecimal> monthlyAccrual;
+    private final Map<LeaveType, BigDecimal> maxBalance;
+
+    public LeaveLedger(
+            LeaveBalanceRepository balanceRepository,
+            LeaveLedgerRepository ledgerRepository,
+            JobDetailsRepository jobDetailsRepository,
+            UserRepository userRepository,
+            @Value("${leave.accrual.paid:1.5}") BigDecimal paidAccrual,
+            @Value("${leave.accrual.sick:1.0}") BigDecimal sickAccrual,
+            @Value("${leave.max-balance.paid:45}") BigDecimal paidMax,
+            @Value("${leave.max-balance.sick:12}") BigDecimal sickMax
+    ) {
+        this.balanceRepository = balanceRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.jobDetailsRepository = jobDetailsRepository;
+        this.userRepository = userRepository;
+        this.monthlyAccrual = new EnumMap<>(Map.of(LeaveType.PAID, paidAccrual, LeaveType.SICK, sickAccrual));
+        this.maxBalance = new EnumMap<>(Map.of(LeaveType.PAID, paidMax, LeaveType.SICK, sickMax));
+    }
+
+    // True when the rows cover every balance type and already include this month's accrual
+    public static boolean isCurrent(List<LeaveBalance> rows, YearMonth month) {
+        int period = AttendanceMonth.period(month);
+        return rows.size() == BALANCE_TYPES.size() && rows.stream().allMatch(row -> row.getAccruedThrough() >= period);
+    }
+
+    // Loads the employee's balances, creating missing rows and crediting accrual up to the given month
+    public Map<LeaveType, LeaveBalance> accrue(UUID companyId, UUID userId, YearMonth through) {
+        Map<LeaveType, LeaveBalance> balances = new EnumMap<>(LeaveType.class);
+        for (LeaveBalance row : balanceRepository.findById_UserId(userId)) {
+            if (!row.getCompanyId().equals(companyId)) {
+                throw new ResourceNotFoundException("Employee not found");
+            }
+            balances.put(row.getId().getLeaveType(), row);
+        }
+
+        if (balances.size() < BALANCE_TYPES.size()) {
+            YearMonth opening = openingMonth(companyId, userId, through);
+            LocalDateTime now = LocalDateTime.now();
+            for (LeaveType type : BALANCE_TYPES) {
+                balances.computeIfAbsent(type, t -> LeaveBalance.builder()
+                        .id(new LeaveBalanceId(userId, t))
+                        .companyId(companyId)
+                        .balance(BigDecimal.ZERO)
+                        .accruedThrough(AttendanceMonth.period(opening.minusMonths(1)))
+                        .updatedAt(now)
+                        .newRow(true)
+                        .build());
+            }
+        }
+
+        int throughPeriod = AttendanceMonth.period(through);
+        List<LeaveBalance> changed = new ArrayList<>();
+        for (LeaveBalance row : balances.values()) {
+            if (row.getAccruedThrough() >= throughPeriod) {
+                if (row.isNew()) {
+                    changed.add(row);
+                }
+                continue;
+            }
+            YearMonth from = toYearMonth(row.getAccruedThrough()).plusMonths(1);
+            long months = ChronoUnit.MONTHS.between(from, through) + 1;
+            LeaveType type = row.getId().getLeaveType();
+
+            // the cap stops accrual, it never takes away days that are already there
+            BigDecimal credited = monthlyAccrual.get(type).multiply(BigDecimal.valueOf(months));
+            BigDecimal after = row.getBalance().add(credited).min(maxBalance.get(type)).max(row.getBalance());
+            if (after.compareTo(row.getBalance()) != 0) {
+                append(row, LeaveLedgerEntryType.ACCRUAL, after.subtract(row.getBalance()), after,
+                        null, AttendanceMonth.period(from), throughPeriod);
+            }
+            row.setBalance(after);
+            row.setAccruedThrough(throughPeriod);
+            row.setUpdatedAt(LocalDateTime.now());
+            changed.add(row);
+        }
+        balanceRepository.saveAll(changed);
+        return balances;
+    }
+
+    public void debit(LeaveBalance balance, LeaveRequest request) {
+        BigDecimal after = balance.getBalance().subtract(request.getDays());
+        if (after.signum() < 0) {
+            throw new InvalidRequestException("Insufficient " + balance.getId().getLeaveType().name().toLowerCase(Locale.ROOT)
+                    + " leave balance: " + balance.getBalance() + " day(s) available, " + request.getDays() + " requested");
+        }
+        append(balance, LeaveLedgerEntryType.DEBIT, request.getDays().negate(), after, request.getRequestId(), null, null);
+        move(balance, after);
+    }
+
+    public void reverse(LeaveBalance balance, LeaveRequest request) {
+        BigDecimal after = balance.getBalance().add(request.getDays());
+        append(balance, LeaveLedgerEntryType.REVERSAL, request.getDays(), after, request.getRequestId(), null, null);
+        move(balance, after);
+    }
+
+    private void move(LeaveBalance balance, BigDecimal after) {
+        balance.setBalance(after);
+        balance.setUpdatedAt(LocalDateTime.now());
+        balanceRepository.save(balance);
+    }
+
+    private void append(LeaveBalance balance, LeaveLedgerEntryType type, BigDecimal days, BigDecimal after,
+                        UUID requestId, Integer periodFrom, Integer periodTo) {
+        ledgerRepository.save(LeaveLedgerEntry.builder()
+                .userId(balance.getId().getUserId())
+                .companyId(balance.getCompanyId())
+                .leaveType(balance.getId().getLeaveType())
+                .entryType(type)
+                .days(days)
+                .balanceAfter(after)
+                .leaveRequestId(requestId)
+                .periodFrom(periodFrom)
+                .periodTo(periodTo)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    // Accrual starts with the joining month; without a joining date, with the month the ledger is first used
+    private YearMonth openingMonth(UUID companyId, UUID userId, YearMonth through) {
+        Optional<LocalDate> joined = jobDetailsRepository.findDateOfJoining(companyId, userId);
+        if (joined.isEmpty() && !userRepository.existsByUserIdAndCompany_CompanyId(userId, companyId)) {
+            throw new ResourceNotFoundException("Employee not found");
+        }
+        return joined.map(YearMonth::from)
+                .filter(month -> !month.isAfter(through))
+                .orElse(through);
+    }
+
+    private static YearMonth toYearMonth(int period) {
+        return YearMonth.of(period / 100, period % 100);
+    }
+}
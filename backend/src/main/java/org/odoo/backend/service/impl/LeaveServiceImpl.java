@@ -0,0 +1,255 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.dto.LeaveApplicationRequest;
+import org.odoo.backend.dto.LeaveBalanceResponse;
+import org.odoo.backend.dto.LeaveRequestResponse;
+import org.odoo.backend.model.*;
+import org.odoo.backend.repositories.LeaveBalanceRepository;
+import org.odoo.backend.repositories.LeaveRequestRepository;
+import org.odoo.backend.service.LeaveService;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/*
+ * Balance reads are one primary-key range read of leave_balances; only a row that is behind on
+ * accrual (or missing) costs a write. Approvals and cancellations change the request, the balance
+ * row and the ledger in one transaction guarded by version columns, and are retried on conflict.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeaveServiceImpl implements LeaveService {
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final int MAX_LEAVE_DAYS = 366;
+    private static final int LIST_LIMIT = 200;
+
+    private final LeaveLedger leaveLedger;
+    private final LeaveBalanceRepository leaveBalanceRepository;
+    private final LeaveRequestRepository leaveRequestRepository;
+    private final AttendanceCalendarWriter calendarWriter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public List<LeaveBalanceResponse> getBalances(UUID companyId, UUID userId) {
+        YearMonth month = YearMonth.now();
+        List<LeaveBalance> rows = leaveBalanceRepository.findById_UserId(userId);
+        if (rows.stream().anyMatch(row -> !row.getCompanyId().equals(companyId))) {
+            throw new ResourceNotFoundException("Employee not found");
+        }
+        if (!LeaveLedger.isCurrent(rows, month)) {
+            rows = withRetry(() -> transactionTemplate.execute(status ->
+                    List.copyOf(leaveLedger.accrue(companyId, userId, month).values())));
+        }
+        return rows.stream()
+                .sorted(Comparator.comparing(row -> row.getId().getLeaveType()))
+                .map(row -> new LeaveBalanceResponse(
+                        row.getId().getLeaveType(),
+                        row.getBalance(),
+                        YearMonth.of(row.getAccruedThrough() / 100, row.getAccruedThrough() % 100)))
+                .toList();
+    }
+
+    @Override
+    public LeaveRequestResponse apply(UUID companyId, UUID userId, LeaveApplicationRequest request) {
+        if (request.getLeaveType() == null || request.getStartDate() == null || request.getEndDate() == null) {
+            throw new InvalidRequestException("leaveType, startDate and endDate are required");
+        }
+        if (request.getEndDate().isBefore(request.getStartDate())) {
+            throw new InvalidRequestException("endDate must not be before startDate");
+        }
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) >= MAX_LEAVE_DAYS) {
+            throw new InvalidRequestException("A leave request can cover at most " + MAX_LEAVE_DAYS + " days");
+        }
+
+        BigDecimal days = BigDecimal.valueOf(workingDays(request.getStartDate(), request.getEndDate()).size());
+        if (days.signum() == 0) {
+            throw new InvalidRequestException("The requested range has no working days");
+        }
+        if (leaveRequestRepository.existsOverlapping(userId, request.getStartDate(), request.getEndDate())) {
+            throw new InvalidRequestException("Overlaps an existing leave request");
+        }
+
+        // early feedback only; the balance is checked again, under the version guard, on approval
+        LeaveType balanceType = request.getLeaveType().balanceType();
+        if (balanceType != null) {
+            BigDecimal available = getBalances(companyId, userId).stream()
+                    .filter(balance -> balance.leaveType() == balanceType)
+                    .map(LeaveBalanceResponse::available)
+                    .findFirst()
+                    .orElse(BigDecimal.ZERO);
+            if (available.compareTo(days) < 0) {
+                throw new InvalidRequestException("Insufficient leave balance: " + available + " day(s) available, "
+                        + days + " requested");
+            }
+        }
+
+        LeaveRequest saved = leaveRequestRepository.save(LeaveRequest.builder()
+                .userId(userId)
+                .companyId(companyId)
+                .leaveType(request.getLeaveType())
+                .startDate(request.getStartDate())
+                .endDate(request.getEndDate())
+                .days(days)
+                .remarks(request.getRemarks())
+                .status(LeaveRequestStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        return toResponse(saved);
+    }
+
+    @Override
+    public List<LeaveRequestResponse> getMyRequests(UUID companyId, UUID userId) {
+        return leaveRequestRepository.findByUserIdAndCompanyIdOrderByStartDateDesc(userId, companyId, Limit.of(LIST_LIMIT))
+                .stream().map(LeaveServiceImpl::toResponse).toList();
+    }
+
+    @Override
+    public List<LeaveRequestResponse> getPendingRequests(UUID companyId) {
+        return leaveRequestRepository.findByCompanyIdAndStatusOrderByCreatedAt(companyId, LeaveRequestStatus.PENDING, Limit.of(LIST_LIMIT))
+                .stream().map(LeaveServiceImpl::toResponse).toList();
+    }
+
+    @Override
+    public LeaveRequestResponse approve(UUID companyId, UUID reviewerId, UUID requestId) {
+        return withRetry(() -> transactionTemplate.execute(status -> {
+            LeaveRequest request = findPending(companyId, requestId);
+            LeaveType balanceType = request.getLeaveType().balanceType();
+            if (balanceType != null) {
+                Map<LeaveType, LeaveBalance> balances = leaveLedger.accrue(companyId, request.getUserId(), YearMonth.now());
+                leaveLedger.debit(balances.get(balanceType), request);
+                // unpaid leave is left out of the calendar so the absence job turns it into loss of pay
+                markCalendar(request, true);
+            }
+            review(request, reviewerId, LeaveRequestStatus.APPROVED);
+            return toResponse(request);
+        }));
+    }
+
+    @Override
+    public LeaveRequestResponse reject(UUID companyId, UUID reviewerId, UUID requestId) {
+        return withRetry(() -> transactionTemplate.execute(status -> {
+            LeaveRequest request = findPending(companyId, requestId);
+            review(request, reviewerId, LeaveRequestStatus.REJECTED);
+            return toResponse(request);
+        }));
+    }
+
+    @Override
+    public LeaveRequestResponse cancel(UUID companyId, UUID userId, UUID requestId) {
+        return withRetry(() -> transactionTemplate.execute(status -> {
+            LeaveRequest request = leaveRequestRepository.findById(requestId)
+                    .filter(r -> r.getCompanyId().equals(companyId) && r.getUserId().equals(userId))
+                    .orElseThrow(() -> new ResourceNotFoundException("Leave request not found"));
+
+            if (request.getStatus() == LeaveRequestStatus.APPROVED) {
+                if (!request.getStartDate().isAfter(LocalDate.now())) {
+                    throw new InvalidRequestException("Leave that has already started cannot be cancelled");
+                }
+                LeaveType balanceType = request.getLeaveType().balanceType();
+                if (balanceType != null) {
+                    Map<LeaveType, LeaveBalance> balances = leaveLedger.accrue(companyId, userId, YearMonth.now());
+                    leaveLedger.reverse(balances.get(balanceType), request);
+                    markCalendar(request, false);
+                }
+            } else if (request.getStatus() != LeaveRequestStatus.PENDING) {
+                throw new InvalidRequestException("Leave request is already " + request.getStatus().name().toLowerCase(Locale.ROOT));
+            }
+            request.setStatus(LeaveRequestStatus.CANCELLED);
+            return toResponse(request);
+        }));
+    }
+
+    private LeaveRequest findPending(UUID companyId, UUID requestId) {
+        LeaveRequest request = leaveRequestRepository.findById(requestId)
+                .filter(r -> r.getCompanyId().equals(companyId))
+                .orElseThrow(() -> new ResourceNotFoundException("Leave request not found"));
+        if (request.getStatus() != LeaveRequestStatus.PENDING) {
+            throw new InvalidRequestException("Leave request is already " + request.getStatus().name().toLowerCase(Locale.ROOT));
+        }
+        return request;
+    }
+
+    private void review(LeaveRequest request, UUID reviewerId, LeaveRequestStatus status) {
+        request.setStatus(status);
+        request.setReviewedBy(reviewerId);
+        request.setReviewedAt(LocalDateTime.now());
+    }
+
+    // One statement per calendar month the leave touches, not one per day
+    private void markCalendar(LeaveRequest request, boolean onLeave) {
+        Map<YearMonth, Integer> daysByMonth = new TreeMap<>();
+        for (LocalDate day : workingDays(request.getStartDate(), request.getEndDate())) {
+            daysByMonth.merge(YearMonth.from(day), AttendanceMonth.bit(day.getDayOfMonth()), (a, b) -> a | b);
+        }
+        daysByMonth.forEach((month, days) ->
+                calendarWriter.markLeave(request.getUserId(), request.getCompanyId(), month, days, onLeave));
+    }
+
+    private List<LocalDate> workingDays(LocalDate from, LocalDate to) {
+        return from.datesUntil(to.plusDays(1)).filter(day -> !calendarWriter.isWeekend(day)).toList();
+    }
+
+    // Optimistic conflicts (and two first-time balance inserts) are retried on fresh rows
+    private <T> T withRetry(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return work.get();
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw new ServiceBusyException("Leave balance is being updated concurrently, please retry");
+                }
+                log.debug("Leave ledger write conflicted (attempt {}), retrying", attempt);
+                backOff(attempt);
+            }
+        }
+    }
+
+    private static void backOff(int attempt) {
+        try {
+            // jittered so the losers of one round do not collide again in the next
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, Math.min(100, 5L * attempt * attempt) + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while updating the leave balance");
+        }
+    }
+
+    private static LeaveRequestResponse toResponse(LeaveRequest request) {
+        return new LeaveRequestResponse(
+                request.getRequestId(),
+                request.getUserId(),
+                request.getLeaveType(),
+                request.getStartDate(),
+                request.getEndDate(),
+                request.getDays(),
+                request.getRemarks(),
+                request.getStatus(),
+                request.getReviewedBy(),
+                request.getReviewedAt(),
+                request.getCreatedAt()
+        );
+    }
+}
@@ -2,23 +2,23 @@ package org.odoo.backend.service.impl;
 
 
 import lombok.RequiredArgsConstructor;
-import org.odoo.backend.model.OTP;
-import org.odoo.backend.repositories.OTPRepository;
+import org.odoo.backend.model.EmailType;
+import org.odoo.backend.service.EmailOutboxService;
 import org.odoo.backend.service.OTPService;
+import org.odoo.backend.service.OtpStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Optional;
 import java.util.Random;
 
 @Service
 @RequiredArgsConstructor
 public class OtpServiceImpl implements OTPService {
 
-    private final EmailServiceImpl emailService;
-    private final OTPRepository otpRepository;
+    private final EmailOutboxService emailOutboxService;
+    private final OtpStore otpStore;
 
     @Value("${otp.length}")
     private int otpLength;
@@ -39,59 +39,29 @@ public class OtpServiceImpl implements OTPService {
     @Override
     @Transactional
     public void generateAndSendOtp(String email) {
-        //Delete Otps of the Email
-        otpRepository.deleteOTPByEmail(email);
-
-        //Generate New Otp
+        //Generate New Otp (replaces any previous Otp of the Email)
         String otpCode = generateOtp();
         LocalDateTime expiry = LocalDateTime.now().plusSeconds(otpExpiration / 1000);
 
-        OTP otp = OTP.builder()
-                .email(email)
-                .otpCode(otpCode)
-                .expiryTime(expiry)
-                .build();
-
-        otpRepository.save(otp);
+        otpStore.put(email, otpCode, expiry);
 
-        emailService.sendOTPEmail(email, otpCode);
+        emailOutboxService.enqueue(EmailType.OTP_VERIFICATION, email, otpCode);
     }
 
     @Override
     @Transactional
     public void generateAndSendPasswordResetOTP(String email) {
-        otpRepository.deleteOTPByEmail(email);
-
         //Generate New Otp
         String otpCode = generateOtp();
         LocalDateTime expiry = LocalDateTime.now().plusSeconds(otpExpiration / 1000);
 
-        OTP otp = OTP.builder()
-                .email(email)
-                .otpCode(otpCode)
-                .expiryTime(expiry)
-                .build();
-
-        otpRepository.save(otp);
+        otpStore.put(email, otpCode, expiry);
 
-        emailService.sendPasswordResetOTPEmail(email, otpCode);
+        emailOutboxService.enqueue(EmailType.PASSWORD_RESET_OTP, email, otpCode);
     }
 
     @Override
     public boolean validateOtp(String email, String otp) {
-        Optional<OTP> otp1 = otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, otp);
-
-        if (otp1.isEmpty()) return false;
-
-        OTP otp2 = otp1.get();
-
-        if (otp2.getExpiryTime().isBefore(LocalDateTime.now())) {
-            return false;
-        }
-
-        otp2.setVerified(true);
-        otpRepository.save(otp2);
-        return true;
-
+        return otpStore.verify(email, otp);
     }
 }
\ No newline at end of file
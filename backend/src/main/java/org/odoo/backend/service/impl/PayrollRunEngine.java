@@ -0,0 +1,301 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.model.*;
+import org.odoo.backend.repositories.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ * Executes payroll runs. Planning pages through the company's payroll members once and stores the
+ * key ranges as chunk rows; execution forks the open chunks across a fork-join pool. Each chunk reads
+ * its salary structures and attendance outside any transaction, computes in memory, then inserts its
+ * payslips and flips its checkpoint in one short transaction. A crash loses at most the chunks in
+ * flight, and resuming only looks at chunks that are not done.
+ */
+@Slf4j
+@Component
+public class PayrollRunEngine {
+
+    static final Set<EmployeeStatus> PAYROLL_STATUSES = EnumSet.of(EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE);
+    private static final UUID FIRST_USER = new UUID(0L, 0L);
+
+    private record RunContext(UUID runId, UUID companyId, int period, YearMonth month) {
+    }
+
+    private final PayrollRunRepository runRepository;
+    private final PayrollRunChunkRepository chunkRepository;
+    private final PayrollJdbcRepository payrollJdbcRepository;
+    private final SalaryStructureRepository salaryStructureRepository;
+    private final AttendanceMonthRepository attendanceMonthRepository;
+    private final JobDetailsRepository jobDetailsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor coordinator;
+    private final ForkJoinPool workers;
+    private final Set<UUID> activeRuns = ConcurrentHashMap.newKeySet();
+    private final int chunkSize;
+    private final Duration lease;
+
+    private final Counter payslipCounter;
+    private final Counter failedChunkCounter;
+    private final Timer chunkTimer;
+
+    public PayrollRunEngine(
+            PayrollRunRepository runRepository,
+            PayrollRunChunkRepository chunkRepository,
+            PayrollJdbcRepository payrollJdbcRepository,
+            SalaryStructureRepository salaryStructureRepository,
+            AttendanceMonthRepository attendanceMonthRepository,
+            JobDetailsRepository jobDetailsRepository,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${payroll.parallelism:0}") int parallelism,
+            @Value("${payroll.concurrent-runs:2}") int concurrentRuns,
+            @Value("${payroll.queue-capacity:20}") int queueCapacity,
+            @Value("${payroll.chunk-size:500}") int chunkSize,
+            @Value("${payroll.lease:2m}") Duration lease
+    ) {
+        this.runRepository = runRepository;
+        this.chunkRepository = chunkRepository;
+        this.payrollJdbcRepository = payrollJdbcRepository;
+        this.salaryStructureRepository = salaryStructureRepository;
+        this.attendanceMonthRepository = attendanceMonthRepository;
+        this.jobDetailsRepository = jobDetailsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.lease = lease;
+
+        AtomicInteger coordinatorCount = new AtomicInteger();
+        this.coordinator = new ThreadPoolExecutor(
+                concurrentRuns,
+                concurrentRuns,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "payroll-run-" + coordinatorCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 0 = one worker per core; every worker holds a connection while it writes, keep it within the pool size
+        int workerCount = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger workerIds = new AtomicInteger();
+        this.workers = new ForkJoinPool(workerCount, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("payroll-worker-" + workerIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+
+        this.payslipCounter = Counter.builder("payroll.payslips").register(meterRegistry);
+        this.failedChunkCounter = Counter.builder("payroll.chunks.failed").register(meterRegistry);
+        this.chunkTimer = Timer.builder("payroll.chunk.duration").register(meterRegistry);
+    }
+
+    // Caller owns the transaction, so the run and its chunk plan appear together
+    public PayrollRun plan(UUID companyId, YearMonth month) {
+        PayrollRun run = runRepository.saveAndFlush(PayrollRun.builder()
+                .companyId(companyId)
+                .period(AttendanceMonth.period(month))
+                .status(PayrollRunStatus.QUEUED)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        List<PayrollRunChunk> chunks = new ArrayList<>();
+        UUID after = FIRST_USER;
+        int employees = 0;
+        List<UUID> page;
+        do {
+            page = jobDetailsRepository.findPayrollMembers(companyId, PAYROLL_STATUSES, after, Limit.of(chunkSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            chunks.add(PayrollRunChunk.builder()
+                    .id(new PayrollRunChunkId(run.getRunId(), chunks.size()))
+                    .afterUserId(after)
+                    .lastUserId(page.getLast())
+                    .employeeCount(page.size())
+                    .build());
+            employees += page.size();
+            after = page.getLast();
+        } while (page.size() == chunkSize);
+
+        chunkRepository.saveAll(chunks);
+        run.setTotalChunks(chunks.size());
+        run.setEmployeeCount(employees);
+        return run;
+    }
+
+    public void submit(UUID runId) {
+        try {
+            coordinator.execute(() -> claimAndExecute(runId));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many payroll runs in progress, please retry later");
+        }
+    }
+
+    // Blocks until every open chunk of the run has been attempted; returns false if another node owns it
+    public boolean claimAndExecute(UUID runId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> runRepository.claim(runId, now, now.minus(lease)));
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+
+        activeRuns.add(runId);
+        try {
+            execute(runId);
+        } catch (RuntimeException e) {
+            log.error("Payroll run {} failed", runId, e);
+            finish(runId, PayrollRunStatus.FAILED, NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } finally {
+            activeRuns.remove(runId);
+        }
+        return true;
+    }
+
+    private void execute(UUID runId) {
+        PayrollRun run = runRepository.findById(runId).orElseThrow();
+        YearMonth month = YearMonth.of(run.getPeriod() / 100, run.getPeriod() % 100);
+        RunContext context = new RunContext(runId, run.getCompanyId(), run.getPeriod(), month);
+
+        List<PayrollRunChunk> open = chunkRepository.findById_RunIdAndDoneFalseOrderById_ChunkNo(runId);
+        long started = System.nanoTime();
+        workers.invoke(new ChunkTask(context, open, 0, open.size()));
+
+        long remaining = chunkRepository.countById_RunIdAndDoneFalse(runId);
+        if (remaining == 0) {
+            finish(runId, PayrollRunStatus.COMPLETED, null);
+            log.info("Payroll run {} completed {} chunks in {} ms", runId, open.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } else {
+            finish(runId, PayrollRunStatus.FAILED, remaining + " chunk(s) failed, resume the run to retry them");
+        }
+    }
+
+    // Splits the chunk list in halves so idle workers steal whole ranges instead of single chunks
+    private final class ChunkTask extends RecursiveAction {
+
+        private final RunContext context;
+        private final List<PayrollRunChunk> chunks;
+        private final int from;
+        private final int to;
+
+        ChunkTask(RunContext context, List<PayrollRunChunk> chunks, int from, int to) {
+            this.context = context;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (to > from) {
+                    processSafely(context, chunks.get(from));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(context, chunks, from, mid), new ChunkTask(context, chunks, mid, to));
+        }
+    }
+
+    private void processSafely(RunContext context, PayrollRunChunk chunk) {
+        try {
+            chunkTimer.record(() -> process(context, chunk));
+        } catch (RuntimeException e) {
+            failedChunkCounter.increment();
+            String reason = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            log.warn("Payroll run {} chunk {} failed: {}", context.runId(), chunk.getId().getChunkNo(), reason);
+            try {
+                payrollJdbcRepository.recordChunkFailure(context.runId(), chunk.getId().getChunkNo(), reason);
+            } catch (RuntimeException ignored) {
+                // the chunk stays open either way
+            }
+        }
+    }
+
+    private void process(RunContext context, PayrollRunChunk chunk) {
+        List<SalaryStructure> structures = salaryStructureRepository.findForPayroll(
+                context.companyId(), PAYROLL_STATUSES, chunk.getAfterUserId(), chunk.getLastUserId());
+
+        Map<UUID, AttendanceMonth> attendance = structures.isEmpty()
+                ? Map.of()
+                : attendanceMonthRepository.findForUsers(context.period(),
+                        structures.stream().map(SalaryStructure::getUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(m -> m.getId().getUserId(), Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Payslip> payslips = new ArrayList<>(structures.size());
+        for (SalaryStructure structure : structures) {
+            payslips.add(PayslipCalculator.compute(context.runId(), context.period(), context.month(),
+                    structure, attendance.get(structure.getUserId()), now));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // the checkpoint goes first: it row-locks the chunk, and a chunk someone else finished is left alone
+            if (!payrollJdbcRepository.completeChunk(context.runId(), chunk.getId().getChunkNo(), payslips.size())) {
+                status.setRollbackOnly();
+                return;
+            }
+            payrollJdbcRepository.insertPayslips(payslips);
+        });
+        payslipCounter.increment(payslips.size());
+    }
+
+    private void finish(UUID runId, PayrollRunStatus status, String message) {
+        String trimmed = message == null ? null : message.substring(0, Math.min(message.length(), 500));
+        transactionTemplate.executeWithoutResult(tx -> runRepository.finish(runId, status, trimmed, LocalDateTime.now()));
+    }
+
+    // Keeps the runs this node owns alive and picks up runs whose owner stopped heartbeating
+    @Scheduled(fixedDelayString = "${payroll.heartbeat-interval:30000}")
+    public void heartbeatAndRecover() {
+        LocalDateTime now = LocalDateTime.now();
+        if (!activeRuns.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> runRepository.heartbeat(Set.copyOf(activeRuns), now));
+        }
+
+        for (UUID runId : runRepository.findStalled(now.minus(lease))) {
+            if (activeRuns.contains(runId)) {
+                continue;
+            }
+            try {
+                submit(runId);
+                log.info("Resuming stalled payroll run {}", runId);
+            } catch (ServiceBusyException e) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // open chunks stay open; the next node to see the stale heartbeat resumes them
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+}
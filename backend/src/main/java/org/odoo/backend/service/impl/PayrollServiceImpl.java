@@ -0,0 +1,183 @@
+package org.odoo.backend.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.exception.InvalidRequestException;
+import org.odoo.backend.common.exception.ResourceNotFoundException;
+import org.odoo.backend.dto.PayrollRunResponse;
+import org.odoo.backend.dto.PayslipResponse;
+import org.odoo.backend.dto.SalaryStructureRequest;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.PayrollRun;
+import org.odoo.backend.model.PayrollRunStatus;
+import org.odoo.backend.model.Payslip;
+import org.odoo.backend.model.SalaryStructure;
+import org.odoo.backend.repositories.PayrollRunChunkRepository;
+import org.odoo.backend.repositories.PayrollRunRepository;
+import org.odoo.backend.repositories.PayslipRepository;
+import org.odoo.backend.repositories.SalaryStructureRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.service.PayrollService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class PayrollServiceImpl implements PayrollService {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final PayrollRunEngine payrollRunEngine;
+    private final PayrollRunRepository payrollRunRepository;
+    private final PayrollRunChunkRepository payrollRunChunkRepository;
+    private final PayslipRepository payslipRepository;
+    private final SalaryStructureRepository salaryStructureRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void saveSalaryStructure(UUID companyId, UUID userId, SalaryStructureRequest request) {
+        if (!userRepository.existsByUserIdAndCompany_CompanyId(userId, companyId)) {
+            throw new ResourceNotFoundException("Employee not found");
+        }
+        requirePositive(request.getMonthlyWage(), "monthlyWage");
+        requirePercent(request.getBasicPercent(), "basicPercent");
+        requirePercent(request.getHraPercent(), "hraPercent");
+        requirePercent(request.getPfPercent(), "pfPercent");
+        requirePercent(request.getIncomeTaxPercent(), "incomeTaxPercent");
+
+        salaryStructureRepository.save(SalaryStructure.builder()
+                .userId(userId)
+                .companyId(companyId)
+                .monthlyWage(request.getMonthlyWage())
+                .basicPercent(request.getBasicPercent())
+                .hraPercent(request.getHraPercent())
+                .medicalAllowance(orZero(request.getMedicalAllowance()))
+                .conveyanceAllowance(orZero(request.getConveyanceAllowance()))
+                .pfPercent(request.getPfPercent())
+                .professionalTax(orZero(request.getProfessionalTax()))
+                .incomeTaxPercent(request.getIncomeTaxPercent())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Override
+    public PayrollRunResponse startRun(UUID companyId, int year, int month) {
+        YearMonth period = toYearMonth(year, month);
+        if (period.isAfter(YearMonth.now())) {
+            throw new InvalidRequestException("Payroll cannot be run for a future month");
+        }
+
+        payrollRunRepository.findByCompanyIdAndPeriod(companyId, AttendanceMonth.period(period)).ifPresent(existing -> {
+            throw new InvalidRequestException("Payroll for " + period + " already exists as run " + existing.getRunId()
+                    + " (" + existing.getStatus() + ")");
+        });
+
+        PayrollRun run;
+        try {
+            run = transactionTemplate.execute(status -> payrollRunEngine.plan(companyId, period));
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("Payroll for " + period + " is already being started");
+        }
+        payrollRunEngine.submit(run.getRunId());
+        return toResponse(run);
+    }
+
+    @Override
+    public PayrollRunResponse resumeRun(UUID companyId, UUID runId) {
+        PayrollRun run = findRun(companyId, runId);
+        if (run.getStatus() == PayrollRunStatus.COMPLETED) {
+            throw new InvalidRequestException("Payroll run is already completed");
+        }
+        // a run still owned by a live node is not claimable; the engine just skips it
+        payrollRunEngine.submit(runId);
+        return toResponse(run);
+    }
+
+    @Override
+    public PayrollRunResponse getRun(UUID companyId, UUID runId) {
+        return toResponse(findRun(companyId, runId));
+    }
+
+    @Override
+    public PayslipResponse getPayslip(UUID companyId, UUID userId, int year, int month) {
+        YearMonth period = toYearMonth(year, month);
+        Payslip payslip = payslipRepository.findByCompanyIdAndUserIdAndPeriod(companyId, userId, AttendanceMonth.period(period))
+                .orElseThrow(() -> new ResourceNotFoundException("Payslip not found"));
+        return new PayslipResponse(
+                payslip.getPayslipId(),
+                payslip.getUserId(),
+                period.getYear(),
+                period.getMonthValue(),
+                payslip.getPayableDays(),
+                payslip.getLossOfPayDays(),
+                payslip.getBasic(),
+                payslip.getHouseRentAllowance(),
+                payslip.getMedicalAllowance(),
+                payslip.getConveyanceAllowance(),
+                payslip.getSpecialAllowance(),
+                payslip.getGrossEarnings(),
+                payslip.getLossOfPay(),
+                payslip.getProvidentFund(),
+                payslip.getProfessionalTax(),
+                payslip.getIncomeTax(),
+                payslip.getTotalDeductions(),
+                payslip.getNetPay()
+        );
+    }
+
+    private PayrollRun findRun(UUID companyId, UUID runId) {
+        return payrollRunRepository.findById(runId)
+                .filter(run -> run.getCompanyId().equals(companyId))
+                .orElseThrow(() -> new ResourceNotFoundException("Payroll run not found"));
+    }
+
+    private PayrollRunResponse toResponse(PayrollRun run) {
+        PayrollRunChunkRepository.Progress progress = payrollRunChunkRepository.findProgress(run.getRunId());
+        return PayrollRunResponse.builder()
+                .runId(run.getRunId().toString())
+                .year(run.getPeriod() / 100)
+                .month(run.getPeriod() % 100)
+                .status(run.getStatus().name())
+                .employeeCount(run.getEmployeeCount())
+                .totalChunks(run.getTotalChunks())
+                .completedChunks(progress.getCompletedChunks())
+                .failedChunks(progress.getFailedChunks())
+                .payslipCount(progress.getPayslipCount())
+                .message(run.getMessage())
+                .createdAt(run.getCreatedAt())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .build();
+    }
+
+    private static YearMonth toYearMonth(int year, int month) {
+        try {
+            return YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new InvalidRequestException("Invalid year/month");
+        }
+    }
+
+    private static void requirePositive(BigDecimal value, String field) {
+        if (value == null || value.signum() <= 0) {
+            throw new InvalidRequestException(field + " must be greater than zero");
+        }
+    }
+
+    private static void requirePercent(BigDecimal value, String field) {
+        if (value == null || value.signum() < 0 || value.compareTo(HUNDRED) > 0) {
+            throw new InvalidRequestException(field + " must be between 0 and 100");
+        }
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value == null ? BigDecimal.ZERO : value;
+    }
+}
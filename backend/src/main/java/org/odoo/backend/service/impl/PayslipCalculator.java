@@ -0,0 +1,84 @@
+package org.odoo.backend.service.impl;
+
+import org.odoo.backend.common.id.UuidV7;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.Payslip;
+import org.odoo.backend.model.SalaryStructure;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/*
+ * Pure month-end arithmetic for one employee. Components are split from the monthly wage, whatever
+ * the fixed components leave over is the special allowance, and absences recorded in the attendance
+ * calendar are loss of pay. No attendance row for the month means nothing was tracked: full pay.
+ */
+final class PayslipCalculator {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private PayslipCalculator() {
+    }
+
+    static Payslip compute(UUID runId, int period, YearMonth month, SalaryStructure structure,
+                           AttendanceMonth attendance, LocalDateTime now) {
+        int daysInMonth = month.lengthOfMonth();
+        int lossOfPayDays = attendance == null ? 0 : Integer.bitCount(attendance.getAbsentBits());
+        int payableDays = daysInMonth - lossOfPayDays;
+
+        BigDecimal wage = structure.getMonthlyWage();
+        BigDecimal basic = percent(wage, structure.getBasicPercent());
+        BigDecimal hra = percent(basic, structure.getHraPercent());
+        BigDecimal medical = money(structure.getMedicalAllowance());
+        BigDecimal conveyance = money(structure.getConveyanceAllowance());
+        BigDecimal special = wage.subtract(basic).subtract(hra).subtract(medical).subtract(conveyance)
+                .max(BigDecimal.ZERO);
+        BigDecimal gross = money(basic.add(hra).add(medical).add(conveyance).add(special));
+
+        BigDecimal lossOfPay = prorate(gross, lossOfPayDays, daysInMonth);
+        BigDecimal earned = gross.subtract(lossOfPay);
+
+        BigDecimal providentFund = percent(prorate(basic, payableDays, daysInMonth), structure.getPfPercent());
+        BigDecimal professionalTax = payableDays == 0 ? money(BigDecimal.ZERO) : money(structure.getProfessionalTax());
+        BigDecimal incomeTax = percent(earned.subtract(providentFund).max(BigDecimal.ZERO), structure.getIncomeTaxPercent());
+        BigDecimal deductions = providentFund.add(professionalTax).add(incomeTax);
+
+        return Payslip.builder()
+                .payslipId(UuidV7.next())
+                .runId(runId)
+                .userId(structure.getUserId())
+                .companyId(structure.getCompanyId())
+                .period(period)
+                .payableDays(payableDays)
+                .lossOfPayDays(lossOfPayDays)
+                .basic(basic)
+                .houseRentAllowance(hra)
+                .medicalAllowance(medical)
+                .conveyanceAllowance(conveyance)
+                .specialAllowance(money(special))
+                .grossEarnings(gross)
+                .lossOfPay(lossOfPay)
+                .providentFund(providentFund)
+                .professionalTax(professionalTax)
+                .incomeTax(incomeTax)
+                .totalDeductions(deductions)
+                .netPay(earned.subtract(deductions).max(BigDecimal.ZERO))
+                .createdAt(now)
+                .build();
+    }
+
+    private static BigDecimal percent(BigDecimal amount, BigDecimal percent) {
+        return money(amount.multiply(percent).divide(HUNDRED, 6, RoundingMode.HALF_UP));
+    }
+
+    private static BigDecimal prorate(BigDecimal amount, int days, int daysInMonth) {
+        return money(amount.multiply(BigDecimal.valueOf(days)).divide(BigDecimal.valueOf(daysInMonth), 6, RoundingMode.HALF_UP));
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,41 @@
+package org.odoo.backend.stats;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.odoo.backend.dto.HeadcountStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class HeadcountCache {
+
+    private final Cache<UUID, HeadcountStats> cache;
+
+    public HeadcountCache(
+            MeterRegistry meterRegistry,
+            @Value("${headcount.cache.max-size:10000}") long maxSize,
+            @Value("${headcount.cache.ttl:10m}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "headcountCache");
+    }
+
+    public HeadcountStats get(UUID companyId, Function<UUID, HeadcountStats> loader) {
+        return cache.get(companyId, loader);
+    }
+
+    public void invalidate(UUID companyId) {
+        cache.invalidate(companyId);
+    }
+}
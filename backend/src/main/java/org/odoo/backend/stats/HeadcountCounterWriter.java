@@ -0,0 +1,88 @@
+package org.odoo.backend.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.HeadcountDimension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * Moves headcount counters with plain JDBC on the caller's connection, so the delta commits or rolls
+ * back with the change that caused it. The cached stats for the company are dropped after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class HeadcountCounterWriter {
+
+    public static final String UNASSIGNED = "UNASSIGNED";
+
+    private static final String ADD_SQL = """
+            INSERT INTO headcount_counters (company_id, dimension, bucket, headcount) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE headcount = headcount + ?
+            """;
+
+    private static final String SET_SQL = """
+            INSERT INTO headcount_counters (company_id, dimension, bucket, headcount) VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE headcount = ?
+            """;
+
+    public record Bucket(HeadcountDimension dimension, String value) {
+        public Bucket {
+            value = value == null || value.isBlank() ? UNASSIGNED : value;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HeadcountCache headcountCache;
+
+    public void add(UUID companyId, HeadcountDimension dimension, String bucket, long delta) {
+        addAll(companyId, Map.of(new Bucket(dimension, bucket), delta));
+    }
+
+    // For bulk paths: one statement per distinct bucket instead of one per row
+    public void addAll(UUID companyId, Map<Bucket, Long> deltas) {
+        write(companyId, ADD_SQL, deltas, false);
+    }
+
+    // Reconciliation only: overwrite with recomputed values
+    void setAll(UUID companyId, Map<Bucket, Long> values) {
+        write(companyId, SET_SQL, values, true);
+    }
+
+    private void write(UUID companyId, String sql, Map<Bucket, Long> values, boolean writeZeros) {
+        if (companyId == null) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(values.size());
+        byte[] company = UuidBinary.toBytes(companyId);
+        values.forEach((bucket, value) -> {
+            if (value != 0 || writeZeros) {
+                args.add(new Object[]{company, bucket.dimension().name(), bucket.value(), value, value});
+            }
+        });
+        if (args.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, args);
+        invalidateAfterCommit(companyId);
+    }
+
+    private void invalidateAfterCommit(UUID companyId) {
+        headcountCache.invalidate(companyId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    headcountCache.invalidate(companyId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.odoo.backend.stats;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.HeadcountDimension;
+import org.odoo.backend.model.JobDetails;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.UUID;
+
+// Keeps headcount_counters in step with User roles and JobDetails department/status, inside the same flush
+@Component
+@RequiredArgsConstructor
+public class HeadcountListener {
+
+    private final HeadcountCounterWriter counterWriter;
+
+    @PostLoad
+    public void onLoad(Object entity) {
+        snapshot(entity);
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        switch (entity) {
+            case User user -> counterWriter.add(companyId(user), HeadcountDimension.ROLE, name(user.getRole()), 1);
+            case JobDetails job -> {
+                UUID companyId = resolveCompanyId(job);
+                counterWriter.add(companyId, HeadcountDimension.DEPARTMENT, job.getDepartment(), 1);
+                counterWriter.add(companyId, HeadcountDimension.STATUS, name(job.getEmployeeStatus()), 1);
+            }
+            default -> {
+            }
+        }
+        snapshot(entity);
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        switch (entity) {
+            case User user -> move(companyId(user), HeadcountDimension.ROLE,
+                    name(user.getLoadedRole()), name(user.getRole()));
+            case JobDetails job -> {
+                UUID companyId = job.getLoadedCompanyId();
+                move(companyId, HeadcountDimension.DEPARTMENT, job.getLoadedDepartment(), job.getDepartment());
+                move(companyId, HeadcountDimension.STATUS, name(job.getLoadedStatus()), name(job.getEmployeeStatus()));
+            }
+            default -> {
+            }
+        }
+        snapshot(entity);
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        switch (entity) {
+            case User user -> counterWriter.add(companyId(user), HeadcountDimension.ROLE, name(user.getLoadedRole()), -1);
+            case JobDetails job -> {
+                UUID companyId = job.getLoadedCompanyId();
+                counterWriter.add(companyId, HeadcountDimension.DEPARTMENT, job.getLoadedDepartment(), -1);
+                counterWriter.add(companyId, HeadcountDimension.STATUS, name(job.getLoadedStatus()), -1);
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void move(UUID companyId, HeadcountDimension dimension, String from, String to) {
+        if (companyId == null || Objects.equals(from, to)) {
+            return;
+        }
+        counterWriter.add(companyId, dimension, from, -1);
+        counterWriter.add(companyId, dimension, to, 1);
+    }
+
+    private static void snapshot(Object entity) {
+        if (entity instanceof User user) {
+            user.setLoadedRole(user.getRole());
+        } else if (entity instanceof JobDetails job) {
+            job.setLoadedDepartment(job.getDepartment());
+            job.setLoadedStatus(job.getEmployeeStatus());
+            job.setLoadedCompanyId(resolveCompanyId(job));
+        }
+    }
+
+    private static UUID companyId(User user) {
+        return user.getCompany() == null ? null : user.getCompany().getCompanyId();
+    }
+
+    /*
+     * The company id comes from the row's company_id: reading the id of a lazy proxy loads nothing.
+     * Legacy rows without one belong to their user's company, which is only used when the user is already
+     * in memory; loading it from inside a flush would cost a select per row. Counters skipped that way
+     * are repaired by HeadcountReconciler, which counts by users.company_id.
+     */
+    private static UUID resolveCompanyId(JobDetails job) {
+        if (job.getCompany() != null) {
+            return job.getCompany().getCompanyId();
+        }
+        User user = job.getUser();
+        Company company = user != null && Hibernate.isInitialized(user) ? user.getCompany() : null;
+        return company == null ? null : company.getCompanyId();
+    }
+
+    private static String name(UserRole role) {
+        return role == null ? null : role.name();
+    }
+
+    private static String name(EmployeeStatus status) {
+        return status == null ? null : status.name();
+    }
+}
@@ -0,0 +1,121 @@
+package org.odoo.backend.stats;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.HeadcountDimension;
+import org.odoo.backend.stats.HeadcountCounterWriter.Bucket;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/*
+ * Periodically recomputes every company's counters with GROUP BY and overwrites the ones that drifted
+ * (writes that bypassed JPA, manual SQL, a bug). Each company is done in one transaction that first
+ * locks its counter rows, so in-flight deltas either land before the recount or after the overwrite.
+ */
+@Slf4j
+@Component
+public class HeadcountReconciler {
+
+    private static final String LOCK_COUNTERS =
+            "SELECT dimension, bucket, headcount FROM headcount_counters WHERE company_id = ? FOR UPDATE";
+
+    private static final String COUNT_BY_ROLE =
+            "SELECT role, COUNT(*) FROM users WHERE company_id = ? GROUP BY role";
+
+    private static final String COUNT_BY_DEPARTMENT = """
+            SELECT j.department, COUNT(*) FROM job_details j JOIN users u ON u.user_id = j.user_id
+            WHERE u.company_id = ? GROUP BY j.department
+            """;
+
+    private static final String COUNT_BY_STATUS = """
+            SELECT j.employee_status, COUNT(*) FROM job_details j JOIN users u ON u.user_id = j.user_id
+            WHERE u.company_id = ? GROUP BY j.employee_status
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HeadcountCounterWriter counterWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter driftCounter;
+
+    public HeadcountReconciler(
+            JdbcTemplate jdbcTemplate,
+            HeadcountCounterWriter counterWriter,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.counterWriter = counterWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.driftCounter = Counter.builder("headcount.reconcile.drift").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${headcount.reconcile-cron:0 17 * * * *}")
+    public void reconcileAll() {
+        List<byte[]> companies = jdbcTemplate.queryForList("SELECT company_id FROM companies", byte[].class);
+        int repaired = 0;
+        for (byte[] company : companies) {
+            try {
+                repaired += reconcile(UuidBinary.fromBytes(company));
+            } catch (Exception e) {
+                log.warn("Headcount reconciliation failed for company {}: {}", UuidBinary.fromBytes(company), e.getMessage());
+            }
+        }
+        if (repaired > 0) {
+            log.warn("Headcount reconciliation repaired {} drifted counters across {} companies", repaired, companies.size());
+        }
+    }
+
+    // Returns the number of counters that had to be corrected
+    public int reconcile(UUID companyId) {
+        Integer repaired = transactionTemplate.execute(status -> {
+            byte[] company = UuidBinary.toBytes(companyId);
+
+            Map<Bucket, Long> stored = new HashMap<>();
+            jdbcTemplate.query(LOCK_COUNTERS, rs -> {
+                stored.put(new Bucket(HeadcountDimension.valueOf(rs.getString(1)), rs.getString(2)), rs.getLong(3));
+            }, company);
+
+            Map<Bucket, Long> actual = new HashMap<>();
+            count(actual, HeadcountDimension.ROLE, COUNT_BY_ROLE, company);
+            count(actual, HeadcountDimension.DEPARTMENT, COUNT_BY_DEPARTMENT, company);
+            count(actual, HeadcountDimension.STATUS, COUNT_BY_STATUS, company);
+
+            Map<Bucket, Long> corrections = new HashMap<>();
+            actual.forEach((bucket, value) -> {
+                if (stored.getOrDefault(bucket, 0L) != value.longValue()) {
+                    corrections.put(bucket, value);
+                }
+            });
+            stored.forEach((bucket, value) -> {
+                if (value != 0 && !actual.containsKey(bucket)) {
+                    corrections.put(bucket, 0L);
+                }
+            });
+
+            counterWriter.setAll(companyId, corrections);
+            return corrections.size();
+        });
+
+        if (repaired != null && repaired > 0) {
+            driftCounter.increment(repaired);
+            log.info("Repaired {} headcount counters for company {}", repaired, companyId);
+        }
+        return repaired == null ? 0 : repaired;
+    }
+
+    private void count(Map<Bucket, Long> into, HeadcountDimension dimension, String sql, byte[] company) {
+        jdbcTemplate.query(sql, rs -> {
+            // blank and null departments share one bucket, so merge rather than put
+            into.merge(new Bucket(dimension, rs.getString(1)), rs.getLong(2), Long::sum);
+        }, company);
+    }
+}
@@ -0,0 +1,84 @@
+-- Baseline: the six tables as hibernate.ddl-auto=update built them from the entities before the move to
+-- Flyway. Databases created that way are baselined at version 1 (spring.flyway.baseline-on-migrate) and
+-- skip this file; new databases start from the same shape, and V2 brings both in line with the entities.
+
+CREATE TABLE companies (
+    company_id   BINARY(16)   NOT NULL,
+    company_name VARCHAR(255) NOT NULL,
+    company_code VARCHAR(10)  NOT NULL,
+    logo_url     VARCHAR(255),
+    is_active    BIT,
+    created_at   DATETIME(6),
+    PRIMARY KEY (company_id),
+    CONSTRAINT uk_companies_company_code UNIQUE (company_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    user_id           BINARY(16)   NOT NULL,
+    company_id        BINARY(16)   NOT NULL,
+    employee_id       VARCHAR(30)  NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    role              ENUM ('ROLE_ADMIN','ROLE_HR','ROLE_EMPLOYEE') NOT NULL,
+    is_email_verified BIT,
+    is_active         BIT,
+    first_login       BIT,
+    created_at        DATETIME(6),
+    last_login        DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_employee_id UNIQUE (employee_id),
+    CONSTRAINT fk_users_company FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_profiles (
+    profile_id          VARCHAR(255) NOT NULL,
+    user_id             BINARY(16) NOT NULL,
+    company_id          BINARY(16),
+    first_name          VARCHAR(255),
+    last_name           VARCHAR(255),
+    phone               VARCHAR(255),
+    address             VARCHAR(255),
+    city                VARCHAR(255),
+    state               VARCHAR(255),
+    country             VARCHAR(255),
+    profile_picture_url VARCHAR(255),
+    PRIMARY KEY (profile_id),
+    CONSTRAINT uk_employee_profiles_user UNIQUE (user_id),
+    CONSTRAINT fk_employee_profiles_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_employee_profiles_company FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_details (
+    job_detail_id   BINARY(36) NOT NULL,
+    user_id         BINARY(16) NOT NULL,
+    company_id      BINARY(16),
+    department      VARCHAR(255),
+    designation     VARCHAR(255),
+    date_of_joining DATE,
+    employee_status ENUM ('ACTIVE','ON_LEAVE','RESIGNED','TERMINATED'),
+    PRIMARY KEY (job_detail_id),
+    CONSTRAINT uk_job_details_user UNIQUE (user_id),
+    CONSTRAINT fk_job_details_user FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT fk_job_details_company FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_sequence (
+    id            BINARY(16) NOT NULL,
+    company_id    BINARY(16),
+    year          INTEGER    NOT NULL,
+    current_value INTEGER    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employee_sequence_year UNIQUE (year),
+    CONSTRAINT fk_employee_sequence_company FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE otps (
+    id          BINARY(16)   NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    otp_code    VARCHAR(255) NOT NULL,
+    expiry_time DATETIME(6)  NOT NULL,
+    verified    BIT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
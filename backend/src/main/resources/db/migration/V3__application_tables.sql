@@ -0,0 +1,202 @@
+-- The tables added since the baseline: outbox, counters, attendance, payroll and leave.
+
+CREATE TABLE company_code_counters (
+    prefix      VARCHAR(10) NOT NULL,
+    next_suffix INTEGER     NOT NULL,
+    version     BIGINT,
+    PRIMARY KEY (prefix)
+) ENGINE = InnoDB;
+
+CREATE TABLE email_outbox (
+    id              BINARY(16)   NOT NULL,
+    email_type      ENUM ('OTP_VERIFICATION','PASSWORD_RESET_OTP') NOT NULL,
+    recipient       VARCHAR(255) NOT NULL,
+    payload         VARCHAR(255) NOT NULL,
+    status          ENUM ('PENDING','SENDING','SENT','SUPERSEDED','DEAD') NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claim_token     BINARY(16),
+    locked_until    DATETIME(6),
+    last_error      VARCHAR(500),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE headcount_counters (
+    company_id BINARY(16)   NOT NULL,
+    dimension  ENUM ('DEPARTMENT','STATUS','ROLE') NOT NULL,
+    bucket     VARCHAR(100) NOT NULL,
+    headcount  BIGINT       NOT NULL,
+    PRIMARY KEY (company_id, dimension, bucket)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance_events (
+    event_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id     BINARY(16)  NOT NULL,
+    company_id  BINARY(16)  NOT NULL,
+    event_type  ENUM ('CHECK_IN','CHECK_OUT') NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_attendance_events_user (user_id, occurred_at)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance_fold_checkpoint (
+    name          VARCHAR(50) NOT NULL,
+    last_event_id BIGINT      NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance_daily_summary (
+    id             BINARY(16)  NOT NULL,
+    user_id        BINARY(16)  NOT NULL,
+    company_id     BINARY(16)  NOT NULL,
+    work_date      DATE        NOT NULL,
+    first_check_in DATETIME(6),
+    last_check_out DATETIME(6),
+    open_check_in  DATETIME(6),
+    worked_seconds BIGINT      NOT NULL,
+    event_count    INTEGER     NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_attendance_summary_user_date UNIQUE (user_id, work_date),
+    INDEX idx_attendance_summary_company_date (company_id, work_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE attendance_month (
+    user_id      BINARY(16) NOT NULL,
+    period       INTEGER    NOT NULL,
+    company_id   BINARY(16) NOT NULL,
+    department   VARCHAR(100),
+    present_bits INTEGER    NOT NULL,
+    absent_bits  INTEGER    NOT NULL,
+    leave_bits   INTEGER    NOT NULL,
+    late_bits    INTEGER    NOT NULL,
+    PRIMARY KEY (user_id, period),
+    INDEX idx_attendance_month_department (company_id, period, department)
+) ENGINE = InnoDB;
+
+CREATE TABLE salary_structures (
+    user_id              BINARY(16)     NOT NULL,
+    company_id           BINARY(16)     NOT NULL,
+    monthly_wage         DECIMAL(12, 2) NOT NULL,
+    basic_percent        DECIMAL(5, 2)  NOT NULL,
+    hra_percent          DECIMAL(5, 2)  NOT NULL,
+    medical_allowance    DECIMAL(12, 2) NOT NULL,
+    conveyance_allowance DECIMAL(12, 2) NOT NULL,
+    pf_percent           DECIMAL(5, 2)  NOT NULL,
+    professional_tax     DECIMAL(12, 2) NOT NULL,
+    income_tax_percent   DECIMAL(5, 2)  NOT NULL,
+    updated_at           DATETIME(6)    NOT NULL,
+    PRIMARY KEY (user_id),
+    INDEX idx_salary_structure_company (company_id, user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payroll_runs (
+    run_id         BINARY(16)   NOT NULL,
+    company_id     BINARY(16)   NOT NULL,
+    period         INTEGER      NOT NULL,
+    status         ENUM ('QUEUED','RUNNING','COMPLETED','FAILED') NOT NULL,
+    total_chunks   INTEGER      NOT NULL,
+    employee_count INTEGER      NOT NULL,
+    message        VARCHAR(500),
+    created_at     DATETIME(6)  NOT NULL,
+    started_at     DATETIME(6),
+    finished_at    DATETIME(6),
+    heartbeat_at   DATETIME(6),
+    PRIMARY KEY (run_id),
+    CONSTRAINT uk_payroll_runs_company_period UNIQUE (company_id, period)
+) ENGINE = InnoDB;
+
+CREATE TABLE payroll_run_chunks (
+    run_id         BINARY(16)   NOT NULL,
+    chunk_no       INTEGER      NOT NULL,
+    after_user_id  BINARY(16)   NOT NULL,
+    last_user_id   BINARY(16)   NOT NULL,
+    employee_count INTEGER      NOT NULL,
+    done           BIT          NOT NULL,
+    payslip_count  INTEGER      NOT NULL,
+    attempts       INTEGER      NOT NULL,
+    last_error     VARCHAR(500),
+    completed_at   DATETIME(6),
+    PRIMARY KEY (run_id, chunk_no)
+) ENGINE = InnoDB;
+
+CREATE TABLE payslips (
+    payslip_id           BINARY(16)     NOT NULL,
+    run_id               BINARY(16)     NOT NULL,
+    user_id              BINARY(16)     NOT NULL,
+    company_id           BINARY(16)     NOT NULL,
+    period               INTEGER        NOT NULL,
+    payable_days         INTEGER        NOT NULL,
+    loss_of_pay_days     INTEGER        NOT NULL,
+    basic                DECIMAL(12, 2) NOT NULL,
+    house_rent_allowance DECIMAL(12, 2) NOT NULL,
+    medical_allowance    DECIMAL(12, 2) NOT NULL,
+    conveyance_allowance DECIMAL(12, 2) NOT NULL,
+    special_allowance    DECIMAL(12, 2) NOT NULL,
+    gross_earnings       DECIMAL(12, 2) NOT NULL,
+    loss_of_pay          DECIMAL(12, 2) NOT NULL,
+    provident_fund       DECIMAL(12, 2) NOT NULL,
+    professional_tax     DECIMAL(12, 2) NOT NULL,
+    income_tax           DECIMAL(12, 2) NOT NULL,
+    total_deductions     DECIMAL(12, 2) NOT NULL,
+    net_pay              DECIMAL(12, 2) NOT NULL,
+    created_at           DATETIME(6)    NOT NULL,
+    PRIMARY KEY (payslip_id),
+    CONSTRAINT uk_payslips_run_user UNIQUE (run_id, user_id),
+    INDEX idx_payslip_user_period (user_id, period)
+) ENGINE = InnoDB;
+
+CREATE TABLE leave_balances (
+    user_id         BINARY(16)    NOT NULL,
+    leave_type      ENUM ('PAID','SICK','EMERGENCY','UNPAID') NOT NULL,
+    company_id      BINARY(16)    NOT NULL,
+    balance         DECIMAL(7, 2) NOT NULL,
+    accrued_through INTEGER       NOT NULL,
+    version         BIGINT        NOT NULL,
+    updated_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (user_id, leave_type)
+) ENGINE = InnoDB;
+
+CREATE TABLE leave_ledger (
+    entry_id         BIGINT        NOT NULL AUTO_INCREMENT,
+    user_id          BINARY(16)    NOT NULL,
+    company_id       BINARY(16)    NOT NULL,
+    leave_type       ENUM ('PAID','SICK','EMERGENCY','UNPAID') NOT NULL,
+    entry_type       ENUM ('ACCRUAL','DEBIT','REVERSAL') NOT NULL,
+    days             DECIMAL(7, 2) NOT NULL,
+    balance_after    DECIMAL(7, 2) NOT NULL,
+    period_from      INTEGER,
+    period_to        INTEGER,
+    leave_request_id BINARY(16),
+    created_at       DATETIME(6)   NOT NULL,
+    PRIMARY KEY (entry_id),
+    INDEX idx_leave_ledger_user (user_id, leave_type, entry_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE leave_requests (
+    request_id  BINARY(16)    NOT NULL,
+    user_id     BINARY(16)    NOT NULL,
+    company_id  BINARY(16)    NOT NULL,
+    leave_type  ENUM ('PAID','SICK','EMERGENCY','UNPAID') NOT NULL,
+    start_date  DATE          NOT NULL,
+    end_date    DATE          NOT NULL,
+    days        DECIMAL(7, 2) NOT NULL,
+    remarks     VARCHAR(500),
+    status      ENUM ('PENDING','APPROVED','REJECTED','CANCELLED') NOT NULL,
+    reviewed_by BINARY(16),
+    reviewed_at DATETIME(6),
+    created_at  DATETIME(6)   NOT NULL,
+    version     BIGINT        NOT NULL,
+    PRIMARY KEY (request_id),
+    INDEX idx_leave_request_user (user_id, start_date),
+    INDEX idx_leave_request_company_status (company_id, status, created_at)
+) ENGINE = InnoDB;
+
+-- Id ranges the attendance fold job passed over before their inserts committed; see AttendanceFoldJob
+CREATE TABLE attendance_fold_gaps (
+    first_event_id BIGINT      NOT NULL,
+    last_event_id  BIGINT      NOT NULL,
+    opened_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (first_event_id)
+) ENGINE = InnoDB;
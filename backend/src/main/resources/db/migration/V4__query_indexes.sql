@@ -0,0 +1,22 @@
+-- One index per repository access path that V1 and V3 leave to a scan or to a single-column FK index.
+-- QueryPlanTest runs EXPLAIN over the same statements and fails when one of them scans a table.
+
+-- Login (company_id, employee_id) and the directory seek (company_id = ? AND employee_id > ? ORDER BY employee_id)
+CREATE UNIQUE INDEX ux_users_company_employee_id ON users (company_id, employee_id);
+
+-- OTP verify and resend look up by email; the purge and the in-memory store's warm-up range over expiry_time
+CREATE INDEX idx_otps_email_code ON otps (email, otp_code);
+CREATE INDEX idx_otps_expiry_time ON otps (expiry_time);
+
+-- Outbox dispatch (PENDING by next_attempt_at, SENDING by locked_until), supersede by recipient, retention purge
+CREATE INDEX idx_email_outbox_status_next_attempt ON email_outbox (status, next_attempt_at);
+CREATE INDEX idx_email_outbox_status_locked_until ON email_outbox (status, locked_until);
+CREATE INDEX idx_email_outbox_recipient ON email_outbox (recipient, email_type, status);
+CREATE INDEX idx_email_outbox_status_created ON email_outbox (status, created_at);
+
+-- Nightly absence marking walks active employees in user_id order
+CREATE INDEX idx_job_details_status_user ON job_details (employee_status, user_id);
+
+-- Stalled-run recovery
+CREATE INDEX idx_payroll_runs_status_heartbeat ON payroll_runs (status, heartbeat_at);
+CREATE INDEX idx_payroll_runs_status_created ON payroll_runs (status, created_at);
@@ -0,0 +1,159 @@
+package db.migration;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.BackendApplication;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.EmployeeProfile;
+import org.odoo.backend.model.JobDetails;
+import org.odoo.backend.service.impl.EmployeeIdAllocator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Starts from a database that ddl-auto=update built from the baseline entities before Flyway
+ * (db/legacy/hibernate-update-schema.sql: six tables), baselines it at V1 the way the dev profile does
+ * and lets the later migrations run. The context only starts if Hibernate validates the entities
+ * against the result, every table added since included.
+ */
+@SpringBootTest(classes = BackendApplication.class, properties = {
+        "scheduling.enabled=false",
+        "spring.flyway.enabled=true",
+        "spring.flyway.baseline-on-migrate=true",
+        "spring.flyway.baseline-version=1",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect"
+})
+@ActiveProfiles("test")
+class LegacySchemaMigrationTest {
+
+    private static final int YEAR = 2026;
+    private static final UUID COMPANY_A = UUID.randomUUID();
+    private static final UUID COMPANY_B = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID PROFILE_ID = UUID.randomUUID();
+    private static final UUID JOB_DETAIL_ID = UUID.randomUUID();
+
+    private static DB db;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EmployeeIdAllocator employeeIdAllocator;
+
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws Exception {
+        if (db == null) {
+            db = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder().setPort(0).build());
+            db.start();
+            db.createDB("legacy");
+            seedLegacy("jdbc:mysql://localhost:" + db.getConfiguration().getPort() + "/legacy");
+        }
+        int port = db.getConfiguration().getPort();
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://localhost:" + port + "/legacy");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    // Runs before the context, so Flyway finds the old tables and rows already there
+    private static void seedLegacy(String url) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "root", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/legacy/hibernate-update-schema.sql")).execute(dataSource);
+
+        JdbcTemplate legacy = new JdbcTemplate(dataSource);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (UUID company : new UUID[]{COMPANY_A, COMPANY_B}) {
+            legacy.update("INSERT INTO companies (company_id, company_name, company_code, is_active, created_at) VALUES (?, ?, ?, 1, ?)",
+                    bytes(company), "Legacy " + company, company.toString().substring(0, 8), now);
+        }
+        legacy.update("""
+                INSERT INTO users (user_id, company_id, employee_id, email, password_hash, role, is_email_verified, is_active, first_login, created_at)
+                VALUES (?, ?, 'LG-AL-2026-0001', 'ada@legacy.test', 'not-a-login', 'ROLE_EMPLOYEE', 1, 1, 0, ?)
+                """, bytes(USER_ID), bytes(COMPANY_A), now);
+        // a String id: the text form of the UUID
+        legacy.update("INSERT INTO employee_profiles (profile_id, user_id, company_id, first_name, last_name) VALUES (?, ?, ?, 'Ada', 'Lovelace')",
+                PROFILE_ID.toString(), bytes(USER_ID), bytes(COMPANY_A));
+        // sixteen id bytes, zero-padded to the column's 36
+        legacy.update("INSERT INTO job_details (job_detail_id, user_id, company_id, department, date_of_joining, employee_status) VALUES (?, ?, ?, 'Engineering', ?, 'ACTIVE')",
+                bytes(JOB_DETAIL_ID), bytes(USER_ID), bytes(COMPANY_A), Date.valueOf(LocalDate.of(YEAR, 1, 5)));
+        legacy.update("INSERT INTO employee_sequence (id, company_id, year, current_value) VALUES (?, ?, ?, 5)",
+                bytes(UUID.randomUUID()), bytes(COMPANY_A), YEAR);
+    }
+
+    @Test
+    void legacyDatabaseIsBaselinedAndMigratedForward() {
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion())
+                .containsExactly("1", "2", "3", "4");
+        assertThat(columnType("employee_profiles", "profile_id")).isEqualTo("binary(16)");
+        assertThat(columnType("job_details", "job_detail_id")).isEqualTo("binary(16)");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT TABLE_NAME FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE()", String.class))
+                .contains("email_outbox", "company_code_counters", "headcount_counters", "attendance_events",
+                        "attendance_fold_checkpoint", "attendance_fold_gaps", "attendance_daily_summary",
+                        "attendance_month", "salary_structures", "payroll_runs", "payroll_run_chunks", "payslips",
+                        "leave_balances", "leave_ledger", "leave_requests");
+    }
+
+    @Test
+    void convertedKeysStillFindTheirRows() {
+        transactionTemplate.executeWithoutResult(status -> {
+            EmployeeProfile profile = entityManager.find(EmployeeProfile.class, PROFILE_ID);
+            assertThat(profile).isNotNull();
+            assertThat(profile.getLastName()).isEqualTo("Lovelace");
+            assertThat(profile.getUser().getUserId()).isEqualTo(USER_ID);
+
+            JobDetails job = entityManager.find(JobDetails.class, JOB_DETAIL_ID);
+            assertThat(job).isNotNull();
+            assertThat(job.getDepartment()).isEqualTo("Engineering");
+        });
+    }
+
+    @Test
+    void aSecondCompanyCanNumberEmployeesInTheSameYear() {
+        // the year-only unique key used to refuse company B's sequence row
+        assertThat(employeeIdAllocator.nextSequence(COMPANY_B, YEAR)).isEqualTo(1);
+        assertThat(employeeIdAllocator.nextSequence(COMPANY_A, YEAR)).isEqualTo(6);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employee_sequence WHERE year = ?", Integer.class, YEAR))
+                .isEqualTo(2);
+    }
+
+    private String columnType(String table, String column) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COLUMN_TYPE FROM information_schema.COLUMNS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?
+                """, String.class, table, column);
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return UuidBinary.toBytes(uuid);
+    }
+}
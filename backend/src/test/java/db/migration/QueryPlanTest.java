@@ -0,0 +1,439 @@
+package db.migration;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mockito.Mockito;
+import org.odoo.backend.BackendApplication;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.EmailType;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.odoo.backend.model.OutboxStatus;
+import org.odoo.backend.repositories.*;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.odoo.backend.service.TenantFixture;
+import org.odoo.backend.stats.HeadcountReconciler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Runs the Flyway migrations on an embedded MariaDB, lets Hibernate validate the entities against
+ * them, then calls the repository methods over a few thousand rows and EXPLAINs the SQL they sent:
+ * Hibernate's statements are captured by a StatementInspector, the reconciler's JDBC statements from
+ * a spy on the JdbcTemplate. Only the bind values come from the test, in placeholder order.
+ * A statement that reads a whole table or walks a whole index fails the test.
+ */
+@SpringBootTest(classes = BackendApplication.class, properties = {
+        "scheduling.enabled=false",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=db.migration.QueryPlanTest$CapturedStatements"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final int COMPANIES = 20;
+    private static final int EMPLOYEES_PER_COMPANY = 100;
+    private static final LocalDate SUMMARY_FROM = LocalDate.of(2026, 1, 5);
+    private static final int SUMMARY_DAYS = 5;
+
+    private static DB db;
+
+    @MockitoSpyBean
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobDetailsRepository jobDetailsRepository;
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private PayslipRepository payslipRepository;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private LeaveBalanceRepository leaveBalanceRepository;
+
+    @Autowired
+    private AttendanceMonthRepository attendanceMonthRepository;
+
+    @Autowired
+    private AttendanceDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private HeadcountCounterRepository headcountCounterRepository;
+
+    @Autowired
+    private HeadcountReconciler headcountReconciler;
+
+    private UUID companyId;
+    private UUID userId;
+    private UUID otherUserId;
+    private String employeeId;
+    private String email;
+
+    // Registered with Hibernate by class name, so it records into a static list
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @DynamicPropertySource
+    static void mariaDb(DynamicPropertyRegistry registry) throws Exception {
+        if (db == null) {
+            db = DB.newEmbeddedDB(DBConfigurationBuilder.newBuilder().setPort(0).build());
+            db.start();
+            db.createDB("hrms");
+        }
+        int port = db.getConfiguration().getPort();
+        registry.add("spring.datasource.url", () -> "jdbc:mysql://localhost:" + port + "/hrms?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @BeforeAll
+    void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> companies = new ArrayList<>();
+        for (int c = 0; c < COMPANIES; c++) {
+            String code = "QP" + c;
+            UUID company = tenantFixture.company(code);
+            companies.add(company);
+            List<NewEmployee> employees = tenantFixture.insert(
+                    TenantFixture.employees(company, code, 0, EMPLOYEES_PER_COMPANY, i -> "Dept" + i % 10, TenantFixture.JOINED),
+                    rows -> seedPerEmployee(company, rows, now));
+
+            if (c == COMPANIES / 2) {
+                companyId = company;
+                userId = employees.get(EMPLOYEES_PER_COMPANY / 2).userId();
+                otherUserId = employees.get(EMPLOYEES_PER_COMPANY / 2 + 1).userId();
+                employeeId = employees.get(EMPLOYEES_PER_COMPANY / 2).employeeId();
+                email = employees.get(EMPLOYEES_PER_COMPANY / 2).email();
+            }
+        }
+        // one in five employees has left, so the status filters are not all-or-nothing
+        jdbcTemplate.update("UPDATE job_details SET employee_status = 'RESIGNED' WHERE department IN ('Dept0', 'Dept5')");
+        // the JDBC inserts bypassed the listeners; the reconciler fills in the counters
+        companies.forEach(headcountReconciler::reconcile);
+
+        for (String table : List.of("users", "employee_profiles", "job_details", "otps", "email_outbox", "payroll_runs",
+                "payslips", "leave_requests", "leave_balances", "leave_ledger", "attendance_month",
+                "attendance_daily_summary", "headcount_counters")) {
+            jdbcTemplate.queryForList("ANALYZE TABLE " + table);
+        }
+    }
+
+    @Test
+    void migrationsApplyAndMatchTheEntities() {
+        // the context only starts if ddl-auto=validate accepted the migrated schema
+        assertThat(flyway.info().applied()).extracting(info -> info.getVersion().getVersion()).containsExactly("1", "2", "3", "4");
+    }
+
+    @Test
+    void loginAndDirectoryLookupsUseAnIndex() {
+        assertIndexed("login by company and login ID",
+                hibernateSql(() -> userRepository.findByCompany_CompanyIdAndEmployeeId(companyId, employeeId)),
+                bytes(companyId), employeeId);
+        assertIndexed("user by email",
+                hibernateSql(() -> userRepository.findByEmail(email)),
+                email);
+        // department, designation and status each appear twice: "is null" and the comparison
+        assertIndexed("directory page",
+                hibernateSql(() -> userRepository.findDirectoryPage(companyId, "", null, null, null, Limit.of(21))),
+                bytes(companyId), "", null, null, null, null, null, null, 21);
+        assertIndexed("payroll members",
+                hibernateSql(() -> jobDetailsRepository.findPayrollMembers(
+                        companyId, List.of(EmployeeStatus.ACTIVE, EmployeeStatus.ON_LEAVE), new UUID(0, 0), Limit.of(500))),
+                bytes(companyId), EmployeeStatus.ACTIVE.name(), EmployeeStatus.ON_LEAVE.name(), bytes(new UUID(0, 0)), 500);
+        assertIndexed("active placements page",
+                hibernateSql(() -> jobDetailsRepository.findPlacementsByStatus(EmployeeStatus.ACTIVE, userId, Limit.of(500))),
+                EmployeeStatus.ACTIVE.name(), bytes(userId), 500);
+    }
+
+    @Test
+    void headcountCounterPathsUseAnIndex() {
+        assertIndexed("headcount counters",
+                hibernateSql(() -> headcountCounterRepository.findById_CompanyId(companyId)),
+                bytes(companyId));
+
+        // the counter lock and the three recounts
+        List<String> reconcile = jdbcQueries(() -> headcountReconciler.reconcile(companyId));
+        assertThat(reconcile).hasSize(4);
+        reconcile.forEach(sql -> assertIndexed("headcount reconcile", sql, bytes(companyId)));
+    }
+
+    @Test
+    void otpAndOutboxPathsUseAnIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        assertIndexed("otp verify",
+                hibernateSql(() -> otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, "123456")),
+                email, "123456");
+        assertIndexed("otp purge",
+                hibernateSql(() -> otpRepository.deleteByExpiryTimeBefore(now.minusHours(1))),
+                Timestamp.valueOf(now.minusHours(1)));
+        assertIndexed("outbox dispatch",
+                hibernateSql(() -> emailOutboxRepository.findDispatchable(now, PageRequest.of(0, 50))),
+                Timestamp.valueOf(now), Timestamp.valueOf(now), 50);
+        assertIndexed("outbox supersede",
+                hibernateSql(() -> emailOutboxRepository.supersedePending(EmailType.OTP_VERIFICATION, email)),
+                EmailType.OTP_VERIFICATION.name(), email);
+        assertIndexed("outbox retention purge",
+                hibernateSql(() -> emailOutboxRepository.deleteFinished(
+                        List.of(OutboxStatus.SENT, OutboxStatus.DEAD), now.minusDays(30))),
+                OutboxStatus.SENT.name(), OutboxStatus.DEAD.name(), Timestamp.valueOf(now.minusDays(30)));
+    }
+
+    @Test
+    void payrollAndLeavePathsUseAnIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate from = LocalDate.of(2026, 3, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        assertIndexed("stalled payroll runs",
+                hibernateSql(() -> payrollRunRepository.findStalled(now)),
+                Timestamp.valueOf(now), Timestamp.valueOf(now));
+        assertIndexed("payslip for a month",
+                hibernateSql(() -> payslipRepository.findByCompanyIdAndUserIdAndPeriod(companyId, userId, 202601)),
+                bytes(companyId), bytes(userId), 202601);
+        assertIndexed("pending leave requests",
+                hibernateSql(() -> leaveRequestRepository.findByCompanyIdAndStatusOrderByCreatedAt(
+                        companyId, LeaveRequestStatus.PENDING, Limit.of(100))),
+                bytes(companyId), LeaveRequestStatus.PENDING.name(), 100);
+        assertIndexed("overlapping leave",
+                hibernateSql(() -> leaveRequestRepository.existsOverlapping(userId, from, to)),
+                bytes(userId), to, from);
+        assertIndexed("leave ledger balances",
+                hibernateSql(() -> leaveBalanceRepository.findById_UserId(userId)),
+                bytes(userId));
+        assertIndexed("leave accrual start",
+                hibernateSql(() -> jobDetailsRepository.findDateOfJoining(companyId, userId)),
+                bytes(userId), bytes(companyId));
+    }
+
+    @Test
+    void attendancePathsUseAnIndex() {
+        LocalDate to = SUMMARY_FROM.plusDays(SUMMARY_DAYS - 1);
+        assertIndexed("department attendance month",
+                hibernateSql(() -> attendanceMonthRepository.findByCompanyIdAndId_PeriodAndDepartmentOrderById_UserId(
+                        companyId, 202601, "Dept3")),
+                bytes(companyId), 202601, "Dept3");
+        assertIndexed("daily summaries for a fold batch",
+                hibernateSql(() -> summaryRepository.findForFold(List.of(userId, otherUserId), SUMMARY_FROM, to)),
+                bytes(userId), bytes(otherUserId), SUMMARY_FROM, to);
+        assertIndexed("company attendance for a day",
+                hibernateSql(() -> summaryRepository.findByCompanyIdAndWorkDateOrderByUserId(companyId, SUMMARY_FROM)),
+                bytes(companyId), SUMMARY_FROM);
+        assertIndexed("employee attendance range",
+                hibernateSql(() -> summaryRepository.findByCompanyIdAndUserIdAndWorkDateBetweenOrderByWorkDate(
+                        companyId, userId, SUMMARY_FROM, to)),
+                bytes(companyId), bytes(userId), SUMMARY_FROM, to);
+    }
+
+    private void seedPerEmployee(UUID company, List<NewEmployee> employees, Timestamp now) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO otps (id, email, otp_code, expiry_time, verified, created_at) VALUES (?, ?, ?, ?, ?, ?)
+                """, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, bytes(UUID.randomUUID()));
+            ps.setString(2, e.email());
+            ps.setString(3, String.format(Locale.ROOT, "%06d", Math.floorMod(e.employeeId().hashCode(), 1_000_000)));
+            ps.setTimestamp(4, Timestamp.valueOf(now.toLocalDateTime().plusMinutes(5)));
+            ps.setBoolean(5, e.employeeId().endsWith("7"));
+            ps.setTimestamp(6, now);
+        });
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO email_outbox (id, email_type, recipient, payload, status, attempts, next_attempt_at, created_at, sent_at)
+                VALUES (?, 'OTP_VERIFICATION', ?, 'payload', ?, 1, ?, ?, ?)
+                """, employees, employees.size(), (ps, e) -> {
+            boolean pending = e.employeeId().endsWith("-3");
+            ps.setBytes(1, bytes(UUID.randomUUID()));
+            ps.setString(2, e.email());
+            ps.setString(3, pending ? "PENDING" : "SENT");
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, pending ? null : now);
+        });
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO leave_requests (request_id, user_id, company_id, leave_type, start_date, end_date, days, status, created_at, version)
+                VALUES (?, ?, ?, 'PAID', ?, ?, 1, ?, ?, 0)
+                """, employees, employees.size(), (ps, e) -> {
+            LocalDate day = LocalDate.of(2026, 1, 1).plusDays(Math.floorMod(e.employeeId().hashCode(), 300));
+            ps.setBytes(1, bytes(UUID.randomUUID()));
+            ps.setBytes(2, bytes(e.userId()));
+            ps.setBytes(3, bytes(company));
+            ps.setObject(4, day);
+            ps.setObject(5, day);
+            ps.setString(6, e.employeeId().endsWith("1") ? "PENDING" : "APPROVED");
+            ps.setTimestamp(7, now);
+        });
+        for (String leaveType : List.of("PAID", "SICK")) {
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO leave_balances (user_id, leave_type, company_id, balance, accrued_through, version, updated_at)
+                    VALUES (?, ?, ?, 6, 202601, 0, ?)
+                    """, employees, employees.size(), (ps, e) -> {
+                ps.setBytes(1, bytes(e.userId()));
+                ps.setString(2, leaveType);
+                ps.setBytes(3, bytes(company));
+                ps.setTimestamp(4, now);
+            });
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO leave_ledger (user_id, company_id, leave_type, entry_type, days, balance_after, period_from, period_to, created_at)
+                    VALUES (?, ?, ?, 'ACCRUAL', 6, 6, 202501, 202601, ?)
+                    """, employees, employees.size(), (ps, e) -> {
+                ps.setBytes(1, bytes(e.userId()));
+                ps.setBytes(2, bytes(company));
+                ps.setString(3, leaveType);
+                ps.setTimestamp(4, now);
+            });
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO attendance_month (user_id, period, company_id, department, present_bits, absent_bits, leave_bits, late_bits)
+                VALUES (?, 202601, ?, ?, 1, 0, 0, 0)
+                """, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, bytes(e.userId()));
+            ps.setBytes(2, bytes(company));
+            ps.setString(3, e.department());
+        });
+        for (int d = 0; d < SUMMARY_DAYS; d++) {
+            LocalDate day = SUMMARY_FROM.plusDays(d);
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO attendance_daily_summary (id, user_id, company_id, work_date, first_check_in, last_check_out,
+                                                          worked_seconds, event_count)
+                    VALUES (?, ?, ?, ?, ?, ?, 28800, 2)
+                    """, employees, employees.size(), (ps, e) -> {
+                ps.setBytes(1, bytes(UUID.randomUUID()));
+                ps.setBytes(2, bytes(e.userId()));
+                ps.setBytes(3, bytes(company));
+                ps.setObject(4, day);
+                ps.setTimestamp(5, Timestamp.valueOf(day.atTime(9, 0)));
+                ps.setTimestamp(6, Timestamp.valueOf(day.atTime(17, 0)));
+            });
+        }
+
+        // twelve finished monthly runs per company, each with a payslip for every employee
+        UUID[] runs = new UUID[12];
+        for (int m = 0; m < runs.length; m++) {
+            runs[m] = UUID.randomUUID();
+            jdbcTemplate.update("""
+                    INSERT INTO payroll_runs (run_id, company_id, period, status, total_chunks, employee_count, created_at, heartbeat_at)
+                    VALUES (?, ?, ?, 'COMPLETED', 1, ?, ?, ?)
+                    """, bytes(runs[m]), bytes(company), 202501 + m, employees.size(), now, now);
+        }
+        for (int m = 0; m < runs.length; m++) {
+            UUID run = runs[m];
+            int period = 202501 + m;
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO payslips (payslip_id, run_id, user_id, company_id, period, payable_days, loss_of_pay_days, basic,
+                                          house_rent_allowance, medical_allowance, conveyance_allowance, special_allowance,
+                                          gross_earnings, loss_of_pay, provident_fund, professional_tax, income_tax,
+                                          total_deductions, net_pay, created_at)
+                    VALUES (?, ?, ?, ?, ?, 30, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, ?)
+                    """, employees, employees.size(), (ps, e) -> {
+                ps.setBytes(1, bytes(UUID.randomUUID()));
+                ps.setBytes(2, bytes(run));
+                ps.setBytes(3, bytes(e.userId()));
+                ps.setBytes(4, bytes(company));
+                ps.setInt(5, period);
+                ps.setTimestamp(6, now);
+            });
+        }
+    }
+
+    // The one statement Hibernate sent for the call; writes are rolled back
+    private String hibernateSql(Runnable call) {
+        CapturedStatements.STATEMENTS.clear();
+        transactionTemplate.executeWithoutResult(status -> {
+            call.run();
+            status.setRollbackOnly();
+        });
+        List<String> statements = List.copyOf(CapturedStatements.STATEMENTS);
+        assertThat(statements).as("statements sent for one repository call").hasSize(1);
+        return statements.getFirst();
+    }
+
+    // The distinct queries the call ran through JdbcTemplate
+    private List<String> jdbcQueries(Runnable call) {
+        Mockito.clearInvocations(jdbcTemplate);
+        call.run();
+        return Mockito.mockingDetails(jdbcTemplate).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("query"))
+                .map(invocation -> invocation.getArguments()[0])
+                .filter(String.class::isInstance)
+                .map(String.class::cast)
+                .distinct()
+                .toList();
+    }
+
+    // Every table in the plan must be reached through an index: no ALL (table scan), no index (full index walk)
+    private void assertIndexed(String name, String sql, Object... args) {
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("%s binds one value per placeholder in %s", name, sql)
+                .isEqualTo(args.length);
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+        assertThat(plan).as(name).isNotEmpty();
+        for (Map<String, Object> row : plan) {
+            if (row.get("table") == null) {
+                continue;
+            }
+            assertThat(String.valueOf(row.get("type")))
+                    .as("%s reads %s with plan %s", name, row.get("table"), plan)
+                    .isNotIn("ALL", "index");
+        }
+    }
+
+    private static byte[] bytes(UUID uuid) {
+        return UuidBinary.toBytes(uuid);
+    }
+}
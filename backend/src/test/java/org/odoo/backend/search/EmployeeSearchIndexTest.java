@@ -0,0 +1,150 @@
+package org.odoo.backend.search;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.service.TenantFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmployeeSearchIndexTest {
+
+    @Autowired
+    private EmployeeSearchIndex employeeSearchIndex;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void findsEmployeesByPrefixInfixAndFilter() {
+        String code = TenantFixture.randomCode();
+        UUID companyId = tenantFixture.company(code);
+        List<NewEmployee> employees = tenantFixture.insert(List.of(
+                TenantFixture.employee(companyId, code + "-1", "Ada", "Lovelace", "Engineering", TenantFixture.JOINED),
+                TenantFixture.employee(companyId, code + "-2", "Grace", "Hopper", "Research", TenantFixture.JOINED),
+                TenantFixture.employee(companyId, code + "-3", "Adam", "Smith", "Finance", TenantFixture.JOINED)));
+
+        assertThat(names(employeeSearchIndex.search(companyId, "lov", EmployeeFilter.none(), 10))).containsExactly("Lovelace");
+        assertThat(names(employeeSearchIndex.search(companyId, "opp", EmployeeFilter.none(), 10))).containsExactly("Hopper");
+        assertThat(names(employeeSearchIndex.search(companyId, "ada", EmployeeFilter.none(), 10)))
+                .containsExactlyInAnyOrder("Lovelace", "Smith");
+        assertThat(names(employeeSearchIndex.search(companyId, "ada", new EmployeeFilter("finance", null, null), 10)))
+                .containsExactly("Smith");
+        assertThat(employeeSearchIndex.search(companyId, "ada grace", EmployeeFilter.none(), 10)).isEmpty();
+        assertThat(employeeSearchIndex.search(companyId, "grace hopper", EmployeeFilter.none(), 10))
+                .extracting(EmployeeSummary::userId).containsExactly(employees.get(1).userId());
+    }
+
+    @Test
+    void tenantsNeverSeeEachOthersEmployees() {
+        String codeA = TenantFixture.randomCode();
+        UUID companyA = tenantFixture.company(codeA);
+        NewEmployee adaA = tenantFixture.insert(List.of(
+                TenantFixture.employee(companyA, codeA + "-1", "Ada", "Lovelace", "Engineering", TenantFixture.JOINED))).getFirst();
+
+        String codeB = TenantFixture.randomCode();
+        UUID companyB = tenantFixture.company(codeB);
+        NewEmployee adaB = tenantFixture.insert(List.of(
+                TenantFixture.employee(companyB, codeB + "-1", "Ada", "Byron", "Engineering", TenantFixture.JOINED))).getFirst();
+
+        assertThat(employeeSearchIndex.search(companyA, "ada", EmployeeFilter.none(), 10))
+                .extracting(EmployeeSummary::userId).containsExactly(adaA.userId());
+        assertThat(employeeSearchIndex.search(companyB, "ada", EmployeeFilter.none(), 10))
+                .extracting(EmployeeSummary::userId).containsExactly(adaB.userId());
+        assertThat(employeeSearchIndex.search(companyB, "lovelace", EmployeeFilter.none(), 10)).isEmpty();
+        assertThat(employeeSearchIndex.search(companyA, "byron", EmployeeFilter.none(), 10)).isEmpty();
+    }
+
+    @Test
+    void agedIndexIsRebuiltAndPicksUpWritesThatBypassedTheListener() throws InterruptedException {
+        EmployeeSearchIndex index = new EmployeeSearchIndex(userRepository, new SimpleMeterRegistry(), 0, 3_600_000, 500);
+        try {
+            String code = TenantFixture.randomCode();
+            UUID companyId = tenantFixture.company(code);
+            tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-1", "Ada", "Lovelace", "Engineering", TenantFixture.JOINED)));
+            assertThat(index.search(companyId, "ada", EmployeeFilter.none(), 10)).hasSize(1);
+
+            // JDBC insert without refresh(): invisible until the index is rebuilt
+            tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-2", "Grace", "Hopper", "Research", TenantFixture.JOINED)));
+            assertThat(index.search(companyId, "grace", EmployeeFilter.none(), 10)).isEmpty();
+
+            Thread.sleep(5);
+            index.maintain();
+            assertThat(awaitResults(() -> index.search(companyId, "grace", EmployeeFilter.none(), 10))).hasSize(1);
+        } finally {
+            ReflectionTestUtils.invokeMethod(index, "shutdown");
+        }
+    }
+
+    @Test
+    void idleTenantsAreDroppedAndRebuiltOnTheirNextSearch() throws InterruptedException {
+        EmployeeSearchIndex index = new EmployeeSearchIndex(userRepository, new SimpleMeterRegistry(), 3_600_000, 1, 500);
+        try {
+            String code = TenantFixture.randomCode();
+            UUID companyId = tenantFixture.company(code);
+            tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-1", "Ada", "Lovelace", "Engineering", TenantFixture.JOINED)));
+            assertThat(index.search(companyId, "ada", EmployeeFilter.none(), 10)).hasSize(1);
+            assertThat(index.indexedTenants()).isEqualTo(1);
+
+            Thread.sleep(5);
+            index.maintain();
+            assertThat(index.indexedTenants()).isZero();
+
+            assertThat(index.search(companyId, "ada", EmployeeFilter.none(), 10)).hasSize(1);
+            assertThat(index.indexedTenants()).isEqualTo(1);
+        } finally {
+            ReflectionTestUtils.invokeMethod(index, "shutdown");
+        }
+    }
+
+    @Test
+    void tenantCountIsCappedByEvictingTheLeastRecentlySearched() throws InterruptedException {
+        EmployeeSearchIndex index = new EmployeeSearchIndex(userRepository, new SimpleMeterRegistry(), 3_600_000, 3_600_000, 2);
+        try {
+            for (int i = 0; i < 4; i++) {
+                String code = TenantFixture.randomCode();
+                UUID companyId = tenantFixture.company(code);
+                tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-1", "Ada", "Lovelace", "Engineering", TenantFixture.JOINED)));
+                index.search(companyId, "ada", EmployeeFilter.none(), 10);
+                Thread.sleep(2);
+            }
+            assertThat(index.indexedTenants()).isEqualTo(4);
+
+            index.maintain();
+            assertThat(index.indexedTenants()).isEqualTo(2);
+        } finally {
+            ReflectionTestUtils.invokeMethod(index, "shutdown");
+        }
+    }
+
+    private static List<String> names(List<EmployeeSummary> results) {
+        return results.stream().map(EmployeeSummary::lastName).toList();
+    }
+
+    private static List<EmployeeSummary> awaitResults(Supplier<List<EmployeeSummary>> search)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        List<EmployeeSummary> results = search.get();
+        while (results.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            results = search.get();
+        }
+        return results;
+    }
+}
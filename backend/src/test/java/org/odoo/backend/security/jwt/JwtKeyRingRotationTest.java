@@ -0,0 +1,141 @@
+package org.odoo.backend.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtKeyRingRotationTest {
+
+    private static final long RELOAD_INTERVAL = Duration.ofMinutes(1).toMillis();
+    private static final long ROTATION_INTERVAL = Duration.ofDays(1).toMillis();
+    private static final long OVERLAP = Duration.ofHours(1).toMillis();
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void removedKeyKeepsVerifyingForTheOverlapWindow() throws IOException {
+        writeKey("2026-01", Duration.ofDays(3));
+        JwtKeyRing ring = keyRing(0, OVERLAP);
+
+        Files.delete(keyDir.resolve("2026-01.key"));
+        writeKey("2026-02", Duration.ofDays(2));
+        ring.reload();
+
+        assertThat(ring.signingKey().kid()).isEqualTo("2026-02");
+        assertThat(ring.verificationKey("2026-01")).isNotNull();
+        assertThat(ring.isActive("2026-01")).isTrue();
+    }
+
+    @Test
+    void removedKeyStopsVerifyingWithoutAnOverlap() throws IOException {
+        writeKey("2026-01", Duration.ofDays(3));
+        JwtKeyRing ring = keyRing(0, 0);
+
+        Files.delete(keyDir.resolve("2026-01.key"));
+        writeKey("2026-02", Duration.ofDays(2));
+        ring.reload();
+
+        assertThat(ring.isActive("2026-01")).isFalse();
+        assertThat(ring.isActive("2026-02")).isTrue();
+    }
+
+    @Test
+    void rotationPublishesAKeyAndSignsWithItOnceEveryNodeCouldHaveLoadedIt() throws IOException {
+        writeKey("rotated-20260101000000", Duration.ofDays(2));
+        JwtKeyRing ring = keyRing(ROTATION_INTERVAL, OVERLAP);
+
+        // the old key is past the rotation interval: a successor is published, but not signed with yet
+        ring.reload();
+        String successor = successorOf(List.of("rotated-20260101000000"));
+        assertThat(ring.signingKey().kid()).isEqualTo("rotated-20260101000000");
+        assertThat(ring.isActive(successor)).isTrue();
+
+        // one reload interval later every node has it, so it becomes the signing key
+        age(successor, Duration.ofMinutes(2));
+        ring.reload();
+        assertThat(ring.signingKey().kid()).isEqualTo(successor);
+        assertThat(kids()).containsExactlyInAnyOrder("rotated-20260101000000", successor);
+
+        // once the successor has signed for longer than the overlap, the old file is removed,
+        // and the old key still verifies in memory for one more overlap window
+        age(successor, Duration.ofHours(3));
+        ring.reload();
+        assertThat(kids()).containsExactly(successor);
+        assertThat(ring.isActive("rotated-20260101000000")).isTrue();
+        assertThat(ring.signingKey().kid()).isEqualTo(successor);
+    }
+
+    @Test
+    void operatorKeysNeitherKeepSigningNorGetRemovedByRotation() throws IOException {
+        // "main" sorts after every rotated kid, "k1" looks like an old rotated one; neither may matter
+        writeKey("main", Duration.ofDays(4));
+        writeKey("k1", Duration.ofDays(3));
+        writeKey("rotated-20260101000000", Duration.ofDays(2));
+        JwtKeyRing ring = keyRing(ROTATION_INTERVAL, OVERLAP);
+
+        // the most recently published key signs, whatever its name
+        assertThat(ring.signingKey().kid()).isEqualTo("rotated-20260101000000");
+        String successor = successorOf(List.of("main", "k1", "rotated-20260101000000"));
+
+        age(successor, Duration.ofMinutes(2));
+        ring.reload();
+        assertThat(ring.signingKey().kid()).isEqualTo(successor);
+
+        // the rotated predecessor goes, the operator's files stay, and the directory settles
+        age(successor, Duration.ofHours(3));
+        ring.reload();
+        ring.reload();
+        assertThat(kids()).containsExactlyInAnyOrder("main", "k1", successor);
+        assertThat(ring.signingKey().kid()).isEqualTo(successor);
+    }
+
+    private JwtKeyRing keyRing(long rotationInterval, long overlap) {
+        JwtKeyRing ring = new JwtKeyRing();
+        ReflectionTestUtils.setField(ring, "inlineKeys", "");
+        ReflectionTestUtils.setField(ring, "keyDir", keyDir.toString());
+        ReflectionTestUtils.setField(ring, "signingKid", "");
+        ReflectionTestUtils.setField(ring, "reloadIntervalMillis", RELOAD_INTERVAL);
+        ReflectionTestUtils.setField(ring, "rotationIntervalMillis", rotationInterval);
+        ReflectionTestUtils.setField(ring, "overlapMillis", overlap);
+        ReflectionTestUtils.invokeMethod(ring, "init");
+        return ring;
+    }
+
+    private void writeKey(String kid, Duration age) throws IOException {
+        byte[] secret = Jwts.SIG.HS256.key().build().getEncoded();
+        Files.writeString(keyDir.resolve(kid + ".key"), Base64.getEncoder().encodeToString(secret), StandardCharsets.US_ASCII);
+        age(kid, age);
+    }
+
+    private void age(String kid, Duration age) throws IOException {
+        Files.setLastModifiedTime(keyDir.resolve(kid + ".key"), FileTime.from(Instant.now().minus(age)));
+    }
+
+    // The one kid rotation added next to the given ones
+    private String successorOf(List<String> existing) throws IOException {
+        List<String> added = kids().stream().filter(kid -> !existing.contains(kid)).toList();
+        assertThat(added).singleElement().asString().startsWith("rotated-");
+        return added.getFirst();
+    }
+
+    private List<String> kids() throws IOException {
+        try (Stream<Path> files = Files.list(keyDir)) {
+            return files.map(file -> file.getFileName().toString().replace(".key", "")).sorted().toList();
+        }
+    }
+}
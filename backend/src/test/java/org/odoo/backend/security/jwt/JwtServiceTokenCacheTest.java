@@ -0,0 +1,99 @@
+package org.odoo.backend.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.odoo.backend.model.UserRole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// A verified token is served from the cache only while its key and its exp would still pass verification
+class JwtServiceTokenCacheTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID COMPANY_ID = UUID.randomUUID();
+
+    @TempDir
+    Path keyDir;
+
+    @Test
+    void cachedTokenIsRejectedOnceItsKeyLeavesTheRing() throws IOException {
+        writeKey("2026-01", Duration.ofDays(3));
+        JwtKeyRing ring = keyRing();
+        JwtService jwtService = new JwtService(ring, new SimpleMeterRegistry(), 100);
+
+        String token = jwtService.generateToken(USER_ID, COMPANY_ID, UserRole.ROLE_EMPLOYEE, "a@fixture.test");
+        TokenClaims first = jwtService.parseToken(token);
+        assertThat(jwtService.parseToken(token)).isSameAs(first);
+
+        // no overlap window: the removed key stops verifying on the next reload
+        Files.delete(keyDir.resolve("2026-01.key"));
+        writeKey("2026-02", Duration.ofDays(2));
+        ring.reload();
+
+        assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws Exception {
+        writeKey("2026-01", Duration.ofDays(3));
+        JwtKeyRing ring = keyRing();
+        JwtService jwtService = new JwtService(ring, new SimpleMeterRegistry(), 100);
+
+        // exp has second precision, so give the token a little over one second to live
+        Instant expiresAt = Instant.now().plusSeconds(2);
+        JwtKeyRing.SigningKey signingKey = ring.signingKey();
+        String token = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .subject(USER_ID.toString())
+                .claim("companyId", COMPANY_ID.toString())
+                .claim("role", UserRole.ROLE_EMPLOYEE.name())
+                .claim("email", "a@fixture.test")
+                .issuedAt(new Date())
+                .expiration(Date.from(expiresAt))
+                .signWith(signingKey.key())
+                .compact();
+
+        TokenClaims first = jwtService.parseToken(token);
+        assertThat(jwtService.parseToken(token)).isSameAs(first);
+
+        Thread.sleep(Duration.between(Instant.now(), first.expiresAt()).plusMillis(100));
+
+        assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    private JwtKeyRing keyRing() {
+        JwtKeyRing ring = new JwtKeyRing();
+        ReflectionTestUtils.setField(ring, "inlineKeys", "");
+        ReflectionTestUtils.setField(ring, "keyDir", keyDir.toString());
+        ReflectionTestUtils.setField(ring, "signingKid", "");
+        ReflectionTestUtils.setField(ring, "reloadIntervalMillis", Duration.ofMinutes(1).toMillis());
+        ReflectionTestUtils.setField(ring, "rotationIntervalMillis", 0L);
+        ReflectionTestUtils.setField(ring, "overlapMillis", 0L);
+        ReflectionTestUtils.invokeMethod(ring, "init");
+        return ring;
+    }
+
+    private void writeKey(String kid, Duration age) throws IOException {
+        byte[] secret = Jwts.SIG.HS256.key().build().getEncoded();
+        Path file = keyDir.resolve(kid + ".key");
+        Files.writeString(file, Base64.getEncoder().encodeToString(secret), StandardCharsets.US_ASCII);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+    }
+}
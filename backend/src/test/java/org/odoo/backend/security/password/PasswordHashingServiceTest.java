@@ -0,0 +1,143 @@
+package org.odoo.backend.security.password;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Services are built here with one hashing thread, so a call queued behind a task also waits for it to finish
+class PasswordHashingServiceTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    // the encoder SecurityConfig builds, at the cost the test profile uses
+    private final PasswordEncoder passwordEncoder = passwordEncoder();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<PasswordHashingService> services = new ArrayList<>();
+
+    private String storedHash;
+
+    @BeforeEach
+    void setUp() {
+        // stands in for the conditional UPDATE: only the hash the login read may be replaced
+        when(userRepository.updatePasswordHash(eq(USER_ID), anyString(), anyString()))
+                .thenAnswer(invocation -> compareAndSet(invocation.getArgument(1), invocation.getArgument(2)));
+    }
+
+    @AfterEach
+    void shutdown() {
+        services.forEach(service -> ReflectionTestUtils.invokeMethod(service, "shutdown"));
+    }
+
+    @Test
+    void saturatedPoolRejectsInsteadOfQueueingForever() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = mock(PasswordEncoder.class);
+        when(blockingEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hash";
+        });
+        PasswordHashingService service = service(blockingEncoder, 1);
+
+        // one hash running, one waiting in the queue of one
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> running = callers.submit(() -> service.encode("first"));
+            assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<String> queued = callers.submit(() -> service.encode("second"));
+            while (meterRegistry.get("password.hashing.queue.depth").gauge().value() < 1) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> service.encode("third")).isInstanceOf(ServiceBusyException.class);
+            assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("hash");
+            assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo("hash");
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    void legacyHashIsUpgradedOnce() {
+        PasswordHashingService service = service(passwordEncoder, 10);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+        storedHash = legacy;
+
+        service.upgradeIfNeeded(USER_ID, "secret", legacy);
+        service.encode("drain");
+
+        String upgraded = storedHash;
+        assertThat(upgraded).startsWith("{bcrypt}");
+        assertThat(passwordEncoder.matches("secret", upgraded)).isTrue();
+        assertThat(meterRegistry.get("password.hashing.upgraded").counter().count()).isEqualTo(1);
+
+        // the next login sees a current hash and leaves it alone
+        service.upgradeIfNeeded(USER_ID, "secret", upgraded);
+        service.encode("drain");
+        assertThat(storedHash).isEqualTo(upgraded);
+        assertThat(meterRegistry.get("password.hashing.upgraded").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void upgradeLosesToAConcurrentPasswordChange() {
+        PasswordHashingService service = service(passwordEncoder, 10);
+        String legacy = new BCryptPasswordEncoder(4).encode("secret");
+
+        // the login read the legacy hash, then the user changed their password before the rehash ran
+        String changed = passwordEncoder.encode("changed");
+        storedHash = changed;
+        service.upgradeIfNeeded(USER_ID, "secret", legacy);
+        service.encode("drain");
+
+        assertThat(storedHash).isEqualTo(changed);
+        assertThat(meterRegistry.get("password.hashing.upgraded").counter().count()).isZero();
+    }
+
+    private PasswordHashingService service(PasswordEncoder encoder, int queueCapacity) {
+        PasswordHashingService service = new PasswordHashingService(
+                encoder, userRepository, meterRegistry, 1, queueCapacity, 5000, 1, 4);
+        services.add(service);
+        return service;
+    }
+
+    private synchronized int compareAndSet(String expected, String next) {
+        if (!expected.equals(storedHash)) {
+            return 0;
+        }
+        storedHash = next;
+        return 1;
+    }
+
+    private static PasswordEncoder passwordEncoder() {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                "bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(4)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+}
@@ -0,0 +1,116 @@
+package org.odoo.backend.security.principal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.security.filter.JwtAuthenticationFilter;
+import org.odoo.backend.security.jwt.JwtKeyRing;
+import org.odoo.backend.security.jwt.JwtService;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// The invalidator is called here the way Hibernate calls it after the users row is updated
+class PrincipalCacheInvalidatorTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalCache principalCache = new PrincipalCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    private final PrincipalCacheInvalidator invalidator = new PrincipalCacheInvalidator(principalCache);
+    private final JwtService jwtService = new JwtService(keyRing(), new SimpleMeterRegistry(), 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userRepository, principalCache);
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        Company company = Company.builder()
+                .companyId(UUID.randomUUID())
+                .companyName("Acme")
+                .companyCode("ACM")
+                .active(true)
+                .build();
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .company(company)
+                .employeeId("ACM-1")
+                .email("hr@acme.test")
+                .passwordHash("not-a-login")
+                .role(UserRole.ROLE_HR)
+                .active(true)
+                .build();
+        when(userRepository.findById(user.getUserId())).thenReturn(Optional.of(user));
+        token = jwtService.generateToken(user.getUserId(), company.getCompanyId(), UserRole.ROLE_HR, user.getEmail());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void deactivatedUserIsRejectedOnTheNextRequest() throws Exception {
+        assertThat(authenticate()).isNotNull();
+        // served from the cache: without the eviction the change below would go unnoticed
+        assertThat(authenticate()).isNotNull();
+        verify(userRepository, times(1)).findById(user.getUserId());
+
+        user.setActive(false);
+        invalidator.onUserChanged(user);
+
+        assertThat(authenticate()).isNull();
+    }
+
+    @Test
+    void roleChangeRejectsTokensIssuedForTheOldRole() throws Exception {
+        Authentication before = authenticate();
+        assertThat(before).isNotNull();
+        assertThat(before.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_HR");
+
+        user.setRole(UserRole.ROLE_EMPLOYEE);
+        invalidator.onUserChanged(user);
+
+        assertThat(authenticate()).isNull();
+    }
+
+    // No keys configured: the ring falls back to an ephemeral signing key
+    private static JwtKeyRing keyRing() {
+        JwtKeyRing ring = new JwtKeyRing();
+        ReflectionTestUtils.setField(ring, "inlineKeys", "");
+        ReflectionTestUtils.setField(ring, "keyDir", "");
+        ReflectionTestUtils.setField(ring, "signingKid", "");
+        ReflectionTestUtils.setField(ring, "rotationIntervalMillis", 0L);
+        ReflectionTestUtils.invokeMethod(ring, "init");
+        return ring;
+    }
+
+    // Runs one request through the filter and returns what the rest of the chain saw
+    private Authentication authenticate() throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(SecurityContextHolder.getContext().getAuthentication()));
+        return seen.get();
+    }
+}
@@ -0,0 +1,85 @@
+package org.odoo.backend.security.ratelimit;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Goes through the real connector, since X-Forwarded-For is resolved by Tomcat's RemoteIpValve
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.forward-headers-strategy=native",
+                "server.tomcat.remoteip.internal-proxies=127\\.0\\.0\\.1|0:0:0:0:0:0:0:1",
+                "security.rate-limit.ip.capacity=3",
+                "security.rate-limit.ip.refill-per-second=0.001"
+        }
+)
+@ActiveProfiles("test")
+class RateLimitForwardedIpTest {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Test
+    void clientsBehindATrustedProxyGetTheirOwnBuckets() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(get("198.51.100.7")).isNotEqualTo(TOO_MANY_REQUESTS);
+        }
+        assertThat(get("198.51.100.7")).isEqualTo(TOO_MANY_REQUESTS);
+
+        // the proxy's own address is not what gets limited
+        assertThat(get("198.51.100.8")).isNotEqualTo(TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    void onlyTheClientClosestToTheTrustedProxyCounts() throws Exception {
+        // a client-supplied entry in front of the real one does not get a fresh bucket
+        for (int i = 0; i < 3; i++) {
+            assertThat(get("192.0.2." + i + ", 198.51.100.20")).isNotEqualTo(TOO_MANY_REQUESTS);
+        }
+        assertThat(get("192.0.2.99, 198.51.100.20")).isEqualTo(TOO_MANY_REQUESTS);
+    }
+
+    @Nested
+    @TestPropertySource(properties = "server.tomcat.remoteip.internal-proxies=10\\.255\\.255\\.1")
+    class UntrustedPeer {
+
+        @Value("${local.server.port}")
+        private int port;
+
+        @Test
+        void forwardedHeaderFromAnUntrustedPeerIsIgnored() throws Exception {
+            for (int i = 0; i < 3; i++) {
+                assertThat(get(port, "203.0.113." + i)).isNotEqualTo(TOO_MANY_REQUESTS);
+            }
+            // every request is keyed by the loopback peer, whatever it claims to forward
+            assertThat(get(port, "203.0.113.200")).isEqualTo(TOO_MANY_REQUESTS);
+        }
+    }
+
+    private int get(String forwardedFor) throws Exception {
+        return get(port, forwardedFor);
+    }
+
+    private int get(int port, String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/public/rate-limit-probe"))
+                .header("X-Forwarded-For", forwardedFor)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
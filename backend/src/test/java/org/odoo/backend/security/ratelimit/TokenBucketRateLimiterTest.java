@@ -0,0 +1,64 @@
+package org.odoo.backend.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void fullBucketAllowsItsCapacityThenRejectsWithAWaitTime() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1024, 3, 0.5);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("203.0.113.1")).isZero();
+        }
+
+        // one token at 0.5 per second is about two seconds away
+        assertThat(limiter.tryAcquire("203.0.113.1")).isBetween(1L, 2000L);
+    }
+
+    @Test
+    void rejectedBucketRefillsOverTime() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1024, 2, 100);
+
+        assertThat(limiter.tryAcquire("login:ada")).isZero();
+        assertThat(limiter.tryAcquire("login:ada")).isZero();
+        assertThat(limiter.tryAcquire("login:ada")).isPositive();
+
+        Thread.sleep(50);
+        assertThat(limiter.tryAcquire("login:ada")).isZero();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1024, 2, 1000);
+        assertThat(limiter.tryAcquire("idle")).isZero();
+
+        Thread.sleep(50);
+        assertThat(limiter.tryAcquire("idle")).isZero();
+        assertThat(limiter.tryAcquire("idle")).isZero();
+        assertThat(limiter.tryAcquire("idle")).isPositive();
+    }
+
+    @Test
+    void keysHaveTheirOwnBuckets() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(65536, 1, 0.001);
+
+        assertThat(limiter.tryAcquire("203.0.113.1")).isZero();
+        assertThat(limiter.tryAcquire("203.0.113.1")).isPositive();
+        assertThat(limiter.tryAcquire("203.0.113.2")).isZero();
+    }
+
+    @Test
+    void idleBucketsAreEvictedAndStartFull() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1024, 1, 0.001);
+        assertThat(limiter.tryAcquire("203.0.113.9")).isZero();
+        assertThat(limiter.activeSlots()).isEqualTo(1);
+
+        Thread.sleep(20);
+        assertThat(limiter.evictIdle(10)).isEqualTo(1);
+        assertThat(limiter.activeSlots()).isZero();
+        assertThat(limiter.tryAcquire("203.0.113.9")).isZero();
+    }
+}
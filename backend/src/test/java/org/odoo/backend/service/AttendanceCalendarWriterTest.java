@@ -0,0 +1,179 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.LeaveRequest;
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.odoo.backend.model.LeaveType;
+import org.odoo.backend.repositories.LeaveRequestRepository;
+import org.odoo.backend.service.impl.AttendanceCalendarWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The fold job, leave approvals and the absence job write the same month rows from different threads
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class AttendanceCalendarWriterTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2026, 4);
+    private static final int WRITERS = 20;
+
+    @Autowired
+    private AttendanceCalendarWriter calendarWriter;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentPresenceAndLeaveOnAFreshMonthKeepEveryDay() throws Exception {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+        UUID userId = hire(companyId);
+
+        // no row yet: every writer races to create it, then sets its own day
+        List<Callable<Void>> writers = new ArrayList<>();
+        int present = 0;
+        int leave = 0;
+        for (int day = 1; day <= WRITERS; day++) {
+            int bit = AttendanceMonth.bit(day);
+            if (day % 2 == 0) {
+                leave |= bit;
+                writers.add(() -> {
+                    transactionTemplate.executeWithoutResult(status ->
+                            calendarWriter.markLeave(userId, companyId, MONTH, bit, true));
+                    return null;
+                });
+            } else {
+                present |= bit;
+                AttendanceDailySummary summary = checkIn(userId, companyId, MONTH.atDay(day));
+                writers.add(() -> {
+                    transactionTemplate.executeWithoutResult(status -> calendarWriter.applyDays(List.of(summary)));
+                    return null;
+                });
+            }
+        }
+        runTogether(writers);
+
+        Map<String, Object> row = month(userId, MONTH);
+        assertThat(row.get("present_bits")).isEqualTo(present);
+        assertThat(row.get("leave_bits")).isEqualTo(leave);
+    }
+
+    @Test
+    void lateCheckInRacingTheAbsenceJobEndsPresent() throws Exception {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+        UUID userId = hire(companyId);
+        LocalDate day = MONTH.atDay(1);
+        AttendanceDailySummary summary = checkIn(userId, companyId, day);
+
+        runTogether(List.of(
+                () -> {
+                    calendarWriter.markAbsences(day);
+                    return null;
+                },
+                () -> {
+                    transactionTemplate.executeWithoutResult(status -> calendarWriter.applyDays(List.of(summary)));
+                    return null;
+                }));
+
+        // whichever ran first, presence wins the day
+        Map<String, Object> row = month(userId, MONTH);
+        int bit = AttendanceMonth.bit(day.getDayOfMonth());
+        assertThat((int) row.get("present_bits") & bit).isEqualTo(bit);
+        assertThat((int) row.get("absent_bits") & bit).isZero();
+    }
+
+    @Test
+    void approvedLeaveAcrossAMonthEndMarksBothMonths() {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+        UUID userId = hire(companyId);
+        // Wednesday 29 April to Monday 4 May: two working days either side of the weekend
+        UUID requestId = leaveRequestRepository.save(LeaveRequest.builder()
+                .userId(userId)
+                .companyId(companyId)
+                .leaveType(LeaveType.PAID)
+                .startDate(LocalDate.of(2026, 4, 29))
+                .endDate(LocalDate.of(2026, 5, 4))
+                .days(BigDecimal.valueOf(4))
+                .status(LeaveRequestStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build()).getRequestId();
+
+        leaveService.approve(companyId, UUID.randomUUID(), requestId);
+
+        assertThat(month(userId, YearMonth.of(2026, 4)).get("leave_bits"))
+                .isEqualTo(AttendanceMonth.bit(29) | AttendanceMonth.bit(30));
+        assertThat(month(userId, YearMonth.of(2026, 5)).get("leave_bits"))
+                .isEqualTo(AttendanceMonth.bit(1) | AttendanceMonth.bit(4));
+    }
+
+    private UUID hire(UUID companyId) {
+        String employeeId = "CW-" + UUID.randomUUID().toString().substring(0, 8);
+        return tenantFixture.insert(List.of(TenantFixture.employee(companyId, employeeId, "Engineering", TenantFixture.JOINED)))
+                .getFirst().userId();
+    }
+
+    private static AttendanceDailySummary checkIn(UUID userId, UUID companyId, LocalDate day) {
+        return AttendanceDailySummary.builder()
+                .userId(userId)
+                .companyId(companyId)
+                .workDate(day)
+                .firstCheckIn(day.atTime(9, 0))
+                .eventCount(1)
+                .build();
+    }
+
+    private static void runTogether(List<Callable<Void>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        for (Callable<Void> task : tasks) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<Void> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Map<String, Object> month(UUID userId, YearMonth month) {
+        return jdbcTemplate.queryForMap(
+                "SELECT present_bits, absent_bits, leave_bits FROM attendance_month WHERE user_id = ? AND period = ?",
+                UuidBinary.toBytes(userId), AttendanceMonth.period(month));
+    }
+}
@@ -0,0 +1,143 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceDailySummary;
+import org.odoo.backend.model.AttendanceEventType;
+import org.odoo.backend.model.AttendanceFoldGap;
+import org.odoo.backend.repositories.AttendanceDailySummaryRepository;
+import org.odoo.backend.repositories.AttendanceFoldGapRepository;
+import org.odoo.backend.service.impl.AttendanceFoldJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Inserts events the way two flushers on different nodes would: ids handed out in one order, committed in another
+@SpringBootTest(properties = {"scheduling.enabled=false", "attendance.fold.gap-timeout=2s"})
+@ActiveProfiles("test")
+class AttendanceFoldJobTest {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attendance_events (user_id, company_id, event_type, occurred_at) VALUES (?, ?, ?, ?)";
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 2);
+
+    @Autowired
+    private AttendanceFoldJob attendanceFoldJob;
+
+    @Autowired
+    private AttendanceDailySummaryRepository summaryRepository;
+
+    @Autowired
+    private AttendanceFoldGapRepository gapRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eventCommittedAfterALaterIdIsFoldedOnceItShowsUp() throws Exception {
+        UUID companyId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong slowId = new AtomicLong();
+
+        // the slow flush takes its id first and holds its transaction open
+        CompletableFuture<Void> slowFlush = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+            slowId.set(insert(userId, companyId, AttendanceEventType.CHECK_IN, DAY.atTime(9, 0)));
+            inserted.countDown();
+            try {
+                release.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long fastId = insert(userId, companyId, AttendanceEventType.CHECK_OUT, DAY.atTime(17, 0));
+        assertThat(fastId).isGreaterThan(slowId.get());
+
+        attendanceFoldJob.foldPending();
+        assertThat(summary(companyId, userId).getEventCount()).isEqualTo(1);
+        assertThat(gapRepository.findAll()).anyMatch(gap -> covers(gap, slowId.get()));
+
+        release.countDown();
+        slowFlush.get(10, TimeUnit.SECONDS);
+
+        attendanceFoldJob.foldPending();
+        AttendanceDailySummary summary = summary(companyId, userId);
+        assertThat(summary.getEventCount()).isEqualTo(2);
+        assertThat(summary.getFirstCheckIn()).isEqualTo(DAY.atTime(9, 0));
+        assertThat(gapRepository.findAll()).noneMatch(gap -> covers(gap, slowId.get()));
+
+        // folded exactly once
+        attendanceFoldJob.foldPending();
+        assertThat(summary(companyId, userId).getEventCount()).isEqualTo(2);
+    }
+
+    @Test
+    void gapLeftByARolledBackInsertIsDroppedAfterTheTimeout() throws Exception {
+        UUID companyId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        AtomicLong rolledBackId = new AtomicLong();
+        transactionTemplate.executeWithoutResult(status -> {
+            rolledBackId.set(insert(userId, companyId, AttendanceEventType.CHECK_IN, DAY.atTime(8, 0)));
+            status.setRollbackOnly();
+        });
+        insert(userId, companyId, AttendanceEventType.CHECK_IN, DAY.atTime(9, 0));
+
+        attendanceFoldJob.foldPending();
+        assertThat(gapRepository.findAll()).anyMatch(gap -> covers(gap, rolledBackId.get()));
+
+        Thread.sleep(2_500);
+        attendanceFoldJob.foldPending();
+        assertThat(gapRepository.findAll()).noneMatch(gap -> covers(gap, rolledBackId.get()));
+        assertThat(summary(companyId, userId).getEventCount()).isEqualTo(1);
+    }
+
+    private long insert(UUID userId, UUID companyId, AttendanceEventType type, LocalDateTime occurredAt) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setBytes(1, UuidBinary.toBytes(userId));
+            ps.setBytes(2, UuidBinary.toBytes(companyId));
+            ps.setString(3, type.name());
+            ps.setTimestamp(4, Timestamp.valueOf(occurredAt));
+            return ps;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    private AttendanceDailySummary summary(UUID companyId, UUID userId) {
+        List<AttendanceDailySummary> days =
+                summaryRepository.findByCompanyIdAndUserIdAndWorkDateBetweenOrderByWorkDate(companyId, userId, DAY, DAY);
+        assertThat(days).hasSize(1);
+        return days.getFirst();
+    }
+
+    private static boolean covers(AttendanceFoldGap gap, long eventId) {
+        return gap.getFirstEventId() <= eventId && eventId <= gap.getLastEventId();
+    }
+}
@@ -0,0 +1,143 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceEventType;
+import org.odoo.backend.service.impl.AttendanceFoldJob;
+import org.odoo.backend.service.impl.AttendanceIngestor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Shift-start burst: many threads check in at once. Run with ./gradlew benchmark
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class AttendanceIngestionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AttendanceIngestionBenchmarkTest.class);
+
+    private static final int THREADS = Integer.getInteger("bench.attendance.threads", 64);
+    private static final int EVENTS_PER_THREAD = Integer.getInteger("bench.attendance.events-per-thread", 2_000);
+
+    @Autowired
+    private AttendanceIngestor attendanceIngestor;
+
+    @Autowired
+    private AttendanceFoldJob attendanceFoldJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void ingestsAShiftStartBurst() throws Exception {
+        long before = countEvents();
+        UUID companyId = UUID.randomUUID();
+        long total = (long) THREADS * EVENTS_PER_THREAD;
+        long[][] latencies = new long[THREADS][EVENTS_PER_THREAD];
+        AtomicLong rejections = new AtomicLong();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+                    // every "employee" checks in once, then out once
+                    UUID userId = new UUID(thread, i / 2);
+                    AttendanceEventType type = i % 2 == 0 ? AttendanceEventType.CHECK_IN : AttendanceEventType.CHECK_OUT;
+                    long begin = System.nanoTime();
+                    while (true) {
+                        try {
+                            attendanceIngestor.submit(userId, companyId, type);
+                            break;
+                        } catch (ServiceBusyException e) {
+                            rejections.incrementAndGet();
+                            Thread.sleep(1);
+                        }
+                    }
+                    latencies[thread][i] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long acceptedAt = System.nanoTime();
+        pool.shutdown();
+
+        while (countEvents() - before < total) {
+            assertThat(System.nanoTime() - acceptedAt).isLessThan(TimeUnit.MINUTES.toNanos(5));
+            Thread.sleep(20);
+        }
+        long persistedAt = System.nanoTime();
+
+        long foldStartedAt = System.nanoTime();
+        attendanceFoldJob.foldPending();
+        long foldedAt = System.nanoTime();
+
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        log.info(String.format(Locale.ROOT, """
+                        attendance ingestion: %d events from %d threads
+                          accept throughput : %,.0f events/s
+                          persist throughput: %,.0f events/s (until the last batch committed)
+                          submit latency    : p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us
+                          rejected offers   : %d
+                          fold              : %,.0f events/s
+                        """,
+                total, THREADS,
+                total / seconds(acceptedAt - startedAt),
+                total / seconds(persistedAt - startedAt),
+                micros(percentile(all, 0.50)), micros(percentile(all, 0.99)), micros(percentile(all, 0.999)),
+                micros(all[all.length - 1]),
+                rejections.get(),
+                total / seconds(foldedAt - foldStartedAt)));
+
+        assertThat(countEvents() - before).isEqualTo(total);
+        // every accepted event folded exactly once, into a summary for each of its users
+        byte[] company = UuidBinary.toBytes(companyId);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(event_count), 0) FROM attendance_daily_summary WHERE company_id = ?", Long.class, company))
+                .isEqualTo(total);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM attendance_daily_summary WHERE company_id = ?", Long.class, company))
+                .isEqualTo((long) THREADS * ((EVENTS_PER_THREAD + 1) / 2));
+    }
+
+    private long countEvents() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM attendance_events", Long.class);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+}
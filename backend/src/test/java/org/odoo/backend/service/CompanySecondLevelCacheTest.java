@@ -0,0 +1,134 @@
+package org.odoo.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.odoo.backend.dto.CompanySignupRequest;
+import org.odoo.backend.dto.CompanySignupResponse;
+import org.odoo.backend.dto.LoginRequest;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.User;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "org.odoo.backend.service.CompanySecondLevelCacheTest$CompanyQueryCounter")
+@ActiveProfiles("test")
+class CompanySecondLevelCacheTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    // Counts statements that read the companies table on its own, i.e. loads that missed the cache
+    public static class CompanyQueryCounter implements StatementInspector {
+
+        static final AtomicInteger COMPANY_SELECTS = new AtomicInteger();
+        private static final Pattern COMPANY_SELECT = Pattern.compile("(?is)^\\s*select\\b.*\\bfrom\\s+companies\\b");
+
+        @Override
+        public String inspect(String sql) {
+            if (COMPANY_SELECT.matcher(sql).find()) {
+                COMPANY_SELECTS.incrementAndGet();
+            }
+            return sql;
+        }
+    }
+
+    @Autowired
+    private CompanySignupServiceImpl companySignupService;
+
+    @Autowired
+    private AuthServiceImpl authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void companyLoadsStopHittingTheDatabaseOnceTheCacheIsWarm() {
+        UUID companyId = signup("Cache Warmup Corp", "carla@l2cache.test").companyId();
+
+        entityManagerFactory.getCache().evict(Company.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        CompanyQueryCounter.COMPANY_SELECTS.set(0);
+        companyRepository.findById(companyId).orElseThrow();
+        assertThat(CompanyQueryCounter.COMPANY_SELECTS.get()).as("cold cache").isEqualTo(1);
+
+        long hitsBefore = statistics.getDomainDataRegionStatistics("company").getHitCount();
+        CompanyQueryCounter.COMPANY_SELECTS.set(0);
+        companyRepository.findById(companyId).orElseThrow();
+        companyRepository.findById(companyId).orElseThrow();
+        assertThat(CompanyQueryCounter.COMPANY_SELECTS.get()).as("warm cache").isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("company").getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void initializingTheLazyCompanyOfLoadedUsersIsServedFromTheCache() {
+        Signup signup = signup("Shared Reference Data", "rita@l2cache.test");
+        companyRepository.findById(signup.companyId()).orElseThrow();
+
+        CompanyQueryCounter.COMPANY_SELECTS.set(0);
+        for (int i = 0; i < 20; i++) {
+            transactionTemplate.executeWithoutResult(status -> {
+                User user = userRepository.findByEmail("rita@l2cache.test").orElseThrow();
+                Hibernate.initialize(user.getCompany());
+                assertThat(user.getCompany().getCompanyName()).isEqualTo("Shared Reference Data");
+            });
+        }
+        assertThat(CompanyQueryCounter.COMPANY_SELECTS.get()).isZero();
+    }
+
+    @Test
+    void loginNeverReadsTheCompany() {
+        Signup signup = signup("Login Without Company", "lena@l2cache.test");
+        entityManagerFactory.getCache().evict(Company.class);
+
+        LoginRequest login = new LoginRequest();
+        login.setCompanyId(signup.companyId());
+        login.setEmployeeId(signup.employeeId());
+        login.setPassword("Secret#123");
+
+        CompanyQueryCounter.COMPANY_SELECTS.set(0);
+        authService.login(login);
+        // the token only needs the company id, which the lazy proxy carries
+        assertThat(CompanyQueryCounter.COMPANY_SELECTS.get()).isZero();
+    }
+
+    private record Signup(UUID companyId, String employeeId) {
+    }
+
+    private Signup signup(String companyName, String email) {
+        CompanySignupResponse response = (CompanySignupResponse) companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                .companyName(companyName)
+                .adminName("Admin " + companyName)
+                .adminEmail(email)
+                .adminPassword("Secret#123")
+                .build()).getData();
+        return new Signup(UUID.fromString(response.getCompanyId()), response.getAdminEmployeeId());
+    }
+}
@@ -0,0 +1,173 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.CompanySignupRequest;
+import org.odoo.backend.dto.CompanySignupResponse;
+import org.odoo.backend.model.CompanyCodeCounter;
+import org.odoo.backend.repositories.CompanyCodeCounterRepository;
+import org.odoo.backend.service.impl.CompanyCodeAllocator;
+import org.odoo.backend.service.impl.EmployeeIdAllocator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CompanySignupConcurrencyTest {
+
+    private static final int PARALLEL_SIGNUPS = 200;
+    private static final int ALLOCATIONS = 300;
+
+    @Autowired
+    private CompanySignupServiceImpl companySignupService;
+
+    @Autowired
+    private CompanyCodeAllocator companyCodeAllocator;
+
+    @Autowired
+    private EmployeeIdAllocator employeeIdAllocator;
+
+    @Autowired
+    private CompanyCodeCounterRepository counterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void parallelSignupsGetDistinctCompanyCodesAndAdminIds() throws Exception {
+        // every name reduces to the QWE prefix, so all signups compete for the same counter row
+        List<CompanySignupResponse> responses = runInParallel(PARALLEL_SIGNUPS, i -> {
+            String suffix = letters(i);
+            ApiResponse response = companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                    .companyName("Qwe" + suffix)
+                    .adminName("Ada " + suffix)
+                    .adminEmail("admin-" + suffix + "@signup.test")
+                    .adminPassword("Secret#123")
+                    .build());
+            return (CompanySignupResponse) response.getData();
+        });
+
+        assertThat(responses.stream().map(CompanySignupResponse::getCompanyCode).distinct())
+                .hasSize(PARALLEL_SIGNUPS)
+                .allMatch(code -> code.startsWith("QWE") && code.length() <= 10);
+        assertThat(responses.stream().map(CompanySignupResponse::getAdminEmployeeId).distinct())
+                .hasSize(PARALLEL_SIGNUPS);
+    }
+
+    @Test
+    void parallelAllocationsForTheSamePrefixNeverCollide() throws Exception {
+        List<String> codes = runInParallel(ALLOCATIONS, i -> companyCodeAllocator.allocate("Zyx" + letters(i)));
+
+        assertThat(Set.copyOf(codes)).hasSize(ALLOCATIONS);
+        assertThat(codes).allMatch(code -> code.startsWith("ZYX") && code.length() <= 10);
+        assertThat(codes).contains("ZYX", "ZYX1", "ZYX" + (ALLOCATIONS - 1));
+    }
+
+    @Test
+    void employeeIdBlocksHandOutEveryNumberOnce() throws Exception {
+        ApiResponse signup = companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                .companyName("Block Allocation Labs")
+                .adminName("Bea Block")
+                .adminEmail("bea@blocks.test")
+                .adminPassword("Secret#123")
+                .build());
+        UUID companyId = UUID.fromString(((CompanySignupResponse) signup.getData()).getCompanyId());
+        int year = java.time.Year.now().getValue();
+
+        List<Long> sequences = runInParallel(ALLOCATIONS, i -> employeeIdAllocator.nextSequence(companyId, year));
+
+        // the admin took 1, the blocks continue after it
+        assertThat(Set.copyOf(sequences)).hasSize(ALLOCATIONS);
+        assertThat(sequences).allMatch(value -> value > 1);
+    }
+
+    @Test
+    void exhaustedPrefixContinuesUnderAShorterOne() {
+        // six one-letter words: a six letter prefix, which leaves room for four digits
+        String prefix = randomLetters(6);
+        String name = String.join(" ", prefix.split(""));
+        transactionTemplate.executeWithoutResult(status -> counterRepository.save(CompanyCodeCounter.builder()
+                .prefix(prefix)
+                .nextSuffix(9999)
+                .build()));
+
+        assertThat(companyCodeAllocator.allocate(name)).isEqualTo(prefix + "9999");
+        String shorter = prefix.substring(0, 5);
+        String next = companyCodeAllocator.allocate(name);
+        assertThat(next).startsWith(shorter).hasSizeLessThanOrEqualTo(10);
+        assertThat(next.substring(5)).matches("\\d*");
+        assertThat(companyCodeAllocator.allocate(name)).startsWith(shorter).isNotEqualTo(next);
+        // the exhausted counter is left where it stopped
+        assertThat(counterRepository.findById(prefix).orElseThrow().getNextSuffix()).isEqualTo(10000);
+    }
+
+    @Test
+    void allocationInsideACallerTransactionIsRefused() {
+        // the caller would hold one pooled connection while the allocator waits for another
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> companyCodeAllocator.allocate("Nested Signup Co")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void prefixKeepsOldAcronymRules() {
+        assertThat(CompanyCodeAllocator.derivePrefix("Odoo India")).isEqualTo("OI");
+        assertThat(CompanyCodeAllocator.derivePrefix("Infosys")).isEqualTo("INF");
+        assertThat(CompanyCodeAllocator.derivePrefix("A Big Company With Many Words Inside")).isEqualTo("ABCWMW");
+        assertThat(EmployeeIdAllocator.format("OI", "John Doe", 2024, 1)).isEqualTo("OI-JD-2024-0001");
+    }
+
+    private static <T> List<T> runInParallel(int tasks, IntFunction<T> task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            futures.add(pool.submit(() -> {
+                start.await();
+                return task.apply(index);
+            }));
+        }
+        start.countDown();
+
+        List<T> results = new ArrayList<>();
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(120, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    private static String randomLetters(int length) {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            letters.append((char) ('A' + ThreadLocalRandom.current().nextInt(26)));
+        }
+        return letters.toString();
+    }
+
+    // lowercase-only names, since digits are stripped before the acronym is built
+    private static String letters(int i) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + i % 26));
+            i /= 26;
+        } while (i > 0);
+        return letters.toString();
+    }
+}
@@ -0,0 +1,82 @@
+package org.odoo.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.CompanySignupRequest;
+import org.odoo.backend.dto.OtpRequest;
+import org.odoo.backend.model.EmailOutbox;
+import org.odoo.backend.model.OutboxStatus;
+import org.odoo.backend.repositories.EmailOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class EmailOutboxDeliveryTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final Pattern OTP_PATTERN = Pattern.compile("(\\d{6})");
+
+    @Autowired
+    private CompanySignupServiceImpl companySignupService;
+
+    @Autowired
+    private AuthServiceImpl authService;
+
+    @Autowired
+    private EmailOutboxRepository outboxRepository;
+
+    @Test
+    void signupOtpIsDeliveredByTheDispatcherAndCanBeVerified() throws Exception {
+        String email = "olive@outbox.test";
+
+        companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                .companyName("Outbox Delivery Works")
+                .adminName("Olive Tester")
+                .adminEmail(email)
+                .adminPassword("Secret#123")
+                .build());
+
+        assertThat(greenMail.waitForIncomingEmail(10_000, 1)).isTrue();
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(email);
+
+        Matcher matcher = OTP_PATTERN.matcher(GreenMailUtil.getBody(message));
+        assertThat(matcher.find()).isTrue();
+
+        ApiResponse response = authService.verifyOtp(new OtpRequest(email, matcher.group(1)));
+        assertThat(response.isSuccess()).isTrue();
+
+        EmailOutbox sent = awaitStatus(email, OutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+    }
+
+    private EmailOutbox awaitStatus(String recipient, OutboxStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            EmailOutbox match = outboxRepository.findAll().stream()
+                    .filter(e -> e.getRecipient().equals(recipient) && e.getStatus() == status)
+                    .findFirst()
+                    .orElse(null);
+            if (match != null) {
+                return match;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("No " + status + " outbox email for " + recipient);
+    }
+}
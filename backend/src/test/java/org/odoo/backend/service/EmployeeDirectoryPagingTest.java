@@ -0,0 +1,125 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.EmployeePage;
+import org.odoo.backend.dto.EmployeeSummary;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeDirectoryPagingTest {
+
+    private static final int EMPLOYEES = 23;
+
+    @Autowired
+    private EmployeeDirectoryService employeeDirectoryService;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    private UUID companyA;
+    private UUID companyB;
+    private List<String> idsA;
+    private List<String> idsB;
+
+    @BeforeAll
+    void seed() {
+        // CODE-1, CODE-10, CODE-100 ... are prefixes of each other and differ in nothing else
+        String codeA = TenantFixture.randomCode();
+        companyA = tenantFixture.company(codeA);
+        idsA = ids(tenantFixture.insert(TenantFixture.employees(
+                companyA, codeA, 0, EMPLOYEES, i -> "Engineering", TenantFixture.JOINED)));
+
+        String codeB = TenantFixture.randomCode();
+        companyB = tenantFixture.company(codeB);
+        idsB = ids(tenantFixture.insert(TenantFixture.employees(
+                companyB, codeB, 0, 10, i -> i % 2 == 0 ? "Sales" : "Engineering", TenantFixture.JOINED)));
+    }
+
+    @Test
+    void walkingEveryPageReturnsEachEmployeeOnceInLoginIdOrder() {
+        List<List<String>> pages = walk(companyA, EmployeeFilter.none(), 5);
+
+        assertThat(pages).hasSize(5);
+        assertThat(pages.subList(0, 4)).allMatch(page -> page.size() == 5);
+        assertThat(pages.getLast()).hasSize(3);
+        assertThat(pages.stream().flatMap(List::stream).toList())
+                .containsExactlyElementsOf(idsA.stream().sorted().toList());
+    }
+
+    @Test
+    void rowsThatTieOnEveryDisplayedFieldStillPageWithoutGapsOrRepeats() {
+        // every employee of A has the same name, department, designation and joining date
+        List<String> seen = walk(companyA, new EmployeeFilter("Engineering", "Engineer", null), 1).stream()
+                .flatMap(List::stream)
+                .toList();
+
+        assertThat(seen).doesNotHaveDuplicates().hasSize(EMPLOYEES).isSorted();
+    }
+
+    @Test
+    void lastPageHasNoCursorAndNoEmptyPageFollows() {
+        EmployeePage first = employeeDirectoryService.list(companyB, EmployeeFilter.none(), null, 5);
+        assertThat(first.isHasMore()).isTrue();
+
+        EmployeePage last = employeeDirectoryService.list(companyB, EmployeeFilter.none(), first.getNextCursor(), 5);
+        assertThat(last.getItems()).hasSize(5);
+        assertThat(last.isHasMore()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    void tamperedCursorsOnlySeekWithinTheTenant() {
+        assertThat(employeeDirectoryService.list(companyA, EmployeeFilter.none(), "~~~~", 50).getItems()).isEmpty();
+
+        EmployeePage injected = employeeDirectoryService.list(companyA, EmployeeFilter.none(), "' OR '1'='1", 50);
+        assertThat(injected.getItems()).extracting(EmployeeSummary::employeeId).isSubsetOf(idsA);
+
+        // a cursor taken from another tenant's page never brings that tenant's rows along
+        String foreignCursor = idsB.get(3);
+        EmployeePage page = employeeDirectoryService.list(companyA, EmployeeFilter.none(), foreignCursor, 50);
+        assertThat(page.getItems()).extracting(EmployeeSummary::employeeId)
+                .isSubsetOf(idsA)
+                .allMatch(id -> id.compareTo(foreignCursor) > 0);
+    }
+
+    @Test
+    void pagesAndFiltersAreScopedToTheTenant() {
+        List<String> b = walk(companyB, EmployeeFilter.none(), 3).stream().flatMap(List::stream).toList();
+        assertThat(b).containsExactlyElementsOf(idsB.stream().sorted().toList());
+
+        List<String> bEngineering = walk(companyB, new EmployeeFilter("Engineering", null, null), 2).stream()
+                .flatMap(List::stream)
+                .toList();
+        assertThat(bEngineering).hasSize(5).isSubsetOf(idsB);
+    }
+
+    private List<List<String>> walk(UUID companyId, EmployeeFilter filter, int pageSize) {
+        List<List<String>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeePage page = employeeDirectoryService.list(companyId, filter, cursor, pageSize);
+            pages.add(page.getItems().stream().map(EmployeeSummary::employeeId).toList());
+            assertThat(page.isHasMore()).isEqualTo(page.getNextCursor() != null);
+            cursor = page.getNextCursor();
+        } while (cursor != null && pages.size() <= EMPLOYEES);
+        return pages;
+    }
+
+    private static List<String> ids(List<NewEmployee> employees) {
+        return employees.stream().map(NewEmployee::employeeId).toList();
+    }
+}
@@ -0,0 +1,136 @@
+package org.odoo.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.odoo.backend.common.io.CsvRowReader;
+import org.odoo.backend.common.io.SpreadsheetRowReader;
+import org.odoo.backend.common.io.XlsxRowReader;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.dto.ExportFormat;
+import org.odoo.backend.repositories.EmployeeJdbcRepository;
+import org.odoo.backend.service.impl.EmployeeExportServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class EmployeeExportServiceTest {
+
+    private static final int PAGE_SIZE = 7;
+    private static final int EMPLOYEES = 25;
+    private static final String AWKWARD_FIRST_NAME = "=SUM(A1)";
+    private static final String AWKWARD_LAST_NAME = "O\"Neil, <Jr> & Sons\nLtd";
+
+    @Autowired
+    private EmployeeJdbcRepository employeeJdbcRepository;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @TempDir
+    Path tempDir;
+
+    private UUID companyId;
+    private String code;
+    private EmployeeJdbcRepository pages;
+    private EmployeeExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        code = TenantFixture.randomCode();
+        companyId = tenantFixture.company(code);
+        tenantFixture.insert(TenantFixture.employees(companyId, code, 0, EMPLOYEES - 1, i -> "Engineering", TenantFixture.JOINED));
+        tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-Z", AWKWARD_FIRST_NAME, AWKWARD_LAST_NAME,
+                "Engineering", TenantFixture.JOINED)));
+
+        // records every page query while the real repository runs it
+        pages = mock(EmployeeJdbcRepository.class, delegatesTo(employeeJdbcRepository));
+        exportService = new EmployeeExportServiceImpl(pages, new SimpleMeterRegistry(), PAGE_SIZE);
+    }
+
+    @Test
+    void csvExportPagesByLoginIdAndEscapesEveryField() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(companyId, EmployeeFilter.none(), ExportFormat.CSV, out);
+
+        List<List<String>> rows = readAll(new CsvRowReader(new InputStreamReader(
+                new ByteArrayInputStream(out.toByteArray()), StandardCharsets.UTF_8)));
+        assertExported(rows);
+        List<String> awkward = rows.getLast();
+        // a leading = is defused so Excel does not run it as a formula
+        assertThat(awkward.get(4)).isEqualTo("'" + AWKWARD_FIRST_NAME);
+        assertThat(awkward.get(5)).isEqualTo(AWKWARD_LAST_NAME);
+        assertPagedByKeyset(rows);
+    }
+
+    @Test
+    void xlsxExportIsAReadableWorkbook() throws IOException {
+        Path file = tempDir.resolve("employees.xlsx");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            exportService.export(companyId, EmployeeFilter.none(), ExportFormat.XLSX, out);
+        }
+
+        List<List<String>> rows = readAll(new XlsxRowReader(file));
+        assertExported(rows);
+        List<String> awkward = rows.getLast();
+        // inline strings are never evaluated, so the value is written as it is
+        assertThat(awkward.get(4)).isEqualTo(AWKWARD_FIRST_NAME);
+        assertThat(awkward.get(5)).isEqualTo(AWKWARD_LAST_NAME);
+        assertPagedByKeyset(rows);
+    }
+
+    private void assertExported(List<List<String>> rows) {
+        assertThat(rows.getFirst()).startsWith("employeeId", "email", "role", "active", "firstName", "lastName");
+        List<String> loginIds = rows.subList(1, rows.size()).stream().map(List::getFirst).toList();
+        assertThat(loginIds).hasSize(EMPLOYEES).isSorted().doesNotHaveDuplicates()
+                .allMatch(id -> id.startsWith(code + "-"));
+        assertThat(loginIds.getLast()).isEqualTo(code + "-Z");
+    }
+
+    // 25 rows at 7 per page: four queries, each seeking past the last login ID of the one before
+    private void assertPagedByKeyset(List<List<String>> rows) {
+        verify(pages).findExportPage(eq(companyId), any(), eq(null), eq(PAGE_SIZE));
+        for (int page = 1; page * PAGE_SIZE < EMPLOYEES; page++) {
+            String lastOfPreviousPage = rows.get(page * PAGE_SIZE).getFirst();
+            verify(pages).findExportPage(eq(companyId), any(), eq(lastOfPreviousPage), eq(PAGE_SIZE));
+        }
+        verify(pages, times(4)).findExportPage(any(), any(), any(), anyInt());
+        verifyNoMoreInteractions(pages);
+    }
+
+    private static List<List<String>> readAll(SpreadsheetRowReader reader) throws IOException {
+        try (reader) {
+            List<List<String>> rows = new ArrayList<>();
+            List<String> row;
+            while ((row = reader.nextRow()) != null) {
+                rows.add(row);
+            }
+            return rows;
+        }
+    }
+}
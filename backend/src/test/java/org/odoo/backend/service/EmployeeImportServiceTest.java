@@ -0,0 +1,217 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.CompanySignupRequest;
+import org.odoo.backend.dto.CompanySignupResponse;
+import org.odoo.backend.dto.ImportJobResponse;
+import org.odoo.backend.dto.ImportRowError;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.security.password.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Small chunks so one file crosses several chunk boundaries; one bulk hasher with a tiny queue
+@SpringBootTest(properties = {
+        "employee-import.chunk-size=3",
+        "security.password.hashing.bulk-threads=1",
+        "security.password.hashing.bulk-queue-capacity=2"
+})
+@ActiveProfiles("test")
+class EmployeeImportServiceTest {
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private CompanySignupServiceImpl companySignupService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Test
+    void csvImportWritesValidRowsAndReportsEachRejectedRow() throws Exception {
+        Tenant tenant = signup("Csv Import Works");
+        String csv = String.join("\n",
+                "First Name,Last Name,Email,Department,Role,Date Of Joining,Password",
+                "Ada,Lovelace,ada@csv-import.test,Engineering,EMPLOYEE,2024-03-01,Secret#123",
+                "Grace,Hopper,grace@csv-import.test,\"Research, Navy\",HR,,Secret#123",
+                "Alan,Turing,not-an-email,Engineering,,,Secret#123",
+                "Ada,Again,ada@csv-import.test,Engineering,,,Secret#123",
+                ",Nameless,nameless@csv-import.test,,,,Secret#123",
+                "Boss,Person,boss@csv-import.test,,ADMIN,,Secret#123",
+                "Owner,Twice," + tenant.adminEmail() + ",,,,Secret#123",
+                "Katherine,Johnson,katherine@csv-import.test,Research,,45000,Secret#123",
+                "",
+                "Edsger,Dijkstra,edsger@csv-import.test,Engineering,,,Secret#123",
+                "Margaret,Hamilton,margaret@csv-import.test,Engineering,,,",
+                "Barbara,Liskov,barbara@csv-import.test,Engineering,,20240115,Secret#123");
+
+        ImportJobResponse job = importAndWait(tenant.companyId(), "people.csv", csv.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getImportedRows()).isEqualTo(3);
+        assertThat(job.getFailedRows()).isEqualTo(8);
+        assertThat(job.getErrors()).extracting(ImportRowError::getRow)
+                .containsExactlyInAnyOrder(4L, 5L, 6L, 7L, 8L, 9L, 12L, 13L);
+        assertThat(job.getErrors()).extracting(ImportRowError::getMessage).contains(
+                "A valid email is required",
+                "Duplicate email in file",
+                "First name is required",
+                "Role must be EMPLOYEE or HR",
+                "Email already registered",
+                "Password is required",
+                // CSV cells have no type, so a bare number is not taken for a date serial
+                "Date of joining must be yyyy-MM-dd");
+
+        User ada = userRepository.findByEmail("ada@csv-import.test").orElseThrow();
+        assertThat(ada.isFirstLogin()).isFalse();
+        assertThat(passwordHashingService.matches("Secret#123", ada.getPasswordHash())).isTrue();
+
+        User grace = userRepository.findByEmail("grace@csv-import.test").orElseThrow();
+        assertThat(grace.getRole()).isEqualTo(UserRole.ROLE_HR);
+        assertThat(userRepository.findByEmail("margaret@csv-import.test")).isEmpty();
+
+        assertThat(List.of(ada.getEmployeeId(), grace.getEmployeeId(),
+                userRepository.findByEmail("edsger@csv-import.test").orElseThrow().getEmployeeId()))
+                .doesNotHaveDuplicates()
+                .allMatch(id -> id.startsWith(tenant.companyCode() + "-"));
+    }
+
+    @Test
+    void xlsxImportReadsTheFirstSheetListedInTheWorkbook() throws Exception {
+        Tenant tenant = signup("Xlsx Import Works");
+
+        ImportJobResponse job = importAndWait(tenant.companyId(), "people.xlsx", workbook());
+
+        assertThat(job.getStatus()).isEqualTo("COMPLETED");
+        assertThat(job.getImportedRows()).isEqualTo(2);
+        User linus = userRepository.findByEmail("linus@xlsx-import.test").orElseThrow();
+        assertThat(jdbcTemplate.queryForObject("SELECT date_of_joining FROM job_details WHERE user_id = ?",
+                LocalDate.class, UuidBinary.toBytes(linus.getUserId())))
+                .isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(userRepository.findByEmail("margaret@xlsx-import.test")).isPresent();
+        // a yyyyMMdd typed into a number cell is far past any plausible serial
+        assertThat(job.getErrors()).extracting(ImportRowError::getRow).containsExactly(4L);
+        // sheet1.xml is the second tab here and must not be read
+        assertThat(userRepository.findByEmail("wrong@xlsx-import.test")).isEmpty();
+    }
+
+    @Test
+    void bulkHashingKeepsOrderWhenItsQueueOverflows() {
+        List<String> passwords = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            passwords.add("Bulk#" + i);
+        }
+
+        // one worker and two queue slots: the rest run on the calling thread instead of failing
+        List<String> hashes = passwordHashingService.encodeAll(passwords);
+
+        assertThat(hashes).hasSize(passwords.size());
+        for (int i = 0; i < passwords.size(); i++) {
+            assertThat(passwordHashingService.matches(passwords.get(i), hashes.get(i))).isTrue();
+        }
+    }
+
+    private record Tenant(UUID companyId, String companyCode, String adminEmail) {
+    }
+
+    private Tenant signup(String companyName) {
+        String adminEmail = "admin-" + UUID.randomUUID() + "@import.test";
+        ApiResponse response = companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                .companyName(companyName + " " + UUID.randomUUID().toString().replaceAll("[^a-z]", ""))
+                .adminName("Imp Admin")
+                .adminEmail(adminEmail)
+                .adminPassword("Secret#123")
+                .build());
+        CompanySignupResponse data = (CompanySignupResponse) response.getData();
+        return new Tenant(UUID.fromString(data.getCompanyId()), data.getCompanyCode(), adminEmail);
+    }
+
+    private ImportJobResponse importAndWait(UUID companyId, String fileName, byte[] content) throws InterruptedException {
+        ImportJobResponse started = employeeImportService.startImport(companyId,
+                new MockMultipartFile("file", fileName, "application/octet-stream", content));
+        UUID jobId = UUID.fromString(started.getJobId());
+
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJobResponse job = employeeImportService.getJob(companyId, jobId);
+            if ("COMPLETED".equals(job.getStatus()) || "FAILED".equals(job.getStatus())) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import " + jobId + " did not finish");
+    }
+
+    // The first tab is data.xml, listed before sheet1.xml; shared and inline strings are both used, dates are serials
+    private static byte[] workbook() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            entry(zip, "xl/workbook.xml", """
+                    <workbook xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"
+                              xmlns:r="http://schemas.openxmlformats.org/officeDocument/2006/relationships">
+                      <sheets>
+                        <sheet name="People" sheetId="2" r:id="rId7"/>
+                        <sheet name="Old" sheetId="1" r:id="rId1"/>
+                      </sheets>
+                    </workbook>""");
+            entry(zip, "xl/_rels/workbook.xml.rels", """
+                    <Relationships xmlns="http://schemas.openxmlformats.org/package/2006/relationships">
+                      <Relationship Id="rId1" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="worksheets/sheet1.xml"/>
+                      <Relationship Id="rId7" Type="http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet" Target="/xl/worksheets/data.xml"/>
+                    </Relationships>""");
+            entry(zip, "xl/sharedStrings.xml", """
+                    <sst xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main">
+                      <si><t>firstName</t></si>
+                      <si><t>email</t></si>
+                      <si><r><t>Lin</t></r><r><t>us</t></r></si>
+                      <si><t>password</t></si>
+                      <si><t>dateOfJoining</t></si>
+                    </sst>""");
+            entry(zip, "xl/worksheets/data.xml", """
+                    <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>
+                      <row r="1"><c r="A1" t="s"><v>0</v></c><c r="B1" t="s"><v>1</v></c><c r="C1" t="s"><v>3</v></c><c r="D1" t="s"><v>4</v></c></row>
+                      <row r="2"><c r="A2" t="s"><v>2</v></c><c r="B2" t="inlineStr"><is><t>linus@xlsx-import.test</t></is></c><c r="C2" t="inlineStr"><is><t>Secret#123</t></is></c><c r="D2"><v>45306</v></c></row>
+                      <row r="3"><c r="A3" t="inlineStr"><is><t>Margaret</t></is></c><c r="B3" t="inlineStr"><is><t>margaret@xlsx-import.test</t></is></c><c r="C3" t="inlineStr"><is><t>Secret#123</t></is></c></row>
+                      <row r="4"><c r="A4" t="inlineStr"><is><t>Barbara</t></is></c><c r="B4" t="inlineStr"><is><t>barbara@xlsx-import.test</t></is></c><c r="C4" t="inlineStr"><is><t>Secret#123</t></is></c><c r="D4"><v>20240115</v></c></row>
+                    </sheetData></worksheet>""");
+            entry(zip, "xl/worksheets/sheet1.xml", """
+                    <worksheet xmlns="http://schemas.openxmlformats.org/spreadsheetml/2006/main"><sheetData>
+                      <row r="1"><c r="A1" t="s"><v>0</v></c><c r="B1" t="s"><v>1</v></c></row>
+                      <row r="2"><c r="A2" t="inlineStr"><is><t>Wrong</t></is></c><c r="B2" t="inlineStr"><is><t>wrong@xlsx-import.test</t></is></c></row>
+                    </sheetData></worksheet>""");
+        }
+        return out.toByteArray();
+    }
+
+    private static void entry(ZipOutputStream zip, String name, String xml) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        zip.write(xml.getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+}
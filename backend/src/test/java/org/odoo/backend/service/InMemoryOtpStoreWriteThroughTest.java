@@ -0,0 +1,128 @@
+package org.odoo.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.repositories.OTPRepository;
+import org.odoo.backend.service.impl.InMemoryOtpStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Two store instances over one otps table stand in for two nodes
+@SpringBootTest
+@ActiveProfiles("test")
+class InMemoryOtpStoreWriteThroughTest {
+
+    @Autowired
+    private OTPRepository otpRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private InMemoryOtpStore nodeA;
+    private InMemoryOtpStore nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = new InMemoryOtpStore(otpRepository, new SimpleMeterRegistry(), true, 1000, 64);
+        nodeB = new InMemoryOtpStore(otpRepository, new SimpleMeterRegistry(), true, 1000, 64);
+    }
+
+    @AfterEach
+    void stopNodes() {
+        ReflectionTestUtils.invokeMethod(nodeA, "shutdown");
+        ReflectionTestUtils.invokeMethod(nodeB, "shutdown");
+    }
+
+    @Test
+    void rolledBackPutLeavesNoUsableCode() {
+        String email = uniqueEmail();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.put(email, "123456", inFiveMinutes());
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeA.verify(email, "123456")).isFalse();
+        assertThat(otpRepository.findByEmailAndOtpCodeAndVerifiedFalse(email, "123456")).isEmpty();
+    }
+
+    @Test
+    void codeReplacedOnAnotherNodeIsRejected() {
+        String email = uniqueEmail();
+        put(nodeA, email, "111111");
+        put(nodeB, email, "222222");
+
+        // node A still caches the old code, but the table no longer has it
+        assertThat(nodeA.verify(email, "111111")).isFalse();
+        assertThat(nodeA.verify(email, "222222")).isTrue();
+        assertThat(nodeB.verify(email, "222222")).isFalse();
+    }
+
+    @Test
+    void codeIsAcceptedOnceAcrossNodes() {
+        String email = uniqueEmail();
+        put(nodeA, email, "333333");
+
+        assertThat(nodeB.verify(email, "333333")).isTrue();
+        assertThat(nodeA.verify(email, "333333")).isFalse();
+        assertThat(nodeB.verify(email, "333333")).isFalse();
+    }
+
+    @Test
+    void parallelVerificationsOnBothNodesAcceptExactlyOnce() throws Exception {
+        int rounds = 50;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                String email = uniqueEmail();
+                put(nodeA, email, "444444");
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> attempts = new ArrayList<>();
+                for (int i = 0; i < 8; i++) {
+                    InMemoryOtpStore node = i % 2 == 0 ? nodeA : nodeB;
+                    attempts.add(pool.submit(() -> {
+                        start.await();
+                        return node.verify(email, "444444");
+                    }));
+                }
+                start.countDown();
+
+                int accepted = 0;
+                for (Future<Boolean> attempt : attempts) {
+                    if (attempt.get(30, TimeUnit.SECONDS)) {
+                        accepted++;
+                    }
+                }
+                assertThat(accepted).as("accepted verifications in round %d", round).isEqualTo(1);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void put(InMemoryOtpStore node, String email, String code) {
+        transactionTemplate.executeWithoutResult(status -> node.put(email, code, inFiveMinutes()));
+    }
+
+    private static LocalDateTime inFiveMinutes() {
+        return LocalDateTime.now().plusMinutes(5);
+    }
+
+    private static String uniqueEmail() {
+        return "otp-" + UUID.randomUUID() + "@store.test";
+    }
+}
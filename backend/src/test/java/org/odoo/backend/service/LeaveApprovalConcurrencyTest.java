@@ -0,0 +1,115 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.exception.ServiceBusyException;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.dto.LeaveBalanceResponse;
+import org.odoo.backend.model.LeaveRequest;
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.odoo.backend.model.LeaveType;
+import org.odoo.backend.repositories.LeaveRequestRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LeaveApprovalConcurrencyTest {
+
+    private static final int REQUESTS = 10;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelApprovalsAgainstOneBalanceAreAllDebited() throws Exception {
+        String code = TenantFixture.randomCode();
+        UUID companyId = tenantFixture.company(code);
+        // joined ten months back: eleven months of paid accrual at 1.5 days
+        LocalDate joined = LocalDate.now().minusMonths(10).withDayOfMonth(1);
+        UUID userId = tenantFixture.insert(List.of(TenantFixture.employee(companyId, code + "-LV", "Engineering", joined)))
+                .getFirst().userId();
+
+        List<UUID> requestIds = new ArrayList<>();
+        LocalDate day = LocalDate.now().plusDays(7);
+        while (requestIds.size() < REQUESTS) {
+            if (day.getDayOfWeek() != DayOfWeek.SATURDAY && day.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                requestIds.add(leaveRequestRepository.save(LeaveRequest.builder()
+                        .userId(userId)
+                        .companyId(companyId)
+                        .leaveType(LeaveType.PAID)
+                        .startDate(day)
+                        .endDate(day)
+                        .days(BigDecimal.ONE)
+                        .status(LeaveRequestStatus.PENDING)
+                        .createdAt(LocalDateTime.now())
+                        .build()).getRequestId());
+            }
+            day = day.plusDays(1);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (UUID requestId : requestIds) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                return leaveService.approve(companyId, UUID.randomUUID(), requestId);
+            }));
+        }
+        start.countDown();
+
+        // a writer that keeps losing runs out of attempts with a ServiceBusyException, which must leave
+        // its request pending and untouched so the client can simply send the approval again
+        List<UUID> busy = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(1, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ServiceBusyException.class);
+                busy.add(requestIds.get(i));
+            }
+        }
+        pool.shutdown();
+        assertThat(busy).hasSizeLessThan(REQUESTS);
+        for (UUID requestId : busy) {
+            assertThat(leaveRequestRepository.findById(requestId).orElseThrow().getStatus())
+                    .isEqualTo(LeaveRequestStatus.PENDING);
+            leaveService.approve(companyId, UUID.randomUUID(), requestId);
+        }
+
+        BigDecimal paid = leaveService.getBalances(companyId, userId).stream()
+                .filter(balance -> balance.leaveType() == LeaveType.PAID)
+                .map(LeaveBalanceResponse::available)
+                .findFirst()
+                .orElseThrow();
+        assertThat(paid).isEqualByComparingTo(new BigDecimal("16.5").subtract(BigDecimal.valueOf(REQUESTS)));
+
+        Long debits = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM leave_ledger WHERE user_id = ? AND entry_type = 'DEBIT'",
+                Long.class, UuidBinary.toBytes(userId));
+        assertThat(debits).isEqualTo(REQUESTS);
+    }
+
+}
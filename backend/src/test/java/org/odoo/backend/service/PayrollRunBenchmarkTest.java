@@ -0,0 +1,166 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.AttendanceMonth;
+import org.odoo.backend.model.PayrollRun;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.odoo.backend.repositories.PayrollRunRepository;
+import org.odoo.backend.service.impl.PayrollRunEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Month-end run over a large company, then a resume after half the chunks are lost. Run with ./gradlew benchmark
+@Tag("benchmark")
+@SpringBootTest(properties = "payroll.heartbeat-interval=3600000")
+@ActiveProfiles("test")
+class PayrollRunBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PayrollRunBenchmarkTest.class);
+
+    private static final int EMPLOYEES = Integer.getInteger("bench.payroll.employees", 50_000);
+    private static final int SEED_BATCH = 1_000;
+
+    @Autowired
+    private PayrollRunEngine payrollRunEngine;
+
+    @Autowired
+    private PayrollRunRepository payrollRunRepository;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void runsAndResumesAMonthEndPayroll() {
+        UUID companyId = seedCompany();
+        YearMonth month = YearMonth.now().minusMonths(1);
+
+        long planStartedAt = System.nanoTime();
+        PayrollRun run = transactionTemplate.execute(status -> payrollRunEngine.plan(companyId, month));
+        long plannedAt = System.nanoTime();
+        assertThat(payrollRunEngine.claimAndExecute(run.getRunId())).isTrue();
+        long executedAt = System.nanoTime();
+
+        assertEveryEmployeePaidOnce(companyId, run.getRunId());
+        assertThat(payrollRunRepository.findById(run.getRunId()).orElseThrow().getStatus().name()).isEqualTo("COMPLETED");
+
+        // simulate a crash: every other chunk rolled back, the run left FAILED
+        byte[] runId = UuidBinary.toBytes(run.getRunId());
+        jdbcTemplate.update("""
+                DELETE FROM payslips p WHERE p.run_id = ? AND EXISTS (
+                    SELECT 1 FROM payroll_run_chunks c
+                    WHERE c.run_id = p.run_id AND MOD(c.chunk_no, 2) = 0
+                      AND p.user_id > c.after_user_id AND p.user_id <= c.last_user_id)
+                """, runId);
+        jdbcTemplate.update("UPDATE payroll_run_chunks SET done = FALSE WHERE run_id = ? AND MOD(chunk_no, 2) = 0", runId);
+        jdbcTemplate.update("UPDATE payroll_runs SET status = 'FAILED' WHERE run_id = ?", runId);
+
+        assertThat(countPayslips(run.getRunId())).isLessThan(EMPLOYEES);
+
+        long resumeStartedAt = System.nanoTime();
+        assertThat(payrollRunEngine.claimAndExecute(run.getRunId())).isTrue();
+        long resumedAt = System.nanoTime();
+
+        // the resume filled in the lost chunks without paying the kept ones twice
+        assertEveryEmployeePaidOnce(companyId, run.getRunId());
+        assertThat(payrollRunRepository.findById(run.getRunId()).orElseThrow().getStatus().name()).isEqualTo("COMPLETED");
+
+        log.info(String.format(Locale.ROOT, """
+                        payroll run: %d employees in %d chunks, %d cores
+                          plan      : %,.0f ms
+                          execute   : %,.0f ms (%,.0f payslips/s)
+                          resume    : %,.0f ms for %d reopened chunks
+                        """,
+                EMPLOYEES, run.getTotalChunks(), Runtime.getRuntime().availableProcessors(),
+                millis(plannedAt - planStartedAt),
+                millis(executedAt - plannedAt), EMPLOYEES / (millis(executedAt - plannedAt) / 1000.0),
+                millis(resumedAt - resumeStartedAt), (run.getTotalChunks() + 1) / 2));
+    }
+
+    private UUID seedCompany() {
+        String code = TenantFixture.randomCode();
+        UUID companyId = tenantFixture.company(code);
+
+        int period = AttendanceMonth.period(YearMonth.now().minusMonths(1));
+        for (int from = 0; from < EMPLOYEES; from += SEED_BATCH) {
+            tenantFixture.insert(
+                    TenantFixture.employees(companyId, code, from, Math.min(EMPLOYEES, from + SEED_BATCH),
+                            i -> "Dept" + i % 20, TenantFixture.JOINED),
+                    employees -> {
+                        seedSalaries(companyId, employees);
+                        seedAttendance(companyId, period, employees);
+                    });
+        }
+        return companyId;
+    }
+
+    private void seedSalaries(UUID companyId, List<NewEmployee> employees) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO salary_structures (user_id, company_id, monthly_wage, basic_percent, hra_percent, medical_allowance,
+                                               conveyance_allowance, pf_percent, professional_tax, income_tax_percent, updated_at)
+                VALUES (?, ?, ?, 50, 50, 1250, 1600, 12, 200, 10, ?)
+                """, employees, employees.size(), (ps, e) -> {
+            ps.setBytes(1, UuidBinary.toBytes(e.userId()));
+            ps.setBytes(2, UuidBinary.toBytes(companyId));
+            ps.setBigDecimal(3, BigDecimal.valueOf(40_000 + (e.employeeId().hashCode() & 0xffff)));
+            ps.setTimestamp(4, now);
+        });
+    }
+
+    // one absence in every third employee's month, so loss-of-pay is on the hot path
+    private void seedAttendance(UUID companyId, int period, List<NewEmployee> employees) {
+        List<NewEmployee> absent = employees.stream().filter(e -> e.employeeId().hashCode() % 3 == 0).toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO attendance_month (user_id, period, company_id, department, present_bits, absent_bits, leave_bits, late_bits)
+                VALUES (?, ?, ?, ?, 0, ?, 0, 0)
+                """, absent, absent.size(), (ps, e) -> {
+            ps.setBytes(1, UuidBinary.toBytes(e.userId()));
+            ps.setInt(2, period);
+            ps.setBytes(3, UuidBinary.toBytes(companyId));
+            ps.setString(4, e.department());
+            ps.setInt(5, AttendanceMonth.bit(3));
+        });
+    }
+
+    private void assertEveryEmployeePaidOnce(UUID companyId, UUID runId) {
+        byte[] run = UuidBinary.toBytes(runId);
+        assertThat(countPayslips(runId)).isEqualTo(EMPLOYEES);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT user_id) FROM payslips WHERE run_id = ?", Long.class, run))
+                .isEqualTo(EMPLOYEES);
+        assertThat(jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM job_details j
+                WHERE j.company_id = ? AND NOT EXISTS (SELECT 1 FROM payslips p WHERE p.run_id = ? AND p.user_id = j.user_id)
+                """, Long.class, UuidBinary.toBytes(companyId), run)).isZero();
+    }
+
+    private long countPayslips(UUID runId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payslips WHERE run_id = ?", Long.class, UuidBinary.toBytes(runId));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
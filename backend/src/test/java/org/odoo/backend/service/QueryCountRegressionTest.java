@@ -0,0 +1,377 @@
+package org.odoo.backend.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.odoo.backend.dto.ApiResponse;
+import org.odoo.backend.dto.CompanySignupRequest;
+import org.odoo.backend.dto.CompanySignupResponse;
+import org.odoo.backend.dto.ImportJobResponse;
+import org.odoo.backend.dto.LoginRequest;
+import org.odoo.backend.dto.OtpRequest;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.dto.EmployeeFilter;
+import org.odoo.backend.model.JobDetails;
+import org.odoo.backend.model.LeaveRequest;
+import org.odoo.backend.model.LeaveRequestStatus;
+import org.odoo.backend.model.LeaveType;
+import org.odoo.backend.model.User;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.odoo.backend.repositories.JobDetailsRepository;
+import org.odoo.backend.repositories.LeaveRequestRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.security.principal.AuthenticatedPrincipal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Exact SQL statement counts per service call. Statements are counted where they are prepared on a
+ * pooled connection, so Hibernate's and JdbcTemplate's both count, on whichever thread runs them.
+ * A lazy association that turns eager again, or a loop that starts loading rows one by one, changes
+ * a count here. Scheduling is off so no background job adds statements while a call is measured.
+ */
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class QueryCountRegressionTest {
+
+    private static final int EMPLOYEES = 5;
+    private static final EmployeeFilter NO_FILTER = new EmployeeFilter(null, null, null);
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+
+    @TestConfiguration
+    static class StatementCounting {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)
+                            ? new CountingDataSource(dataSource)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    // Every connection handed out counts the statements prepared on it
+    static class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("prepare") || name.equals("createStatement")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobDetailsRepository jobDetailsRepository;
+
+    @Autowired
+    private EmployeeDirectoryService employeeDirectoryService;
+
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+
+    @Autowired
+    private LeaveService leaveService;
+
+    @Autowired
+    private AttendanceCalendarService attendanceCalendarService;
+
+    @Autowired
+    private AuthServiceImpl authService;
+
+    @Autowired
+    private OtpStore otpStore;
+
+    @Autowired
+    private CompanySignupServiceImpl companySignupService;
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @Autowired
+    private LeaveRequestRepository leaveRequestRepository;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    private Statistics statistics;
+    private UUID companyId;
+    private List<UUID> userIds;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        String code = TenantFixture.randomCode();
+        companyId = tenantFixture.company(code);
+        List<NewEmployee> employees = tenantFixture.insert(TenantFixture.employees(
+                companyId, code, 0, EMPLOYEES, i -> "Engineering", LocalDate.now().minusYears(1)));
+        userIds = employees.stream().map(NewEmployee::userId).toList();
+    }
+
+    @Test
+    void principalLoadIsOneStatementWithoutTheCompany() {
+        long statements = measure(() -> {
+            AuthenticatedPrincipal principal = userRepository.findById(userIds.getFirst())
+                    .map(AuthenticatedPrincipal::from)
+                    .orElseThrow();
+            assertThat(principal.companyId()).isEqualTo(companyId);
+        });
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void loadingManyUsersAndTheirCompanyIdsIsOneStatement() {
+        long statements = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<User> users = userRepository.findAllById(userIds);
+            assertThat(users).hasSize(EMPLOYEES);
+            users.forEach(user -> assertThat(user.getCompany().getCompanyId()).isEqualTo(companyId));
+        }));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void jobDetailsLoadDoesNotPullInTheUserOrCompany() {
+        UUID jobDetailId = jdbcTemplate.queryForObject(
+                "SELECT job_detail_id FROM job_details WHERE user_id = ?",
+                (rs, row) -> rs.getObject(1, UUID.class),
+                UuidBinary.toBytes(userIds.getFirst()));
+
+        long statements = measure(() -> transactionTemplate.executeWithoutResult(status -> {
+            JobDetails job = jobDetailsRepository.findById(jobDetailId).orElseThrow();
+            assertThat(job.getUser().getUserId()).isEqualTo(userIds.getFirst());
+            assertThat(job.getCompany().getCompanyId()).isEqualTo(companyId);
+        }));
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void directoryPageAndDetailAreOneStatementEach() {
+        assertThat(measure(() -> assertThat(employeeDirectoryService.list(companyId, NO_FILTER, null, 20).getItems())
+                .hasSize(EMPLOYEES))).isEqualTo(1);
+        assertThat(measure(() -> employeeDirectoryService.get(companyId, userIds.getLast()))).isEqualTo(1);
+    }
+
+    @Test
+    void searchIsServedFromTheIndexOnceBuilt() {
+        employeeDirectoryService.search(companyId, "count", NO_FILTER, 10);
+        assertThat(measure(() -> assertThat(employeeDirectoryService.search(companyId, "count", NO_FILTER, 10))
+                .hasSize(EMPLOYEES))).isZero();
+    }
+
+    @Test
+    void headcountIsOneStatementColdAndNoneWarm() {
+        assertThat(measure(() -> employeeStatsService.getHeadcount(companyId))).isEqualTo(1);
+        assertThat(measure(() -> employeeStatsService.getHeadcount(companyId))).isZero();
+    }
+
+    @Test
+    void leaveBalanceReadIsOneStatementOnceAccrued() {
+        leaveService.getBalances(companyId, userIds.getFirst());
+        assertThat(measure(() -> assertThat(leaveService.getBalances(companyId, userIds.getFirst())).hasSize(2)))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void attendanceCalendarsAreOneStatementColdAndNoneWarm() {
+        YearMonth month = YearMonth.now();
+        assertThat(measure(() -> attendanceCalendarService.getEmployeeMonth(
+                companyId, userIds.getFirst(), month.getYear(), month.getMonthValue()))).isEqualTo(1);
+        assertThat(measure(() -> attendanceCalendarService.getEmployeeMonth(
+                companyId, userIds.getFirst(), month.getYear(), month.getMonthValue()))).isZero();
+        assertThat(measure(() -> attendanceCalendarService.getDepartmentMonth(
+                companyId, "Engineering", month.getYear(), month.getMonthValue()))).isEqualTo(1);
+    }
+
+    @Test
+    void signupIsNineStatementsOnceItsCodePrefixHasACounter() {
+        // six one-letter words make a six letter prefix; a seventh word is cut off, so both names share a counter
+        String name = String.join(" ", letters(6).split(""));
+        signup(name);
+
+        // name check, code counter select and update, then company, sequence row, admin, headcount,
+        // the superseded OTP email and the new one
+        assertThat(measure(() -> signup(name + " Two"))).isEqualTo(9);
+    }
+
+    @Test
+    void loginIsTheUserLookupAndTheOtpEmail() {
+        String password = "Secret#123";
+        CompanySignupResponse admin = signup("Login Count " + letters(8));
+        LoginRequest request = new LoginRequest();
+        request.setCompanyId(UUID.fromString(admin.getCompanyId()));
+        request.setEmployeeId(admin.getAdminEmployeeId());
+        request.setPassword(password);
+
+        // last login is buffered and the hash is current, so neither writes during the call
+        assertThat(measure(() -> authService.login(request))).isEqualTo(3);
+    }
+
+    @Test
+    void otpVerificationLoadsTheUserTwiceAndUpdatesIt() {
+        String email = userRepository.findById(userIds.getFirst()).orElseThrow().getEmail();
+        otpStore.put(email, "123456", LocalDateTime.now().plusMinutes(5));
+
+        // the code is checked in memory; the user is read, read again by the merge, and updated
+        assertThat(measure(() -> authService.verifyOtp(new OtpRequest(email, "123456")))).isEqualTo(3);
+    }
+
+    @Test
+    void approvalAndCancellationTouchEachTableOnce() {
+        UUID userId = userIds.getFirst();
+        leaveService.getBalances(companyId, userId);
+        LocalDate day = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.next(DayOfWeek.WEDNESDAY));
+        UUID requestId = leaveRequestRepository.save(LeaveRequest.builder()
+                .userId(userId)
+                .companyId(companyId)
+                .leaveType(LeaveType.PAID)
+                .startDate(day)
+                .endDate(day)
+                .days(BigDecimal.ONE)
+                .status(LeaveRequestStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build()).getRequestId();
+
+        // request, balances, ledger insert, calendar keys, placement and insert of the new month row,
+        // leave bits, balance update, request update
+        assertThat(measure(() -> leaveService.approve(companyId, UUID.randomUUID(), requestId))).isEqualTo(9);
+        // the same without the placement lookup and month row insert
+        assertThat(measure(() -> leaveService.cancel(companyId, userId, requestId))).isEqualTo(7);
+    }
+
+    @Test
+    void importChunkIsAFixedNumberOfStatementsWhateverItsSize() {
+        String domain = TenantFixture.randomCode().toLowerCase(Locale.ROOT) + ".count.test";
+        StringBuilder csv = new StringBuilder("firstName,lastName,email,department,password");
+        for (int i = 0; i < 20; i++) {
+            csv.append("\nRow,").append(i).append(",row").append(i).append('@').append(domain).append(",Engineering,Secret#123");
+        }
+        // the company comes from the second-level cache
+        companyRepository.findById(companyId);
+
+        // existing emails, one employee ID block (select, insert, update), three row batches, headcount
+        long statements = measure(() -> {
+            ImportJobResponse job = importAndWait(new MockMultipartFile("file", "people.csv", "text/csv",
+                    csv.toString().getBytes(StandardCharsets.UTF_8)));
+            assertThat(job.getImportedRows()).isEqualTo(20);
+        });
+        assertThat(statements).isEqualTo(8);
+    }
+
+    private static String letters(int length) {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            letters.append((char) ('A' + ThreadLocalRandom.current().nextInt(26)));
+        }
+        return letters.toString();
+    }
+
+    private CompanySignupResponse signup(String companyName) {
+        ApiResponse response = companySignupService.signupCompanyWithAdmin(CompanySignupRequest.builder()
+                .companyName(companyName)
+                .adminName("Count Admin")
+                .adminEmail("admin-" + UUID.randomUUID() + "@count.test")
+                .adminPassword("Secret#123")
+                .build());
+        return (CompanySignupResponse) response.getData();
+    }
+
+    private ImportJobResponse importAndWait(MockMultipartFile file) {
+        UUID jobId = UUID.fromString(employeeImportService.startImport(companyId, file).getJobId());
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJobResponse job = employeeImportService.getJob(companyId, jobId);
+            if ("COMPLETED".equals(job.getStatus()) || "FAILED".equals(job.getStatus())) {
+                return job;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("Interrupted while waiting for import " + jobId);
+            }
+        }
+        throw new AssertionError("Import " + jobId + " did not finish");
+    }
+
+    // Statements prepared during the call on any thread; association fetches must stay at zero throughout
+    private long measure(Runnable call) {
+        statistics.clear();
+        STATEMENTS.set(0);
+        call.run();
+        assertThat(statistics.getEntityFetchCount()).as("lazy associations fetched").isZero();
+        return STATEMENTS.get();
+    }
+}
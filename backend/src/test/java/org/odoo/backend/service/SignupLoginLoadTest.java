@@ -0,0 +1,325 @@
+package org.odoo.backend.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Closed-loop load over real HTTP: each worker takes the next user through
+ * signup -> OTP mail -> verify -> login -> authenticated reads, against the full application on an
+ * embedded database with GreenMail standing in for SMTP. Per-step throughput and p50/p95/p99 go to
+ * load-<timestamp>.json and .csv under load.output-dir, and any failed step fails the run.
+ * Run with ./gradlew loadTest -Pload.users=2000 -Pload.concurrency=32
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // every simulated user comes from 127.0.0.1; the per-IP bucket would throttle the harness, not the app
+        "security.rate-limit.ip.capacity=10000",
+        "security.rate-limit.ip.refill-per-second=10000",
+        // login cost as in production unless overridden
+        "security.password.bcrypt-strength=${load.bcrypt-strength:10}"
+})
+@ActiveProfiles("test")
+class SignupLoginLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SignupLoginLoadTest.class);
+
+    private static final int USERS = Integer.getInteger("load.users", 200);
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 16);
+    private static final int READS_PER_USER = Integer.getInteger("load.reads-per-user", 5);
+    private static final Path OUTPUT_DIR = Path.of(System.getProperty("load.output-dir", "build/load-results"));
+    private static final Duration OTP_WAIT = Duration.ofSeconds(30);
+    private static final String PASSWORD = "Secret#123";
+
+    private static final Pattern OTP_PATTERN = Pattern.compile("(\\d{6})");
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Value("${local.server.port}")
+    private int port;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<Step, Recorder> recorders = new EnumMap<>(Step.class);
+
+    enum Step {
+        SIGNUP("POST /api/public/company/signup"),
+        OTP_DELIVERY("signup -> OTP mail received"),
+        VERIFY_OTP("POST /api/public/company/verify-otp"),
+        LOGIN("POST /api/public/auth/login"),
+        GET_EMPLOYEE("GET /api/employees/{id}");
+
+        private final String label;
+
+        Step(String label) {
+            this.label = label;
+        }
+    }
+
+    @Test
+    void signupOtpLoginAndReadUnderLoad() throws Exception {
+        for (Step step : Step.values()) {
+            recorders.put(step, new Recorder());
+        }
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        AtomicInteger nextUser = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long startedAt = System.nanoTime();
+        for (int w = 0; w < CONCURRENCY; w++) {
+            workers.submit(() -> {
+                for (int user = nextUser.getAndIncrement(); user < USERS; user = nextUser.getAndIncrement()) {
+                    if (runFlow(runId, user)) {
+                        completed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        assertThat(workers.awaitTermination(1, TimeUnit.HOURS)).isTrue();
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        List<Path> written = writeResults(runId, seconds, completed.get());
+        log.info("{}results: {}", summary(seconds, completed.get()), written);
+
+        long errors = recorders.values().stream().mapToLong(recorder -> recorder.stats(seconds).errors()).sum();
+        assertThat(errors).as("failed steps, see %s", written).isZero();
+        assertThat(completed.get()).as("users that finished the whole flow").isEqualTo(USERS);
+    }
+
+    // One user end to end; stops at the first failed step, which is counted as that step's error
+    private boolean runFlow(String runId, int user) {
+        String email = "load-" + runId + "-" + user + "@load.test";
+        try {
+            long signupAt = System.nanoTime();
+            Map<String, String> signup = timed(Step.SIGNUP, 201, post("/api/public/company/signup", """
+                    {"companyName":"Load %s %d","adminName":"Load User","adminEmail":"%s","adminPassword":"%s"}
+                    """.formatted(runId, user, email, PASSWORD)), "companyId", "adminUserId", "adminEmployeeId");
+            if (signup == null) {
+                return false;
+            }
+
+            String otp;
+            try {
+                otp = awaitOtp(email);
+            } catch (RuntimeException e) {
+                otp = null;
+            }
+            if (otp == null) {
+                recorders.get(Step.OTP_DELIVERY).error();
+                return false;
+            }
+            recorders.get(Step.OTP_DELIVERY).record(System.nanoTime() - signupAt);
+
+            if (timed(Step.VERIFY_OTP, 200, post("/api/public/company/verify-otp", """
+                    {"email":"%s","otpCode":"%s"}
+                    """.formatted(email, otp))) == null) {
+                return false;
+            }
+
+            Map<String, String> login = timed(Step.LOGIN, 200, post("/api/public/auth/login", """
+                    {"companyId":"%s","employeeId":"%s","password":"%s"}
+                    """.formatted(signup.get("companyId"), signup.get("adminEmployeeId"), PASSWORD)), "accessToken");
+            if (login == null) {
+                return false;
+            }
+            String userId = signup.get("adminUserId");
+            String token = login.get("accessToken");
+
+            for (int i = 0; i < READS_PER_USER; i++) {
+                if (timed(Step.GET_EMPLOYEE, 200, HttpRequest.newBuilder(uri("/api/employees/" + userId))
+                        .header("Authorization", "Bearer " + token)
+                        .GET()
+                        .build()) == null) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // The named string fields of the response body, or null once the step has been counted as an error
+    private Map<String, String> timed(Step step, int expectedStatus, HttpRequest request, String... fields)
+            throws InterruptedException {
+        Recorder recorder = recorders.get(step);
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - startedAt;
+            if (response.statusCode() != expectedStatus) {
+                recorder.error();
+                return null;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (String name : fields) {
+                values.put(name, field(response.body(), name));
+            }
+            recorder.record(elapsed);
+            return values;
+        } catch (IOException | RuntimeException e) {
+            // a body without the expected fields fails the step just like a bad status
+            recorder.error();
+            return null;
+        }
+    }
+
+    // The signup OTP is the first mail to this address; login sends another one later
+    private String awaitOtp(String email) throws InterruptedException {
+        long deadline = System.nanoTime() + OTP_WAIT.toNanos();
+        while (System.nanoTime() < deadline) {
+            MimeMessage[] messages = greenMail.getReceivedMessagesForDomain(email);
+            if (messages.length > 0) {
+                Matcher matcher = OTP_PATTERN.matcher(GreenMailUtil.getBody(messages[0]));
+                return matcher.find() ? matcher.group(1) : null;
+            }
+            Thread.sleep(20);
+        }
+        return null;
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json.strip()))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String field(String json, String name) {
+        Matcher matcher = Pattern.compile("\"" + name + "\"\\s*:\\s*\"([^\"]*)\"").matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No " + name + " in " + json);
+        }
+        return matcher.group(1);
+    }
+
+    private List<Path> writeResults(String runId, double seconds, int completed) throws IOException {
+        Files.createDirectories(OUTPUT_DIR);
+        String stamp = Instant.now().toString().replace(":", "-");
+        Path json = OUTPUT_DIR.resolve("load-" + stamp + ".json");
+        Path csv = OUTPUT_DIR.resolve("load-" + stamp + ".csv");
+
+        List<String> rows = new ArrayList<>();
+        rows.add("step,endpoint,requests,errors,throughput_per_s,p50_ms,p95_ms,p99_ms,max_ms");
+        List<String> steps = new ArrayList<>();
+        for (Step step : Step.values()) {
+            Stats s = recorders.get(step).stats(seconds);
+            rows.add(String.format(Locale.ROOT, "%s,\"%s\",%d,%d,%.2f,%.2f,%.2f,%.2f,%.2f",
+                    step.name().toLowerCase(Locale.ROOT), step.label, s.requests(), s.errors(), s.throughput(),
+                    s.p50(), s.p95(), s.p99(), s.max()));
+            steps.add(String.format(Locale.ROOT,
+                    "    {\"step\": \"%s\", \"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, \"throughputPerSecond\": %.2f, "
+                            + "\"p50Ms\": %.2f, \"p95Ms\": %.2f, \"p99Ms\": %.2f, \"maxMs\": %.2f}",
+                    step.name().toLowerCase(Locale.ROOT), step.label, s.requests(), s.errors(), s.throughput(),
+                    s.p50(), s.p95(), s.p99(), s.max()));
+        }
+        Files.write(csv, rows);
+        Files.writeString(json, String.format(Locale.ROOT, """
+                        {
+                          "runId": "%s",
+                          "startedAt": "%s",
+                          "users": %d,
+                          "concurrency": %d,
+                          "readsPerUser": %d,
+                          "completedUsers": %d,
+                          "durationSeconds": %.3f,
+                          "cores": %d,
+                          "steps": [
+                        %s
+                          ]
+                        }
+                        """,
+                runId, Instant.now().minusMillis((long) (seconds * 1000)), USERS, CONCURRENCY, READS_PER_USER, completed,
+                seconds, Runtime.getRuntime().availableProcessors(), String.join(",\n", steps)));
+        return List.of(json, csv);
+    }
+
+    private String summary(double seconds, int completed) {
+        return String.format(Locale.ROOT, "load run: %d users, %d workers, %d completed in %.1f s%n", USERS, CONCURRENCY, completed, seconds)
+                + Arrays.stream(Step.values())
+                .map(step -> {
+                    Stats s = recorders.get(step).stats(seconds);
+                    return String.format(Locale.ROOT, "  %-38s %6d ok %4d err %8.1f/s  p50 %7.1f  p95 %7.1f  p99 %7.1f ms%n",
+                            step.label, s.requests(), s.errors(), s.throughput(), s.p50(), s.p95(), s.p99());
+                })
+                .collect(Collectors.joining());
+    }
+
+    private static final class Recorder {
+
+        private final ConcurrentLinkedQueue<Long> nanos = new ConcurrentLinkedQueue<>();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long elapsedNanos) {
+            nanos.add(elapsedNanos);
+        }
+
+        void error() {
+            errors.increment();
+        }
+
+        Stats stats(double seconds) {
+            long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+            return new Stats(sorted.length, errors.sum(), sorted.length / seconds,
+                    percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        // nearest-rank percentile in milliseconds
+        private static double percentile(long[] sorted, int p) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+
+    private record Stats(long requests, long errors, double throughput, double p50, double p95, double p99, double max) {
+    }
+}
@@ -0,0 +1,89 @@
+package org.odoo.backend.service;
+
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.EmployeeJdbcRepository;
+import org.odoo.backend.repositories.EmployeeJdbcRepository.NewEmployee;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/*
+ * Seeds companies and employees for tests that need volume or exact login IDs. Employees go in through
+ * the import's JDBC batch path, so seeding thousands of rows stays fast and skips the entity listeners.
+ * Seeded users cannot log in: their password hash is a placeholder.
+ */
+@Component
+public class TenantFixture {
+
+    public static final LocalDate JOINED = LocalDate.of(2020, 1, 1);
+
+    private final CompanyRepository companyRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TenantFixture(CompanyRepository companyRepository, EmployeeJdbcRepository employeeJdbcRepository,
+                         TransactionTemplate transactionTemplate) {
+        this.companyRepository = companyRepository;
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 8 characters, unique per call, usable as company code and login ID prefix
+    public static String randomCode() {
+        return UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+    }
+
+    public UUID company(String code) {
+        return companyRepository.save(Company.builder()
+                .companyName("Tenant " + code)
+                .companyCode(code)
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .build()).getCompanyId();
+    }
+
+    public static NewEmployee employee(UUID companyId, String employeeId, String department, LocalDate dateOfJoining) {
+        return employee(companyId, employeeId, "Test", employeeId, department, dateOfJoining);
+    }
+
+    public static NewEmployee employee(UUID companyId, String employeeId, String firstName, String lastName,
+                                       String department, LocalDate dateOfJoining) {
+        return new NewEmployee(UUID.randomUUID(), companyId, employeeId, employeeId.toLowerCase(Locale.ROOT) + "@fixture.test",
+                "not-a-login", UserRole.ROLE_EMPLOYEE, false, firstName, lastName, null, null, null, null, null,
+                department, "Engineer", dateOfJoining);
+    }
+
+    // login IDs CODE-from .. CODE-(to - 1)
+    public static List<NewEmployee> employees(UUID companyId, String code, int from, int to,
+                                              IntFunction<String> department, LocalDate dateOfJoining) {
+        List<NewEmployee> employees = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            employees.add(employee(companyId, code + "-" + i, department.apply(i), dateOfJoining));
+        }
+        return employees;
+    }
+
+    public List<NewEmployee> insert(List<NewEmployee> employees) {
+        return insert(employees, rows -> {
+        });
+    }
+
+    // sameTransaction seeds rows that belong to the employees, e.g. salaries or attendance
+    public List<NewEmployee> insert(List<NewEmployee> employees, Consumer<List<NewEmployee>> sameTransaction) {
+        transactionTemplate.executeWithoutResult(status -> {
+            employeeJdbcRepository.insertAll(employees);
+            sameTransaction.accept(employees);
+        });
+        return employees;
+    }
+}
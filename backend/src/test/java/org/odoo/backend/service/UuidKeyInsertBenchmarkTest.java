@@ -0,0 +1,137 @@
+package org.odoo.backend.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.id.UuidV7;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Insert throughput into a BINARY(16) clustered key: random v4 ids against time-ordered v7 ids.
+// Point the datasource at MySQL to see the page-split effect; run with ./gradlew benchmark
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UuidKeyInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(UuidKeyInsertBenchmarkTest.class);
+
+    private static final int ROWS = Integer.getInteger("bench.uuid.rows", 500_000);
+    private static final int BATCH = 1_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_uuid_v4");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_uuid_v7");
+    }
+
+    @Test
+    void comparesRandomAndTimeOrderedKeys() {
+        Result random = insert("bench_uuid_v4", UUID::randomUUID);
+        Result ordered = insert("bench_uuid_v7", UuidV7::next);
+
+        assertThat(count("bench_uuid_v4")).isEqualTo(ROWS);
+        assertThat(count("bench_uuid_v7")).isEqualTo(ROWS);
+        // every v7 key sorted after the one before it, as the stored bytes compare
+        assertThat(ordered.outOfOrderKeys()).isZero();
+
+        log.info(String.format(Locale.ROOT, """
+                        uuid key inserts: %d rows, batches of %d
+                          v4 random : %,.0f ms (%,.0f rows/s, last quarter %,.0f rows/s)
+                          v7 ordered: %,.0f ms (%,.0f rows/s, last quarter %,.0f rows/s)
+                        """,
+                ROWS, BATCH,
+                random.totalMillis(), random.rowsPerSecond(), random.lastQuarterRowsPerSecond(),
+                ordered.totalMillis(), ordered.rowsPerSecond(), ordered.lastQuarterRowsPerSecond()));
+    }
+
+    @Test
+    void timeOrderedIdsAreVersion7AndIncreasing() {
+        UUID previous = UuidV7.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = UuidV7.next();
+            assertThat(next.version()).isEqualTo(7);
+            assertThat(next.variant()).isEqualTo(2);
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits())).isPositive();
+            previous = next;
+        }
+    }
+
+    private Result insert(String table, Supplier<UUID> ids) {
+        jdbcTemplate.execute("CREATE TABLE " + table
+                + " (id BINARY(16) NOT NULL PRIMARY KEY, payload VARCHAR(100) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        String sql = "INSERT INTO " + table + " (id, payload, created_at) VALUES (?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        long startedAt = System.nanoTime();
+        long lastQuarterStartedAt = startedAt;
+        int lastQuarterFrom = -1;
+        int outOfOrder = 0;
+        byte[] previous = null;
+        for (int from = 0; from < ROWS; from += BATCH) {
+            if (lastQuarterFrom < 0 && from >= ROWS * 3 / 4) {
+                lastQuarterFrom = from;
+                lastQuarterStartedAt = System.nanoTime();
+            }
+            List<byte[]> keys = new ArrayList<>(BATCH);
+            for (int i = from; i < Math.min(ROWS, from + BATCH); i++) {
+                byte[] key = UuidBinary.toBytes(ids.get());
+                if (previous != null && Arrays.compareUnsigned(previous, key) >= 0) {
+                    outOfOrder++;
+                }
+                keys.add(key);
+                previous = key;
+            }
+            // one commit per batch, like the import and payroll writers
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, keys, keys.size(), (ps, key) -> {
+                ps.setBytes(1, key);
+                ps.setString(2, "employee-row-payload");
+                ps.setTimestamp(3, now);
+            }));
+        }
+        long finishedAt = System.nanoTime();
+        return new Result(finishedAt - startedAt, finishedAt - lastQuarterStartedAt, ROWS - lastQuarterFrom, outOfOrder);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private record Result(long totalNanos, long lastQuarterNanos, int lastQuarterRows, int outOfOrderKeys) {
+
+        double totalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        double rowsPerSecond() {
+            return ROWS / (totalNanos / 1_000_000_000.0);
+        }
+
+        double lastQuarterRowsPerSecond() {
+            return lastQuarterRows / (lastQuarterNanos / 1_000_000_000.0);
+        }
+    }
+}
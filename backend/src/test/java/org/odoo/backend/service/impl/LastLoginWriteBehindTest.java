@@ -0,0 +1,103 @@
+package org.odoo.backend.service.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each test builds its own buffer so logins made by other tests never land in it
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class LastLoginWriteBehindTest {
+
+    private static final LocalDateTime MORNING = LocalDateTime.of(2026, 3, 2, 9, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void repeatedLoginsCoalesceIntoOneUpdatePerUser() {
+        LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(jdbcTemplate, meterRegistry, 1000, 500);
+        List<UUID> users = users(2);
+
+        for (int minute = 0; minute < 50; minute++) {
+            writeBehind.recordLogin(users.get(0), MORNING.plusMinutes(minute));
+            writeBehind.recordLogin(users.get(1), MORNING.plusMinutes(50 - minute));
+        }
+        assertThat(meterRegistry.get("user.activity.write.behind.pending").gauge().value()).isEqualTo(2);
+
+        writeBehind.flush();
+
+        assertThat(meterRegistry.get("user.activity.write.behind.written").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.activity.write.behind.pending").gauge().value()).isZero();
+        assertThat(lastLogin(users.get(0))).isEqualTo(MORNING.plusMinutes(49));
+        assertThat(lastLogin(users.get(1))).isEqualTo(MORNING.plusMinutes(50));
+
+        // a late, older timestamp never moves last_login backwards
+        writeBehind.recordLogin(users.get(0), MORNING);
+        writeBehind.flush();
+        assertThat(lastLogin(users.get(0))).isEqualTo(MORNING.plusMinutes(49));
+    }
+
+    @Test
+    void pendingLoginsAreWrittenOnShutdown() {
+        LastLoginWriteBehind writeBehind = new LastLoginWriteBehind(jdbcTemplate, meterRegistry, 1000, 500);
+        UUID userId = users(1).getFirst();
+
+        writeBehind.recordLogin(userId, MORNING);
+        assertThat(lastLogin(userId)).isNull();
+
+        ReflectionTestUtils.invokeMethod(writeBehind, "shutdown");
+
+        assertThat(lastLogin(userId)).isEqualTo(MORNING);
+    }
+
+    private List<UUID> users(int count) {
+        String code = "W" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        Company company = companyRepository.save(Company.builder()
+                .companyName("Write Behind " + code)
+                .companyCode(code)
+                .active(true)
+                .build());
+        return IntStream.range(0, count)
+                .mapToObj(i -> userRepository.save(User.builder()
+                        .company(company)
+                        .employeeId(code + "-" + i)
+                        .email(code.toLowerCase() + i + "@example.test")
+                        .passwordHash("not-a-login")
+                        .role(UserRole.ROLE_EMPLOYEE)
+                        .active(true)
+                        .build()).getUserId())
+                .toList();
+    }
+
+    private LocalDateTime lastLogin(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT last_login FROM users WHERE user_id = ?",
+                LocalDateTime.class, UuidBinary.toBytes(userId));
+    }
+}
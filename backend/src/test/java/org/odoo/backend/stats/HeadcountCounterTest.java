@@ -0,0 +1,153 @@
+package org.odoo.backend.stats;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.odoo.backend.common.jdbc.UuidBinary;
+import org.odoo.backend.model.Company;
+import org.odoo.backend.model.EmployeeStatus;
+import org.odoo.backend.model.HeadcountDimension;
+import org.odoo.backend.model.JobDetails;
+import org.odoo.backend.model.User;
+import org.odoo.backend.model.UserRole;
+import org.odoo.backend.repositories.CompanyRepository;
+import org.odoo.backend.repositories.UserRepository;
+import org.odoo.backend.service.TenantFixture;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "scheduling.enabled=false")
+@ActiveProfiles("test")
+class HeadcountCounterTest {
+
+    @Autowired
+    private TenantFixture tenantFixture;
+
+    @Autowired
+    private CompanyRepository companyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private HeadcountReconciler headcountReconciler;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void countersMoveWhenTheHireCommits() {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+
+        transactionTemplate.executeWithoutResult(status -> hire(companyId, "Operations"));
+
+        assertThat(counter(companyId, HeadcountDimension.ROLE, UserRole.ROLE_EMPLOYEE.name())).isEqualTo(1);
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Operations")).isEqualTo(1);
+        assertThat(counter(companyId, HeadcountDimension.STATUS, EmployeeStatus.ACTIVE.name())).isEqualTo(1);
+    }
+
+    @Test
+    void countersStayPutWhenTheHireRollsBack() {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            hire(companyId, "Operations");
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        assertThat(counter(companyId, HeadcountDimension.ROLE, UserRole.ROLE_EMPLOYEE.name())).isZero();
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Operations")).isZero();
+        assertThat(counter(companyId, HeadcountDimension.STATUS, EmployeeStatus.ACTIVE.name())).isZero();
+    }
+
+    @Test
+    void transferMovesCountersWithoutLoadingTheUser() {
+        UUID companyId = tenantFixture.company(TenantFixture.randomCode());
+        UUID jobDetailId = transactionTemplate.execute(status -> hire(companyId, "Operations").getJobDetailId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            JobDetails job = entityManager.find(JobDetails.class, jobDetailId);
+            job.setDepartment("Sales");
+            job.setEmployeeStatus(EmployeeStatus.ON_LEAVE);
+            entityManager.flush();
+            // the listener took the company from the row, not from the lazy user
+            assertThat(Hibernate.isInitialized(job.getUser())).isFalse();
+        });
+
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Operations")).isZero();
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Sales")).isEqualTo(1);
+        assertThat(counter(companyId, HeadcountDimension.STATUS, EmployeeStatus.ACTIVE.name())).isZero();
+        assertThat(counter(companyId, HeadcountDimension.STATUS, EmployeeStatus.ON_LEAVE.name())).isEqualTo(1);
+    }
+
+    @Test
+    void reconciliationRepairsCountersThatDrifted() {
+        String code = TenantFixture.randomCode();
+        UUID companyId = tenantFixture.company(code);
+        // JDBC rows never touch the counters
+        tenantFixture.insert(TenantFixture.employees(companyId, code, 0, 4, i -> "Support", TenantFixture.JOINED));
+        transactionTemplate.executeWithoutResult(status -> hire(companyId, "Operations"));
+        jdbcTemplate.update("UPDATE headcount_counters SET headcount = 42 WHERE company_id = ? AND bucket = 'Operations'",
+                UuidBinary.toBytes(companyId));
+
+        assertThat(headcountReconciler.reconcile(companyId)).isPositive();
+
+        assertThat(counter(companyId, HeadcountDimension.ROLE, UserRole.ROLE_EMPLOYEE.name())).isEqualTo(5);
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Support")).isEqualTo(4);
+        assertThat(counter(companyId, HeadcountDimension.DEPARTMENT, "Operations")).isEqualTo(1);
+        assertThat(counter(companyId, HeadcountDimension.STATUS, EmployeeStatus.ACTIVE.name())).isEqualTo(5);
+
+        // nothing left to repair
+        assertThat(headcountReconciler.reconcile(companyId)).isZero();
+    }
+
+    private JobDetails hire(UUID companyId, String department) {
+        Company company = companyRepository.getReferenceById(companyId);
+        String employeeId = "HC-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase(Locale.ROOT);
+        User user = userRepository.save(User.builder()
+                .company(company)
+                .employeeId(employeeId)
+                .email(employeeId.toLowerCase(Locale.ROOT) + "@headcount.test")
+                .passwordHash("not-a-login")
+                .role(UserRole.ROLE_EMPLOYEE)
+                .active(true)
+                .emailVerified(true)
+                .createdAt(LocalDateTime.now())
+                .build());
+        JobDetails job = JobDetails.builder()
+                .user(user)
+                .company(company)
+                .department(department)
+                .designation("Engineer")
+                .dateOfJoining(LocalDate.now())
+                .employeeStatus(EmployeeStatus.ACTIVE)
+                .build();
+        entityManager.persist(job);
+        return job;
+    }
+
+    private long counter(UUID companyId, HeadcountDimension dimension, String bucket) {
+        List<Long> values = jdbcTemplate.queryForList(
+                "SELECT headcount FROM headcount_counters WHERE company_id = ? AND dimension = ? AND bucket = ?",
+                Long.class, UuidBinary.toBytes(companyId), dimension.name(), bucket);
+        return values.isEmpty() ? 0 : values.getFirst();
+    }
+}
@@ -0,0 +1,85 @@
+-- A database as hibernate.ddl-auto=update built it from the entities of the baseline commit, before the
+-- move to Flyway: only the six tables of that time. employee_profiles.profile_id is the text of a String
+-- id, job_details.job_detail_id has the length of a text UUID, and employee_sequence has the year-only
+-- unique key. Constraint names are Hibernate's generated ones. LegacySchemaMigrationTest migrates it from here.
+
+CREATE TABLE companies (
+    company_id   BINARY(16)   NOT NULL,
+    company_name VARCHAR(255) NOT NULL,
+    company_code VARCHAR(10)  NOT NULL,
+    logo_url     VARCHAR(255),
+    is_active    BIT,
+    created_at   DATETIME(6),
+    PRIMARY KEY (company_id),
+    CONSTRAINT UK95fa2e1ba97b80fa1353a47ae UNIQUE (company_code)
+) ENGINE = InnoDB;
+
+CREATE TABLE users (
+    user_id           BINARY(16)   NOT NULL,
+    company_id        BINARY(16)   NOT NULL,
+    employee_id       VARCHAR(30)  NOT NULL,
+    email             VARCHAR(255) NOT NULL,
+    password_hash     VARCHAR(255) NOT NULL,
+    role              ENUM ('ROLE_ADMIN','ROLE_HR','ROLE_EMPLOYEE') NOT NULL,
+    is_email_verified BIT,
+    is_active         BIT,
+    first_login       BIT,
+    created_at        DATETIME(6),
+    last_login        DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT UK57164c63da95efc19fc25a65f UNIQUE (email),
+    CONSTRAINT UK223e928ab2a9cb339f324022b UNIQUE (employee_id),
+    CONSTRAINT FK8def9bea177cc6a279b5e80a5 FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_profiles (
+    profile_id          VARCHAR(255) NOT NULL,
+    user_id             BINARY(16) NOT NULL,
+    company_id          BINARY(16),
+    first_name          VARCHAR(255),
+    last_name           VARCHAR(255),
+    phone               VARCHAR(255),
+    address             VARCHAR(255),
+    city                VARCHAR(255),
+    state               VARCHAR(255),
+    country             VARCHAR(255),
+    profile_picture_url VARCHAR(255),
+    PRIMARY KEY (profile_id),
+    CONSTRAINT UK91d3dad8c8b7873bd060d7f95 UNIQUE (user_id),
+    CONSTRAINT FK4db56464873ab389f3eaa24b8 FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT FK09e1376fa5c695042ff88a975 FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE job_details (
+    job_detail_id   BINARY(36) NOT NULL,
+    user_id         BINARY(16) NOT NULL,
+    company_id      BINARY(16),
+    department      VARCHAR(255),
+    designation     VARCHAR(255),
+    date_of_joining DATE,
+    employee_status ENUM ('ACTIVE','ON_LEAVE','RESIGNED','TERMINATED'),
+    PRIMARY KEY (job_detail_id),
+    CONSTRAINT UKc6c9deb0565ac0e02d2ec1a36 UNIQUE (user_id),
+    CONSTRAINT FK599e66509457c32bbc4578283 FOREIGN KEY (user_id) REFERENCES users (user_id),
+    CONSTRAINT FK39a2cb790b28ce91583ca1c8b FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE employee_sequence (
+    id            BINARY(16) NOT NULL,
+    company_id    BINARY(16),
+    year          INTEGER    NOT NULL,
+    current_value INTEGER    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT UK3h1x9kqf7s0yv2m8c4d6b5n1a UNIQUE (year),
+    CONSTRAINT FK8092a1be024d7f5c9437892cc FOREIGN KEY (company_id) REFERENCES companies (company_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE otps (
+    id          BINARY(16)   NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    otp_code    VARCHAR(255) NOT NULL,
+    expiry_time DATETIME(6)  NOT NULL,
+    verified    BIT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;